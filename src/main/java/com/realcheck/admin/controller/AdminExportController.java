@@ -0,0 +1,68 @@
+package com.realcheck.admin.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.realcheck.admin.service.AdminExportService;
+import com.realcheck.admin.service.AdminExportService.Dataset;
+import com.realcheck.user.dto.UserDto;
+import com.realcheck.util.ExportWriter;
+
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AdminExportController
+ * - 관리자 목록 파일 내보내기 (CSV / NDJSON)
+ * - 응답 본문을 StreamingResponseBody로 한 행씩 흘려보내므로 목록 크기와 관계없이 바로 다운로드 시작
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private final AdminExportService adminExportService;
+
+    /**
+     * [1] 목록 내보내기 API
+     * - dataset: reports / hidden-logs / reported-users / action-logs
+     * - format: csv(기본) / ndjson
+     * - 관리자만 접근 가능, 잘못된 dataset/format은 400
+     */
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpSession session) {
+        UserDto loginUser = (UserDto) session.getAttribute("loginUser");
+        if (loginUser == null || !"ADMIN".equals(loginUser.getRole())) {
+            return ResponseEntity.status(403).build(); // 권한 없음
+        }
+
+        Dataset target;
+        ExportWriter.Format exportFormat;
+        try {
+            target = Dataset.from(dataset);
+            exportFormat = ExportWriter.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 응답 스레드에서 조회 + 출력 (트랜잭션은 AdminExportService.export 안에서 열리고 닫힘)
+        StreamingResponseBody body = out -> adminExportService.export(target, exportFormat, out);
+        String filename = target.path() + "-" + LocalDate.now() + "." + exportFormat.extension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
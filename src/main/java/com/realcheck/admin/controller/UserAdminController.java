@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.realcheck.admin.service.UserAdminService;
+import com.realcheck.admin.service.UserAdminService.ReportedUserSort;
 import com.realcheck.common.dto.PageResult;
 import com.realcheck.report.dto.ReportDto;
 import com.realcheck.request.dto.RequestDto;
@@ -202,12 +203,28 @@ public class UserAdminController {
     }
 
     /**
-     * [미사용]
-     * [2-3] 신고 누적 사용자 목록 (차단되지 않았지만 신고된 사용자)
+     * [2-3] 신고 누적 사용자 목록 (커서 페이지)
+     * - sort: count(신고 횟수순, 기본) / recent(가입 최신순)
+     * - cursor: 직전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (최대 100)
+     * - 잘못된 sort/cursor는 400
      */
     @GetMapping("/reported")
-    public ResponseEntity<List<UserDto>> getReportedUsers() {
-        return ResponseEntity.ok(userAdminService.getReportedUsers());
+    public ResponseEntity<?> getReportedUsers(
+            @RequestParam(defaultValue = "count") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        UserDto loginUser = (UserDto) session.getAttribute("loginUser");
+        if (loginUser == null || !"ADMIN".equals(loginUser.getRole())) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+
+        try {
+            return ResponseEntity.ok(userAdminService.getReportedUsers(ReportedUserSort.from(sort), cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // ─────────────────────────────────────────────
@@ -0,0 +1,22 @@
+package com.realcheck.admin.dto;
+
+import java.time.LocalDateTime;
+
+import com.realcheck.admin.entity.ActionType;
+import com.realcheck.admin.entity.TargetType;
+
+/**
+ * 관리자 행동 로그 내보내기 행 (CSV/NDJSON)
+ * - AdminActionLogRepository.streamAllForExport의 JPQL 생성자 표현식으로 생성 (연관 엔티티 로딩 없음)
+ * - 필드 순서가 CSV 열 순서
+ */
+public record AdminActionLogExportRow(
+        Long id,
+        Long adminId,
+        String adminNickname,
+        ActionType actionType,
+        TargetType targetType,
+        Long targetId,
+        String description,
+        LocalDateTime createdAt) {
+}
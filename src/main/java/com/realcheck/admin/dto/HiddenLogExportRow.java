@@ -0,0 +1,23 @@
+package com.realcheck.admin.dto;
+
+import java.time.LocalDateTime;
+
+import com.realcheck.status.entity.StatusType;
+
+/**
+ * 숨김 처리된 상태 로그 내보내기 행 (CSV/NDJSON)
+ * - StatusLogRepository.streamHiddenForExport의 JPQL 생성자 표현식으로 생성 (연관 엔티티 로딩 없음)
+ * - 필드 순서가 CSV 열 순서
+ */
+public record HiddenLogExportRow(
+        Long id,
+        StatusType statusType,
+        String content,
+        Long reporterId,
+        String reporterNickname,
+        Long placeId,
+        String placeName,
+        Long requestId,
+        int reportCount,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,18 @@
+package com.realcheck.admin.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 내역 내보내기 행 (CSV/NDJSON)
+ * - ReportRepository.streamAllForExport의 JPQL 생성자 표현식으로 생성 (연관 엔티티 로딩 없음)
+ * - 필드 순서가 CSV 열 순서
+ */
+public record ReportExportRow(
+        Long id,
+        Long reporterId,
+        String reporterNickname,
+        Long statusLogId,
+        Long reportedUserId, // 신고 대상 로그 작성자
+        String reason,
+        LocalDateTime createdAt) {
+}
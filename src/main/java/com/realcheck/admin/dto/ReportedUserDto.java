@@ -0,0 +1,32 @@
+package com.realcheck.admin.dto;
+
+import java.time.LocalDateTime;
+
+import com.realcheck.user.entity.UserRole;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 신고 받은 사용자 목록 DTO
+ * - UserRepository의 JPQL 생성자 표현식으로 바로 생성 (User 엔티티 로딩 없음)
+ * - 관리자 신고 누적 사용자 목록(커서 페이지)에 사용
+ */
+@Data
+@AllArgsConstructor
+public class ReportedUserDto {
+    // 사용자 ID
+    private Long id;
+    // 이메일
+    private String email;
+    // 닉네임
+    private String nickname;
+    // 역할
+    private UserRole role;
+    // 누적 신고 횟수
+    private int reportCount;
+    // 활성 여부 (false면 차단)
+    private boolean active;
+    // 가입 시각
+    private LocalDateTime createdAt;
+}
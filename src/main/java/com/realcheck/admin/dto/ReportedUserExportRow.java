@@ -0,0 +1,21 @@
+package com.realcheck.admin.dto;
+
+import java.time.LocalDateTime;
+
+import com.realcheck.user.entity.UserRole;
+
+/**
+ * 신고 받은 사용자 내보내기 행 (CSV/NDJSON)
+ * - UserRepository.streamReportedForExport의 JPQL 생성자 표현식으로 생성
+ * - 필드 순서가 CSV 열 순서
+ */
+public record ReportedUserExportRow(
+        Long id,
+        String email,
+        String nickname,
+        UserRole role,
+        int reportCount,
+        int points,
+        boolean active,
+        LocalDateTime createdAt) {
+}
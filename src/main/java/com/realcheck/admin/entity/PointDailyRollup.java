@@ -0,0 +1,51 @@
+package com.realcheck.admin.entity;
+
+import java.time.LocalDate;
+
+import com.realcheck.point.entity.PointType;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * PointDailyRollup 엔티티
+ * - 포인트 내역(points) 일자 + 유형별 합계 (관리자 포인트 통계용 사전 집계)
+ * - 포인트 변경 이벤트로 증분 반영하고, PointRollupConsistencyChecker가 원장과 대조해 보정
+ * - 당일분은 조회 시 원장에서 직접 집계하므로 지난 일자 행만 통계에 사용
+ */
+@Entity
+@Table(name = "point_daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_daily_rollup_date_type", columnNames = { "stat_date", "type" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PointDailyRollup {
+
+    // ─────────────────────────────────────────────
+    // [1] 기본 정보
+    // ─────────────────────────────────────────────
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 집계 일자 (earnedAt의 날짜)
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    // 포인트 유형
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointType type;
+
+    // 금액 합계 (지급 +, 차감 -)
+    @Column(nullable = false)
+    private long totalAmount;
+
+    // 내역 건수
+    @Column(nullable = false)
+    private long entryCount;
+}
@@ -0,0 +1,15 @@
+package com.realcheck.admin.entity;
+
+/**
+ * StatsMetric
+ * - 통계 롤업(stats_rollup) 집계 대상 구분
+ * - STATUS_LOG(차원: statusType), REQUEST(차원: category), PLACE, USER(차원 없음)
+ * - BACKFILL_CURSOR: 재계산 작업 진행 위치 기록용 (차원: 대상 metric 또는 작업 이름, 일자: 마지막 완료일)
+ */
+public enum StatsMetric {
+    STATUS_LOG,
+    REQUEST,
+    PLACE,
+    USER,
+    BACKFILL_CURSOR
+}
@@ -0,0 +1,49 @@
+package com.realcheck.admin.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * StatsRollup 엔티티
+ * - 관리자 대시보드 통계용 일자별 사전 집계 (metric + 차원 + 일자별 한 행)
+ * - 월별 통계는 일자별 행을 합산해서 계산 (원본 테이블 전체 GROUP BY 대신 행 수가 작은 롤업만 조회)
+ * - 차원이 없는 metric은 dimension을 빈 문자열로 저장 (NULL이면 유니크 제약이 동작하지 않음)
+ */
+@Entity
+@Table(name = "stats_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stats_rollup_metric_dimension_date", columnNames = { "metric", "dimension", "stat_date" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class StatsRollup {
+
+    // ─────────────────────────────────────────────
+    // [1] 기본 정보
+    // ─────────────────────────────────────────────
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 집계 대상 (STATUS_LOG, REQUEST, PLACE, USER)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private StatsMetric metric;
+
+    // 차원 값 (statusType, category 이름 / 없으면 빈 문자열)
+    @Column(nullable = false, length = 50)
+    private String dimension;
+
+    // 집계 일자 (createdAt의 날짜)
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    // 해당 일자 건수
+    @Column(nullable = false)
+    private long total;
+}
@@ -1,14 +1,22 @@
 package com.realcheck.admin.repository;
 
+import com.realcheck.admin.dto.AdminActionLogExportRow;
 import com.realcheck.admin.entity.AdminActionLog;
 import com.realcheck.admin.entity.ActionType;
 import com.realcheck.admin.entity.TargetType;
+import com.realcheck.util.ExportWriter;
+
+import jakarta.persistence.QueryHint;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 /**
  * AdminActionLogRepository
@@ -84,4 +92,19 @@ public interface AdminActionLogRepository extends JpaRepository<AdminActionLog,
      */
     Page<AdminActionLog> findByAdminIdAndTargetTypeAndActionTypeIn(Long adminId, TargetType targetType,
             List<ActionType> actionTypes, Pageable pageable);
+
+    /**
+     * [9] 전체 관리자 행동 로그 스트리밍 조회 (내보내기용)
+     * AdminExportService: export
+     * - 평면 프로젝션 + 한 행씩 받아오므로 건수와 관계없이 메모리 사용량 일정
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.STREAM_FETCH_SIZE))
+    @Query("""
+                SELECT new com.realcheck.admin.dto.AdminActionLogExportRow(
+                         a.id, a.adminId, ad.nickname, a.actionType, a.targetType, a.targetId, a.description, a.createdAt)
+                FROM AdminActionLog a
+                LEFT JOIN a.admin ad
+                ORDER BY a.id
+            """)
+    Stream<AdminActionLogExportRow> streamAllForExport();
 }
@@ -0,0 +1,81 @@
+package com.realcheck.admin.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.realcheck.admin.entity.PointDailyRollup;
+
+/**
+ * PointDailyRollupRepository
+ * - 포인트 일별 롤업(point_daily_rollup) 증감 / 보정 / 통계 조회
+ */
+public interface PointDailyRollupRepository extends JpaRepository<PointDailyRollup, Long> {
+
+    // ─────────────────────────────────────────────
+    // [1] 롤업 갱신
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 일자 + 유형별 합계 / 건수 증감 (행이 없으면 생성)
+     * PointDailyRollupService: flush, verify
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO point_daily_rollup (stat_date, type, total_amount, entry_count)
+            VALUES (:statDate, :type, :amount, :count)
+            ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount),
+                                    entry_count = entry_count + VALUES(entry_count)
+            """, nativeQuery = true)
+    int addTotals(@Param("statDate") LocalDate statDate, @Param("type") String type,
+            @Param("amount") long amount, @Param("count") long count);
+
+    /**
+     * [1-2] 기간 내 롤업 행 삭제 (보정 전)
+     * PointDailyRollupService: verify
+     */
+    @Modifying
+    @Query("DELETE FROM PointDailyRollup r WHERE r.statDate >= :from AND r.statDate < :to")
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * [1-3] 기간 내 롤업 행 조회 (원장 대조용)
+     * PointDailyRollupService: verify
+     */
+    List<PointDailyRollup> findByStatDateGreaterThanEqualAndStatDateLessThan(LocalDate from, LocalDate to);
+
+    // ─────────────────────────────────────────────
+    // [2] 통계 조회 (지난 일자)
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 기준일 이전 일별 합계 (일자 오름차순)
+     * PointDailyRollupService: getDailyAggregates
+     * - 결과: [일자, 금액 합계]
+     */
+    @Query("""
+            SELECT r.statDate, SUM(r.totalAmount)
+            FROM PointDailyRollup r
+            WHERE r.statDate < :before
+            GROUP BY r.statDate
+            ORDER BY r.statDate ASC
+            """)
+    List<Object[]> sumDailyBefore(@Param("before") LocalDate before);
+
+    /**
+     * [2-2] 기준일 이전 유형별 합계
+     * PointDailyRollupService: sumNetIssuedPoints
+     * - 결과: [type, 금액 합계] (유형 수만큼의 행)
+     */
+    @Query("""
+            SELECT r.type, SUM(r.totalAmount)
+            FROM PointDailyRollup r
+            WHERE r.statDate < :before
+            GROUP BY r.type
+            """)
+    List<Object[]> sumByTypeBefore(@Param("before") LocalDate before);
+}
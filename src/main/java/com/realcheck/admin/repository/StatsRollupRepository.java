@@ -0,0 +1,106 @@
+package com.realcheck.admin.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.realcheck.admin.dto.MonthlyStatDto;
+import com.realcheck.admin.dto.MonthlyUserStatDto;
+import com.realcheck.admin.entity.StatsMetric;
+import com.realcheck.admin.entity.StatsRollup;
+
+/**
+ * StatsRollupRepository
+ * - 통계 롤업(stats_rollup) 증감 / 재계산 / 월별·차원별 조회
+ */
+public interface StatsRollupRepository extends JpaRepository<StatsRollup, Long> {
+
+    // ─────────────────────────────────────────────
+    // [1] 롤업 갱신
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 일자별 건수 증감 (행이 없으면 생성)
+     * StatsRollupService: flush
+     * - 이벤트로 모은 증감분을 UPDATE 한 번으로 반영 (읽고-수정-저장 없음)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO stats_rollup (metric, dimension, stat_date, total)
+            VALUES (:metric, :dimension, :statDate, :delta)
+            ON DUPLICATE KEY UPDATE total = total + VALUES(total)
+            """, nativeQuery = true)
+    int addTotal(@Param("metric") String metric, @Param("dimension") String dimension,
+            @Param("statDate") LocalDate statDate, @Param("delta") long delta);
+
+    /**
+     * [1-2] 기간 내 롤업 행 삭제 (재계산 전)
+     * StatsRollupService: recompute
+     */
+    @Modifying
+    @Query("DELETE FROM StatsRollup r WHERE r.metric = :metric AND r.statDate >= :from AND r.statDate < :to")
+    int deleteRange(@Param("metric") StatsMetric metric, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * [1-3] 재계산 진행 위치 조회
+     * StatsRollupService: findCursor, saveCursor
+     */
+    Optional<StatsRollup> findByMetricAndDimension(StatsMetric metric, String dimension);
+
+    // ─────────────────────────────────────────────
+    // [2] 통계 조회 (관리자 대시보드)
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 월별 건수 (연/월 오름차순)
+     * StatsRollupService: countMonthly
+     * - 삭제로 0건이 된 월은 제외 (원본 GROUP BY 결과와 동일하게)
+     */
+    @Query("""
+            SELECT new com.realcheck.admin.dto.MonthlyStatDto(
+              YEAR(r.statDate), MONTH(r.statDate), SUM(r.total)
+            )
+            FROM StatsRollup r
+            WHERE r.metric = :metric
+            GROUP BY YEAR(r.statDate), MONTH(r.statDate)
+            HAVING SUM(r.total) > 0
+            ORDER BY YEAR(r.statDate) ASC, MONTH(r.statDate) ASC
+            """)
+    List<MonthlyStatDto> sumMonthly(@Param("metric") StatsMetric metric);
+
+    /**
+     * [2-2] 월별 가입 수 (연/월 오름차순)
+     * StatsRollupService: countMonthlySignUps
+     */
+    @Query("""
+            SELECT new com.realcheck.admin.dto.MonthlyUserStatDto(
+              YEAR(r.statDate), MONTH(r.statDate), SUM(r.total)
+            )
+            FROM StatsRollup r
+            WHERE r.metric = com.realcheck.admin.entity.StatsMetric.USER
+            GROUP BY YEAR(r.statDate), MONTH(r.statDate)
+            HAVING SUM(r.total) > 0
+            ORDER BY YEAR(r.statDate) ASC, MONTH(r.statDate) ASC
+            """)
+    List<MonthlyUserStatDto> sumMonthlySignUps();
+
+    /**
+     * [2-3] 차원별 전체 건수 (건수 내림차순)
+     * StatsRollupService: countLogsByType, countRequestsByCategory
+     * - 결과: [dimension, 건수]
+     */
+    @Query("""
+            SELECT r.dimension, SUM(r.total)
+            FROM StatsRollup r
+            WHERE r.metric = :metric
+            GROUP BY r.dimension
+            HAVING SUM(r.total) > 0
+            ORDER BY SUM(r.total) DESC
+            """)
+    List<Object[]> sumByDimension(@Param("metric") StatsMetric metric);
+}
@@ -0,0 +1,103 @@
+package com.realcheck.admin.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realcheck.admin.dto.AdminActionLogExportRow;
+import com.realcheck.admin.dto.HiddenLogExportRow;
+import com.realcheck.admin.dto.ReportExportRow;
+import com.realcheck.admin.dto.ReportedUserExportRow;
+import com.realcheck.admin.repository.AdminActionLogRepository;
+import com.realcheck.report.repository.ReportRepository;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.user.repository.UserRepository;
+import com.realcheck.util.ExportWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AdminExportService
+ * - 관리자 목록(신고 내역, 숨김 로그, 신고 받은 사용자, 관리자 행동 로그)을 CSV / NDJSON으로 내보냄
+ * - 목록 API(findAll 후 DTO 변환)와 달리 DB 스트리밍 조회 결과를 한 행씩 바로 응답에 씀
+ *   → 엔티티/DTO 목록을 메모리에 모으지 않으므로 건수가 많아도 힙 사용량 일정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+    private final ReportRepository reportRepository;
+    private final StatusLogRepository statusLogRepository;
+    private final UserRepository userRepository;
+    private final AdminActionLogRepository adminActionLogRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 대상 목록
+     */
+    public enum Dataset {
+        REPORTS("reports"),
+        HIDDEN_LOGS("hidden-logs"),
+        REPORTED_USERS("reported-users"),
+        ACTION_LOGS("action-logs");
+
+        private final String path;
+
+        Dataset(String path) {
+            this.path = path;
+        }
+
+        public String path() {
+            return path;
+        }
+
+        /**
+         * URL 경로 값(reports, hidden-logs 등) → 대상
+         */
+        public static Dataset from(String path) {
+            for (Dataset dataset : values()) {
+                if (dataset.path.equalsIgnoreCase(path))
+                    return dataset;
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 대상입니다: " + path);
+        }
+    }
+
+    /**
+     * [1] 목록 내보내기
+     * AdminExportController: export
+     * - 스트림은 트랜잭션(커넥션)이 열려 있는 동안에만 읽을 수 있으므로 출력까지 이 메서드 안에서 처리
+     * - 응답 스트림에 쓰는 동안 커넥션을 점유하므로 다른 쿼리를 섞지 않음
+     *
+     * @return 출력한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Dataset dataset, ExportWriter.Format format, OutputStream out) throws IOException {
+        long count = switch (dataset) {
+            case REPORTS -> write(reportRepository.streamAllForExport(), ReportExportRow.class, format, out);
+            case HIDDEN_LOGS -> write(statusLogRepository.streamHiddenForExport(), HiddenLogExportRow.class, format, out);
+            case REPORTED_USERS -> write(userRepository.streamReportedForExport(), ReportedUserExportRow.class, format, out);
+            case ACTION_LOGS -> write(adminActionLogRepository.streamAllForExport(), AdminActionLogExportRow.class, format, out);
+        };
+        log.info("[AdminExport] {} {} 내보내기 완료 ({}건)", dataset.path(), format.extension(), count);
+        return count;
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    // 출력이 끝나거나 실패하면 스트림(결과 집합)을 닫음
+    private <T extends Record> long write(Stream<T> rows, Class<T> type, ExportWriter.Format format,
+            OutputStream out) throws IOException {
+        try (rows) {
+            return ExportWriter.write(rows, type, format, out, objectMapper);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.realcheck.admin.entity.TargetType;
 import com.realcheck.place.entity.Place;
 import com.realcheck.place.repository.PlaceRepository;
 import com.realcheck.place.repository.AllowedRequestTypeRepository;
+import com.realcheck.place.service.PlaceGeoIndex;
 import com.realcheck.status.entity.StatusLog;
 import com.realcheck.status.entity.StatusType;
 import com.realcheck.status.repository.StatusLogRepository;
@@ -34,6 +35,7 @@ public class AdminPlaceService {
     private final FavoritePlaceRepository favoritePlaceRepository;
     private final RequestRepository requestRepository;
     private final AdminActionLogService adminActionLogService;
+    private final PlaceGeoIndex placeGeoIndex;
 
     /**
      * [1] 장소 목록 조회 (페이징, 검색어, 승인 여부 필터)
@@ -146,6 +148,7 @@ public class AdminPlaceService {
         place.setRejected(false);
 
         placeRepository.save(place);
+        placeGeoIndex.upsertAfterCommit(place);
 
         adminActionLogService.saveLog(
                 adminId,
@@ -168,6 +171,7 @@ public class AdminPlaceService {
         place.setRejectReason(reason); // 사유 저장
 
         placeRepository.save(place);
+        placeGeoIndex.upsertAfterCommit(place);
 
         // Admin 로그 기록
         adminActionLogService.saveLog(
@@ -188,5 +192,6 @@ public class AdminPlaceService {
             throw new EntityNotFoundException("Place not found: " + placeId);
         }
         placeRepository.deleteById(placeId);
+        placeGeoIndex.removeAfterCommit(placeId);
     }
 }
@@ -5,6 +5,8 @@ import com.realcheck.admin.dto.PointHistoryDto;
 import com.realcheck.admin.dto.PointZeroRatioDto;
 import com.realcheck.admin.dto.PointBalanceDistributionDto;
 import com.realcheck.admin.dto.TopUserByPointsDto;
+import com.realcheck.common.service.LeaderboardService;
+import com.realcheck.common.service.LeaderboardService.Board;
 import com.realcheck.point.repository.PointRepository;
 import com.realcheck.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,24 +21,18 @@ import java.util.stream.Collectors;
 public class AdminPointService {
     private final PointRepository pointRepository;
     private final UserRepository userRepository;
+    private final PointDailyRollupService pointDailyRollupService;
+    private final LeaderboardService leaderboardService;
 
     /**
      * [1-1] 일별 포인트 합계 리스트 조회
      * AdminPointController: getDailyAggregate
      * - 포인트 지급 내역을 일별로 집계하여 반환
+     * - 지난 일자는 일별 롤업(point_daily_rollup), 당일은 원장에서 직접 집계
      * - 반환 형식: List<PointDailyAggregateDto>
      */
     public List<PointDailyAggregateDto> getDailyAggregatedPoints() {
-        return pointRepository.findDailyAggregateRaw().stream()
-                .map(arr -> {
-                    // arr[0] 은 DATE(p.earnedAt) → java.sql.Date거나 java.util.Date
-                    java.sql.Date sqlDate = (java.sql.Date) arr[0];
-                    Long sum = (Long) arr[1];
-                    return new PointDailyAggregateDto(
-                            sqlDate.toLocalDate(), // LocalDate 로 변환
-                            sum);
-                })
-                .collect(Collectors.toList());
+        return pointDailyRollupService.getDailyAggregates();
     }
 
     /**
@@ -88,9 +84,12 @@ public class AdminPointService {
      * AdminPointController: getTopUsers
      * - 잔액이 가장 높은 사용자 10명을 조회
      * - 반환 형식: List<TopUserByPointsDto>
+     * - 순위는 Redis 순위표, 잔액은 조회한 사용자 값 (순위표가 없으면 DB 정렬 조회)
      */
     public List<TopUserByPointsDto> getTopUsersByPoints(int limit) {
-        return userRepository.findTop10ByOrderByPointsDesc()
+        return leaderboardService.top(Board.POINTS, 10)
+                .map(ranked -> ranked.stream().map(LeaderboardService.Ranked::user).toList())
+                .orElseGet(userRepository::findTop10ByOrderByPointsDesc)
                 .stream()
                 .map(u -> new TopUserByPointsDto(
                         u.getId(),
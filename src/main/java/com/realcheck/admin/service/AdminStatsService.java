@@ -7,9 +7,11 @@ import com.realcheck.admin.dto.MonthlyUserStatDto;
 import com.realcheck.admin.dto.TopContributingUserDto;
 import com.realcheck.admin.dto.TopReportedUserDto;
 import com.realcheck.admin.dto.UserRequestStatDto;
+import com.realcheck.admin.entity.StatsMetric;
+import com.realcheck.common.service.LeaderboardService;
+import com.realcheck.common.service.LeaderboardService.Board;
 import com.realcheck.deletionlog.repository.DeletedUserLogRepository;
 import com.realcheck.place.repository.PlaceRepository;
-import com.realcheck.point.repository.PointRepository;
 import com.realcheck.report.repository.ReportRepository;
 import com.realcheck.request.repository.RequestRepository;
 import com.realcheck.status.repository.StatusLogRepository;
@@ -20,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,18 +32,21 @@ import java.util.Map;
  * AdminStatsService
  * - 관리자 전용 통계 데이터를 제공하는 서비스 계층
  * - 신고 건수, 포인트 합계, 월별 로그 등록 수 등 운영 대시보드에 필요한 데이터를 처리
+ * - 월별/카테고리별 등록 수는 일자별 사전 집계(StatsRollupService)에서 조회
  */
 @Service
 @RequiredArgsConstructor
 public class AdminStatsService {
 
     private final ReportRepository reportRepository;
-    private final PointRepository pointRepository;
     private final StatusLogRepository statusLogRepository;
     private final UserRepository userRepository;
     private final PlaceRepository placeRepository;
     private final RequestRepository requestRepository;
     private final DeletedUserLogRepository deletedUserLogRepository;
+    private final StatsRollupService statsRollupService;
+    private final PointDailyRollupService pointDailyRollupService;
+    private final LeaderboardService leaderboardService;
 
     // ─────────────────────────────────────────────
     // [1] 통계 - 장소 관련
@@ -67,9 +74,10 @@ public class AdminStatsService {
      * AdminStatsController: getMonthlyPlaceRegistrations
      * - 장소 등록 시점(createdAt)을 기준으로 연/월별 등록 수를 집계
      * - 프론트 대시보드에서 장소 등록 추세를 파악하는 데 사용
+     * - 최신 월부터 반환
      */
     public List<MonthlyStatDto> getMonthlyPlaceRegistrations() {
-        return placeRepository.countMonthlyRegistrations();
+        return latestFirst(statsRollupService.countMonthly(StatsMetric.PLACE));
     }
 
     // ─────────────────────────────────────────────
@@ -93,7 +101,7 @@ public class AdminStatsService {
      * - 각 카테고리의 로그 수를 시각화하여 운영 대시보드에 표시
      */
     public List<CategoryLogCountDto> getLogCountByCategory() {
-        return statusLogRepository.countLogsGroupByType();
+        return statsRollupService.countLogsByType();
     }
 
     /**
@@ -103,7 +111,7 @@ public class AdminStatsService {
      * - 프론트 대시보드에 그래프나 차트용으로 활용 가능
      */
     public List<MonthlyStatDto> getMonthlyStatusLogCount() {
-        return statusLogRepository.getMonthlyStatusLogCount();
+        return statsRollupService.countMonthly(StatsMetric.STATUS_LOG);
     }
 
     // ─────────────────────────────────────────────
@@ -115,9 +123,10 @@ public class AdminStatsService {
      * AdminStatsController: getMonthlyRequestStats
      * - 요청 등록 시점(createdAt)을 기준으로 연/월별 등록 수를 집계
      * - 프론트 대시보드에서 요청 등록 추세 시각화용
+     * - 최신 월부터 반환
      */
     public List<MonthlyStatDto> getMonthlyRequestRegistrations() {
-        return requestRepository.countMonthlyRequests();
+        return latestFirst(statsRollupService.countMonthly(StatsMetric.REQUEST));
     }
 
     /**
@@ -127,7 +136,7 @@ public class AdminStatsService {
      * - RequestCategory 기준으로 그룹화하여 개수 반환
      */
     public List<CategoryStatDto> getRequestCategoryStats() {
-        return requestRepository.countByCategory();
+        return statsRollupService.countRequestsByCategory();
     }
 
     /**
@@ -147,9 +156,14 @@ public class AdminStatsService {
      * AdminStatsController: getTopUsers
      * - 요청을 가장 많이 등록한 사용자 10명을 조회
      * - 가장 많은 요청을 등록한 사용자 목록
+     * - Redis 순위표 조회, 순위표가 없으면(재구성 전/Redis 장애) DB 집계
      */
     public List<UserRequestStatDto> getTopRequestUsers() {
-        return requestRepository.findTopUsersByRequestCount(PageRequest.of(0, 10));
+        return leaderboardService.top(Board.REQUESTERS, 10)
+                .map(ranked -> ranked.stream()
+                        .map(r -> new UserRequestStatDto(r.user().getId(), r.user().getNickname(), r.score()))
+                        .toList())
+                .orElseGet(() -> requestRepository.findTopUsersByRequestCount(PageRequest.of(0, 10)));
     }
 
     // ─────────────────────────────────────────────
@@ -163,7 +177,7 @@ public class AdminStatsService {
      * - 프론트 대시보드에서 사용자 성장 추세를 파악하는 데 사용
      */
     public List<MonthlyUserStatDto> getMonthlyUserSignUpStats() {
-        return userRepository.countMonthlySignUps();
+        return statsRollupService.countMonthlySignUps();
     }
 
     /**
@@ -183,9 +197,14 @@ public class AdminStatsService {
      * - 반환 타입: List<TopReportedUserDto>
      * - 예시: 신고가 가장 많이 된 사용자 10명을 반환
      * - 반환되는 DTO는 사용자 ID, 닉네임, 신고 횟수를 포함
+     * - Redis 순위표 조회, 순위표가 없으면(재구성 전/Redis 장애) DB 집계
      */
     public List<TopReportedUserDto> getTopReportedUsers() {
-        return reportRepository.findTopReportedUsers(PageRequest.of(0, 10));
+        return leaderboardService.top(Board.REPORTED, 10)
+                .map(ranked -> ranked.stream()
+                        .map(r -> new TopReportedUserDto(r.user().getId(), r.user().getNickname(), r.score()))
+                        .toList())
+                .orElseGet(() -> reportRepository.findTopReportedUsers(PageRequest.of(0, 10)));
     }
 
     /**
@@ -196,9 +215,14 @@ public class AdminStatsService {
      * - 반환 타입: List<TopContributingUserDto>
      * - 예시: 상태 로그를 가장 많이 작성한 사용자 10명을 반환
      * - 반환되는 DTO는 사용자 ID, 닉네임, 작성 횟수를 포함
+     * - Redis 순위표 조회, 순위표가 없으면(재구성 전/Redis 장애) DB 집계
      */
     public List<TopContributingUserDto> getTopContributingUsers() {
-        return statusLogRepository.findTopContributors(PageRequest.of(0, 10));
+        return leaderboardService.top(Board.CONTRIBUTORS, 10)
+                .map(ranked -> ranked.stream()
+                        .map(r -> new TopContributingUserDto(r.user().getId(), r.user().getNickname(), r.score()))
+                        .toList())
+                .orElseGet(() -> statusLogRepository.findTopContributors(PageRequest.of(0, 10)));
     }
 
     /**
@@ -228,10 +252,20 @@ public class AdminStatsService {
      * - CHARGE, REWARD 타입은 플러스(+)
      * - CASH 타입은 마이너스(–)
      * - 그 외 타입(EARN, DEDUCT, RESERVE, REFUND 등)은 계산에서 제외
+     * - 지난 일자 유형별 롤업 합계 + 당일 원장 합계 (원장 전체 합산 없음)
      */
     public int getTotalPointSum() {
-        Long netIssued = pointRepository.sumNetIssuedPoints();
-        return (netIssued != null) ? netIssued.intValue() : 0;
+        return (int) pointDailyRollupService.sumNetIssuedPoints();
     }
 
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    // 롤업 월별 조회(오름차순)를 최신 월부터로 뒤집기
+    private static List<MonthlyStatDto> latestFirst(List<MonthlyStatDto> monthly) {
+        List<MonthlyStatDto> result = new ArrayList<>(monthly);
+        Collections.reverse(result);
+        return result;
+    }
 }
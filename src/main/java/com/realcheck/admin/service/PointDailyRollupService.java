@@ -0,0 +1,230 @@
+package com.realcheck.admin.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.admin.dto.PointDailyAggregateDto;
+import com.realcheck.admin.entity.PointDailyRollup;
+import com.realcheck.admin.repository.PointDailyRollupRepository;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.point.entity.PointType;
+import com.realcheck.point.repository.PointRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PointDailyRollupService
+ * - 관리자 포인트 통계를 원장(points) 전체 집계 대신 일별 롤업(point_daily_rollup) + 당일 원장 집계로 제공
+ * - 증분 반영: 포인트 변경 이벤트(POINT_CHANGED)를 메모리에 모아 5초마다 한 번에 반영
+ * - 당일분은 조회 시 원장에서 직접 집계 (earned_at 인덱스 범위 조회, 반영 지연 없음)
+ * - 지난 일자는 PointRollupConsistencyChecker가 원장과 대조해 불일치 시 원장 값으로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointDailyRollupService {
+
+    private final PointDailyRollupRepository pointDailyRollupRepository;
+    private final PointRepository pointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아직 DB에 반영하지 않은 증감분 (일자 + 유형 → 합계/건수)
+    private final Map<DayType, Totals> pending = new ConcurrentHashMap<>();
+
+    // ─────────────────────────────────────────────
+    // [1] 이벤트 증분 반영
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 포인트 변경 이벤트 집계 (DomainEventBus 커밋 이후 이벤트)
+     * - 발생한 서버에서만 집계 (다른 서버에서 중계된 이벤트는 이미 그 서버가 반영)
+     * - 일자는 커밋 직후 수신 시각 기준 (자정 직전 내역이 다음 날로 잡혀도 대조 시 보정)
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (event.remote() || event.type() != DomainEvent.Type.POINT_CHANGED)
+            return;
+        DomainEvent.PointChange change = event.payloadAs(DomainEvent.PointChange.class);
+        if (change == null || change.type() == null)
+            return;
+        pending.merge(new DayType(LocalDate.now(), PointType.valueOf(change.type())),
+                new Totals(change.amount(), 1), Totals::plus);
+    }
+
+    /**
+     * [1-2] 모인 증감분 일괄 반영 (5초마다, 대조 전에도 호출)
+     * PointRollupConsistencyChecker: check
+     * - DB 오류 시 꺼낸 증감분을 다시 대기열에 합쳐 다음 주기에 재시도
+     *
+     * @return 반영한 롤업 행 수
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public int flush() {
+        if (pending.isEmpty())
+            return 0;
+
+        Map<DayType, Totals> drained = new HashMap<>();
+        for (DayType key : pending.keySet()) {
+            Totals totals = pending.remove(key);
+            if (totals != null)
+                drained.put(key, totals);
+        }
+        if (drained.isEmpty())
+            return 0;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((key, totals) -> pointDailyRollupRepository
+                    .addTotals(key.date(), key.type().name(), totals.amount(), totals.count())));
+            return drained.size();
+        } catch (DataAccessException | TransactionException e) {
+            drained.forEach((key, totals) -> pending.merge(key, totals, Totals::plus));
+            log.warn("[PointRollup] 증감 반영 실패 - 다음 주기에 재시도 ({}건): {}", drained.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 원장 대조 / 보정
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 일자 구간 [from, to) 롤업과 원장 대조
+     * PointRollupConsistencyChecker: verify
+     * - 일자 + 유형별 합계/건수가 하나라도 다르면 구간 롤업을 원장 값으로 다시 저장 (같은 트랜잭션)
+     * - 최초 실행 시 비어 있는 과거 일자도 같은 방식으로 채워짐
+     *
+     * @return 불일치한 일자 + 유형 수 (0이면 쓰기 없음)
+     */
+    @Transactional
+    public int verify(LocalDate from, LocalDate to) {
+        Map<DayType, Totals> ledger = new HashMap<>();
+        for (Object[] row : pointRepository.sumDailyByType(from.atStartOfDay(), to.atStartOfDay())) {
+            ledger.put(new DayType(toLocalDate(row[0]), (PointType) row[1]),
+                    new Totals(((Number) row[2]).longValue(), ((Number) row[3]).longValue()));
+        }
+        Map<DayType, Totals> rollup = new HashMap<>();
+        for (PointDailyRollup row : pointDailyRollupRepository.findByStatDateGreaterThanEqualAndStatDateLessThan(from, to)) {
+            rollup.put(new DayType(row.getStatDate(), row.getType()), new Totals(row.getTotalAmount(), row.getEntryCount()));
+        }
+        if (ledger.equals(rollup))
+            return 0;
+
+        Set<DayType> keys = new HashSet<>(ledger.keySet());
+        keys.addAll(rollup.keySet());
+        List<DayType> mismatched = keys.stream()
+                .filter(key -> !Objects.equals(ledger.get(key), rollup.get(key)))
+                .sorted((a, b) -> a.date().compareTo(b.date()))
+                .toList();
+        DayType first = mismatched.get(0);
+        log.warn("[PointRollup] 원장 불일치 {}건 보정 ({} ~ {}), 예: {} {} 원장={} 롤업={}", mismatched.size(), from, to,
+                first.date(), first.type(), ledger.get(first), rollup.get(first));
+
+        pointDailyRollupRepository.deleteRange(from, to);
+        ledger.forEach((key, totals) -> pointDailyRollupRepository
+                .addTotals(key.date(), key.type().name(), totals.amount(), totals.count()));
+        return mismatched.size();
+    }
+
+    // ─────────────────────────────────────────────
+    // [3] 통계 조회 (지난 일자 롤업 + 당일 원장)
+    // ─────────────────────────────────────────────
+
+    /**
+     * [3-1] 일별 포인트 합계 (일자 오름차순, 내역이 없는 날 제외)
+     * AdminPointService: getDailyAggregatedPoints
+     */
+    @Transactional(readOnly = true)
+    public List<PointDailyAggregateDto> getDailyAggregates() {
+        LocalDate today = LocalDate.now();
+        List<PointDailyAggregateDto> result = new ArrayList<>();
+        for (Object[] row : pointDailyRollupRepository.sumDailyBefore(today)) {
+            result.add(new PointDailyAggregateDto((LocalDate) row[0], ((Number) row[1]).longValue()));
+        }
+
+        long todayAmount = 0;
+        long todayCount = 0;
+        for (Totals totals : sumToday(today).values()) {
+            todayAmount += totals.amount();
+            todayCount += totals.count();
+        }
+        if (todayCount > 0)
+            result.add(new PointDailyAggregateDto(today, todayAmount));
+        return result;
+    }
+
+    /**
+     * [3-2] 발행된 포인트 순 총량 (CHARGE + REWARD - CASH)
+     * AdminStatsService: getTotalPointSum
+     * - 지난 일자 유형별 롤업 합계 + 당일 원장 유형별 합계
+     */
+    @Transactional(readOnly = true)
+    public long sumNetIssuedPoints() {
+        LocalDate today = LocalDate.now();
+        Map<PointType, Long> amounts = new EnumMap<>(PointType.class);
+        for (Object[] row : pointDailyRollupRepository.sumByTypeBefore(today)) {
+            amounts.merge((PointType) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        sumToday(today).forEach((type, totals) -> amounts.merge(type, totals.amount(), Long::sum));
+
+        return amounts.getOrDefault(PointType.CHARGE, 0L)
+                + amounts.getOrDefault(PointType.REWARD, 0L)
+                - amounts.getOrDefault(PointType.CASH, 0L);
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    // 당일 유형별 합계/건수 (원장 직접 집계)
+    private Map<PointType, Totals> sumToday(LocalDate today) {
+        LocalDateTime start = today.atStartOfDay();
+        Map<PointType, Totals> totals = new EnumMap<>(PointType.class);
+        for (Object[] row : pointRepository.sumByType(start, start.plusDays(1))) {
+            totals.put((PointType) row[0], new Totals(((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+        }
+        return totals;
+    }
+
+    // FUNCTION('DATE', ...) 결과는 드라이버에 따라 java.sql.Date 또는 LocalDate
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date)
+            return date;
+        if (value instanceof Date date)
+            return date.toLocalDate();
+        return LocalDate.parse(String.valueOf(value));
+    }
+
+    /**
+     * 집계 키 (일자 + 포인트 유형)
+     */
+    private record DayType(LocalDate date, PointType type) {
+    }
+
+    /**
+     * 금액 합계 + 건수
+     */
+    private record Totals(long amount, long count) {
+        Totals plus(Totals other) {
+            return new Totals(amount + other.amount, count + other.count);
+        }
+    }
+}
@@ -8,12 +8,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.realcheck.admin.entity.ActionType;
 import com.realcheck.admin.entity.TargetType;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.common.service.TileCache;
 import com.realcheck.report.dto.ReportDto;
 import com.realcheck.report.entity.Report;
 import com.realcheck.report.repository.ReportRepository;
 import com.realcheck.status.dto.StatusLogDto;
 import com.realcheck.status.entity.StatusLog;
+import com.realcheck.request.repository.RequestRepository;
 import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.scheduler.AutoCloseRequestService;
+import com.realcheck.scheduler.RequestExpiryWheel;
+import com.realcheck.status.service.RecentStatusLogWindow;
 import com.realcheck.user.entity.User;
 import com.realcheck.user.repository.UserRepository;
 
@@ -30,8 +37,13 @@ public class ReportAdminService {
 
     private final ReportRepository reportRepository;
     private final StatusLogRepository statusLogRepository;
+    private final RequestRepository requestRepository;
     private final UserRepository userRepository;
     private final AdminActionLogService adminActionLogService;
+    private final RecentStatusLogWindow recentStatusLogWindow;
+    private final RequestExpiryWheel requestExpiryWheel;
+    private final DomainEventBus domainEventBus;
+    private final TileCache tileCache;
 
     /**
      * [1] 전체 신고 내역 조회
@@ -112,8 +124,17 @@ public class ReportAdminService {
             // 만약 reportCount < 3 이면 자동 숨김 해제
             if (log.getReportCount() < 3 && log.isHidden()) {
                 log.setHidden(false);
+                tileCache.invalidateStatusLogAfterCommit(log);
+                if (log.getRequest() != null) {
+                    requestRepository.addVisibleAnswerCount(log.getRequest().getId(), 1);
+                    // 숨김 해제된 답변 기준으로 자동 마감 시각 재등록
+                    requestExpiryWheel.scheduleAfterCommit(log.getRequest().getId(),
+                            log.getCreatedAt().plus(AutoCloseRequestService.CLOSE_DELAY));
+                }
             }
             statusLogRepository.save(log);
+            recentStatusLogWindow.upsertAfterCommit(log);
+            domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_UPDATED, log);
         }
 
         // (5) 신고 당한 사용자(User) reportCount 감소
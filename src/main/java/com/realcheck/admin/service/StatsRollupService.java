@@ -0,0 +1,271 @@
+package com.realcheck.admin.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.admin.dto.CategoryLogCountDto;
+import com.realcheck.admin.dto.CategoryStatDto;
+import com.realcheck.admin.dto.MonthlyStatDto;
+import com.realcheck.admin.dto.MonthlyUserStatDto;
+import com.realcheck.admin.entity.StatsMetric;
+import com.realcheck.admin.entity.StatsRollup;
+import com.realcheck.admin.repository.StatsRollupRepository;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.place.repository.PlaceRepository;
+import com.realcheck.request.dto.RequestDto;
+import com.realcheck.request.entity.RequestCategory;
+import com.realcheck.request.repository.RequestRepository;
+import com.realcheck.status.dto.StatusLogDto;
+import com.realcheck.status.entity.StatusType;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StatsRollupService
+ * - 관리자 대시보드 통계를 원본 테이블 전체 GROUP BY 대신 일자별 사전 집계(stats_rollup)로 제공
+ * - 증분 반영: 상태 로그 등록/삭제, 요청 등록 이벤트(DomainEvent)를 메모리에 모아 5초마다 한 번에 반영
+ * - 재계산: StatsRollupBackfillScheduler가 원본 테이블의 일자 구간을 다시 세어 덮어씀
+ *   (이벤트가 없는 장소/가입 수, 사용자 삭제 등으로 생긴 오차는 재계산 시 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsRollupService {
+
+    // 차원이 없는 metric의 dimension 값
+    static final String NO_DIMENSION = "";
+
+    private final StatsRollupRepository statsRollupRepository;
+    private final StatusLogRepository statusLogRepository;
+    private final RequestRepository requestRepository;
+    private final PlaceRepository placeRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아직 DB에 반영하지 않은 증감분 (metric + 차원 + 일자 → 증감)
+    private final Map<RollupKey, Long> pending = new ConcurrentHashMap<>();
+
+    // ─────────────────────────────────────────────
+    // [1] 이벤트 증분 반영
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 상태 로그 / 요청 변경 이벤트 집계 (DomainEventBus 커밋 이후 이벤트)
+     * - 발생한 서버에서만 집계 (다른 서버에서 중계된 이벤트는 이미 그 서버가 반영)
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (event.remote())
+            return;
+        switch (event.type()) {
+            case STATUS_CREATED -> addStatusLog(event.payloadAs(StatusLogDto.class), 1);
+            case STATUS_DELETED -> addStatusLog(event.payloadAs(StatusLogDto.class), -1);
+            case REQUEST_CREATED -> addRequest(event.payloadAs(RequestDto.class));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * [1-2] 모인 증감분 일괄 반영 (5초마다, 재계산 전에도 호출)
+     * StatsRollupBackfillScheduler: rebuild
+     * - DB 오류 시 꺼낸 증감분을 다시 대기열에 합쳐 다음 주기에 재시도
+     *
+     * @return 반영한 롤업 행 수
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public int flush() {
+        if (pending.isEmpty())
+            return 0;
+
+        Map<RollupKey, Long> drained = new HashMap<>();
+        for (RollupKey key : pending.keySet()) {
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0)
+                drained.put(key, delta);
+        }
+        if (drained.isEmpty())
+            return 0;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((key, delta) -> statsRollupRepository
+                    .addTotal(key.metric().name(), key.dimension(), key.statDate(), delta)));
+            return drained.size();
+        } catch (DataAccessException | TransactionException e) {
+            drained.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+            log.warn("[StatsRollup] 증감 반영 실패 - 다음 주기에 재시도 ({}건): {}", drained.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 재계산 (원본 테이블 기준 덮어쓰기)
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 일자 구간 재계산 [from, to)
+     * StatsRollupBackfillScheduler: rebuild
+     * - 구간의 기존 롤업 행을 지우고 원본 테이블의 일자별 건수로 다시 저장 (같은 트랜잭션)
+     * - 원본 조회는 created_at 인덱스 범위 조회이므로 구간 크기만큼만 읽음
+     *
+     * @return 저장한 롤업 행 수
+     */
+    @Transactional
+    public int recompute(StatsMetric metric, LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+        List<Object[]> rows = switch (metric) {
+            case STATUS_LOG -> statusLogRepository.countDailyByType(start, end);
+            case REQUEST -> requestRepository.countDailyByCategory(start, end);
+            case PLACE -> placeRepository.countDailyRegistrations(start, end);
+            case USER -> userRepository.countDailySignUps(start, end);
+            default -> throw new IllegalArgumentException("재계산 대상이 아닌 통계입니다: " + metric);
+        };
+
+        statsRollupRepository.deleteRange(metric, from, to);
+        for (Object[] row : rows) {
+            // [일자, 차원, 건수] 또는 [일자, 건수]
+            String dimension = row.length == 3 ? String.valueOf(row[1]) : NO_DIMENSION;
+            long count = ((Number) row[row.length - 1]).longValue();
+            statsRollupRepository.addTotal(metric.name(), dimension, toLocalDate(row[0]), count);
+        }
+        return rows.size();
+    }
+
+    /**
+     * [2-2] 재계산 진행 위치 조회 (마지막으로 완료한 일자)
+     * StatsRollupBackfillScheduler: rebuild
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findCursor(StatsMetric metric) {
+        return findCursor(metric.name());
+    }
+
+    /**
+     * [2-2-A] 진행 위치 조회 (작업 이름 지정)
+     * PointRollupConsistencyChecker: check
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findCursor(String name) {
+        return statsRollupRepository.findByMetricAndDimension(StatsMetric.BACKFILL_CURSOR, name)
+                .map(StatsRollup::getStatDate);
+    }
+
+    /**
+     * [2-3] 재계산 진행 위치 저장 (구간 재계산과 같은 트랜잭션에서 호출)
+     * StatsRollupBackfillScheduler: rebuild
+     */
+    @Transactional
+    public void saveCursor(StatsMetric metric, LocalDate completedDate) {
+        saveCursor(metric.name(), completedDate);
+    }
+
+    /**
+     * [2-3-A] 진행 위치 저장 (작업 이름 지정)
+     * PointRollupConsistencyChecker: verify
+     */
+    @Transactional
+    public void saveCursor(String name, LocalDate completedDate) {
+        StatsRollup cursor = statsRollupRepository
+                .findByMetricAndDimension(StatsMetric.BACKFILL_CURSOR, name)
+                .orElseGet(() -> new StatsRollup(null, StatsMetric.BACKFILL_CURSOR, name, completedDate, 0));
+        cursor.setStatDate(completedDate);
+        statsRollupRepository.save(cursor);
+    }
+
+    // ─────────────────────────────────────────────
+    // [3] 통계 조회 (AdminStatsService)
+    // ─────────────────────────────────────────────
+
+    /**
+     * [3-1] 월별 건수 (연/월 오름차순)
+     * AdminStatsService: getMonthlyPlaceRegistrations, getMonthlyStatusLogCount, getMonthlyRequestRegistrations
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyStatDto> countMonthly(StatsMetric metric) {
+        return statsRollupRepository.sumMonthly(metric);
+    }
+
+    /**
+     * [3-2] 월별 가입 수 (연/월 오름차순)
+     * AdminStatsService: getMonthlyUserSignUpStats
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyUserStatDto> countMonthlySignUps() {
+        return statsRollupRepository.sumMonthlySignUps();
+    }
+
+    /**
+     * [3-3] 로그 유형별 전체 건수
+     * AdminStatsService: getLogCountByCategory
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryLogCountDto> countLogsByType() {
+        return statsRollupRepository.sumByDimension(StatsMetric.STATUS_LOG).stream()
+                .map(row -> new CategoryLogCountDto(StatusType.valueOf((String) row[0]), ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * [3-4] 요청 카테고리별 전체 건수 (건수 내림차순)
+     * AdminStatsService: getRequestCategoryStats
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryStatDto> countRequestsByCategory() {
+        return statsRollupRepository.sumByDimension(StatsMetric.REQUEST).stream()
+                .map(row -> new CategoryStatDto(RequestCategory.valueOf((String) row[0]), ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    private void addStatusLog(StatusLogDto dto, long delta) {
+        if (dto == null || dto.getType() == null || dto.getCreatedAt() == null)
+            return;
+        add(new RollupKey(StatsMetric.STATUS_LOG, dto.getType().name(), dto.getCreatedAt().toLocalDate()), delta);
+    }
+
+    private void addRequest(RequestDto dto) {
+        if (dto == null || dto.getCategory() == null || dto.getCreatedAt() == null)
+            return;
+        add(new RollupKey(StatsMetric.REQUEST, dto.getCategory().name(), dto.getCreatedAt().toLocalDate()), 1);
+    }
+
+    private void add(RollupKey key, long delta) {
+        pending.merge(key, delta, Long::sum);
+    }
+
+    // FUNCTION('DATE', ...) 결과는 드라이버에 따라 java.sql.Date 또는 LocalDate
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date)
+            return date;
+        if (value instanceof Date date)
+            return date.toLocalDate();
+        return LocalDate.parse(String.valueOf(value));
+    }
+
+    /**
+     * 증감 대기열 키 (metric + 차원 + 일자)
+     */
+    private record RollupKey(StatsMetric metric, String dimension, LocalDate statDate) {
+    }
+}
@@ -2,17 +2,25 @@ package com.realcheck.admin.service;
 
 import com.realcheck.admin.entity.ActionType;
 import com.realcheck.admin.entity.TargetType;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.common.service.TileCache;
 import com.realcheck.status.dto.StatusLogDto;
 import com.realcheck.status.entity.StatusLog;
 import com.realcheck.status.entity.StatusType;
+import com.realcheck.request.repository.RequestRepository;
 import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.status.service.RecentStatusLogWindow;
 import com.realcheck.point.service.PointService;
+import com.realcheck.scheduler.AutoCloseRequestService;
+import com.realcheck.scheduler.RequestExpiryWheel;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 /**
@@ -24,8 +32,13 @@ import org.springframework.stereotype.Service;
 public class StatusLogAdminService {
 
     private final StatusLogRepository statusLogRepository;
+    private final RequestRepository requestRepository;
     private final AdminActionLogService adminActionLogService;
     private final PointService pointService;
+    private final RecentStatusLogWindow recentStatusLogWindow;
+    private final RequestExpiryWheel requestExpiryWheel;
+    private final DomainEventBus domainEventBus;
+    private final TileCache tileCache;
 
     /**
      * [1] 자발 공유 로그 전체 조회 (관리자 전용)
@@ -39,15 +52,23 @@ public class StatusLogAdminService {
     /**
      * [2] FREE_SHARE 로그 차단 + 포인트 회수 + 로그 기록
      * StatusLogAdminController: blockLog
+     * - 숨김 처리 시 연결된 요청의 공개 답변 수도 함께 갱신되므로 하나의 트랜잭션으로 처리
      */
+    @Transactional
     public void blockLog(Long logId, Long adminId) {
         StatusLog log = statusLogRepository.findById(logId)
                 .orElseThrow(() -> new IllegalArgumentException("StatusLog not found"));
 
         if (!log.isHidden()) {
             log.setHidden(true);
+            if (log.getRequest() != null) {
+                requestRepository.addVisibleAnswerCount(log.getRequest().getId(), -1);
+            }
             pointService.refundIfRewarded(log); // 포인트 회수
             statusLogRepository.save(log);
+            recentStatusLogWindow.upsertAfterCommit(log);
+            tileCache.invalidateStatusLogAfterCommit(log);
+            domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_HIDDEN, log);
 
             adminActionLogService.saveLog(
                     adminId, log.getId(), ActionType.BLOCK, TargetType.STATUS_LOG, "자발적 공유 로그 차단");
@@ -58,6 +79,7 @@ public class StatusLogAdminService {
      * [3] FREE_SHARE 로그 차단 해제 + 로그 기록
      * StatusLogAdminController: unblockLog
      */
+    @Transactional
     public void unblockLog(Long logId, Long adminId) {
         StatusLog log = statusLogRepository.findById(logId)
                 .orElseThrow(() -> new IllegalArgumentException("StatusLog not found"));
@@ -65,7 +87,16 @@ public class StatusLogAdminService {
         if (log.isHidden()) {
             log.setHidden(false);
             pointService.reissueRewardIfEligible(log); // 포인트 재지급 (조건 만족 시)
+            if (log.getRequest() != null) {
+                requestRepository.addVisibleAnswerCount(log.getRequest().getId(), 1);
+                // 숨김 해제된 답변 기준으로 자동 마감 시각 재등록
+                requestExpiryWheel.scheduleAfterCommit(log.getRequest().getId(),
+                        log.getCreatedAt().plus(AutoCloseRequestService.CLOSE_DELAY));
+            }
             statusLogRepository.save(log);
+            recentStatusLogWindow.upsertAfterCommit(log);
+            tileCache.invalidateStatusLogAfterCommit(log);
+            domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_UPDATED, log);
 
             adminActionLogService.saveLog(
                     adminId, log.getId(), ActionType.UNBLOCK, TargetType.STATUS_LOG, "자발적 공유 로그 차단 해제");
@@ -1,5 +1,7 @@
 package com.realcheck.admin.service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -10,8 +12,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.realcheck.admin.dto.ReportedUserDto;
 import com.realcheck.admin.entity.ActionType;
 import com.realcheck.admin.entity.TargetType;
+import com.realcheck.common.dto.CursorPage;
 import com.realcheck.report.dto.ReportDto;
 import com.realcheck.report.repository.ReportRepository;
 import com.realcheck.request.dto.RequestDto;
@@ -40,6 +44,32 @@ public class UserAdminService {
     private final ReportRepository reportRepository;
     private final AdminActionLogService adminActionLogService;
 
+    // 신고 사용자 목록 한 페이지 최대 크기
+    static final int MAX_REPORTED_PAGE_SIZE = 100;
+    // 첫 페이지 조회용 커서 (모든 행보다 뒤)
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    /**
+     * 신고 사용자 목록 정렬 기준
+     */
+    public enum ReportedUserSort {
+        // 신고 횟수 많은 순 (같으면 ID 역순)
+        COUNT,
+        // 가입 최신순 (같으면 ID 역순)
+        RECENT;
+
+        /**
+         * 요청 파라미터(count / recent, 대소문자 무시) → 정렬 기준
+         */
+        public static ReportedUserSort from(String value) {
+            for (ReportedUserSort sort : values()) {
+                if (sort.name().equalsIgnoreCase(value))
+                    return sort;
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+        }
+    }
+
     // ────────────────────────────────────────
     // [1] 차단 사용자 관련 기능
     // ────────────────────────────────────────
@@ -181,15 +211,44 @@ public class UserAdminService {
     }
 
     /**
-     * [2-6] 신고된 사용자 목록 조회 (신고 횟수 1회 이상) [미사용]
+     * [2-6] 신고된 사용자 목록 조회 (신고 횟수 1회 이상, 커서 페이지)
      * UserAdminController: getReportedUsers
      * - 신고 받은 사용자는 StatusLog를 신고 받은 사용자
-     * - 신고된 사용자와 신고 횟수를 함께 반환
+     * - 인덱스 범위 조회로 (size + 1)행만 읽어 DTO로 바로 받음 (전체 사용자 로딩/필터링 없음)
+     * - 커서 형식: 신고순 "{신고 횟수}_{ID}", 최신순 "{가입 시각}_{ID}" (직전 페이지의 nextCursor)
+     *
+     * @param cursor 첫 페이지는 null 또는 빈 문자열
      */
-    public List<UserDto> getReportedUsers() {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getReportCount() > 0) // 신고 횟수 1회 이상 필터링
-                .map(UserDto::fromEntity)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<ReportedUserDto> getReportedUsers(ReportedUserSort sort, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_REPORTED_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        boolean first = cursor == null || cursor.isBlank();
+
+        List<ReportedUserDto> rows;
+        try {
+            int separator = first ? -1 : cursor.lastIndexOf('_');
+            if (!first && separator < 0)
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            Long id = first ? Long.MAX_VALUE : Long.valueOf(cursor.substring(separator + 1));
+            rows = switch (sort) {
+                case COUNT -> userRepository.findReportedByCountAfter(
+                        first ? Integer.MAX_VALUE : Integer.parseInt(cursor.substring(0, separator)), id, pageable);
+                case RECENT -> userRepository.findReportedByRecencyAfter(
+                        first ? FIRST_PAGE_CREATED_AT : LocalDateTime.parse(cursor.substring(0, separator)), id, pageable);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ReportedUserDto> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ReportedUserDto last = content.get(content.size() - 1);
+            nextCursor = (sort == ReportedUserSort.COUNT ? String.valueOf(last.getReportCount())
+                    : String.valueOf(last.getCreatedAt())) + "_" + last.getId();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
     }
 }
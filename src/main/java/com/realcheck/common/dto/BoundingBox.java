@@ -0,0 +1,101 @@
+package com.realcheck.common.dto;
+
+import com.realcheck.util.GeoUtil;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * BoundingBox
+ * - 지도 화면(viewport) 사각 범위 조회 파라미터 (minLat, minLng, maxLat, maxLng, zoom)
+ * - 쿼리 파라미터에서 바로 바인딩되며, 원(반경) 대신 화면과 같은 사각형으로 조회하여 불필요한 조회를 줄임
+ * - zoom: 지도 확대 수준 (마커 클러스터링, 클라이언트 타일 단위 캐시 키 등에 사용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoundingBox {
+
+    // 한 번에 조회할 수 있는 최대 범위 (위도/경도 각각, 도 단위) - 개별 항목을 반환하는 조회
+    private static final double MAX_SPAN_DEGREES = 1.0;
+    // 클러스터 조회에서 화면 한 변에 허용하는 최대 타일(256px) 수 (약 2560px, 큰 모니터 전체 화면 포함)
+    static final int MAX_VIEWPORT_TILES = 10;
+
+    private Double minLat;
+    private Double minLng;
+    private Double maxLat;
+    private Double maxLng;
+    private Integer zoom;
+
+    /**
+     * 범위 유효성 검사 (개별 항목 조회)
+     * - 네 좌표 필수, 최소값 ≤ 최대값, 위도 -90~90, 경도 -180~180
+     * - 과도하게 넓은 범위(1도 초과)는 전체 스캔에 가까워지므로 zoom과 관계없이 거부
+     */
+    public void validate() {
+        validateCoordinates();
+        checkSpan(MAX_SPAN_DEGREES);
+    }
+
+    /**
+     * 범위 유효성 검사 (클러스터 조회 전용)
+     * - zoom 필수이며, 최대 범위는 해당 zoom의 화면 크기에 맞춰 늘어남 (maxClusterSpanDegrees)
+     *   → 저배율(넓은 지역) 화면도 클러스터로 조회 가능하고, zoom에 비해 과도하게 넓은 범위만 거부
+     */
+    public void validateForClusters() {
+        validateCoordinates();
+        checkSpan(maxClusterSpanDegrees(requireZoom()));
+    }
+
+    /**
+     * 클러스터 조회 허용 최대 범위 (도 단위)
+     * - 해당 zoom에서 MAX_VIEWPORT_TILES 타일 폭 (360 / 2^zoom x 타일 수, 최소 MAX_SPAN_DEGREES)
+     *   → zoom 5 이하에서는 전 세계 범위도 허용 (응답 크기는 MapClusterer 셀 수로 제한됨)
+     */
+    static double maxClusterSpanDegrees(int zoom) {
+        return Math.max(MAX_SPAN_DEGREES, MAX_VIEWPORT_TILES * 360.0 / (1L << zoom));
+    }
+
+    /**
+     * 클러스터 조회용 zoom 값 (필수)
+     */
+    public int requireZoom() {
+        if (zoom == null)
+            throw new IllegalArgumentException("zoom 값이 필요합니다.");
+        return zoom;
+    }
+
+    // 좌표 필수 / 대소 관계 / 위경도 범위 / zoom 범위 확인
+    private void validateCoordinates() {
+        if (minLat == null || minLng == null || maxLat == null || maxLng == null)
+            throw new IllegalArgumentException("minLat, minLng, maxLat, maxLng 값이 필요합니다.");
+        if (minLat > maxLat || minLng > maxLng)
+            throw new IllegalArgumentException("최소 좌표가 최대 좌표보다 클 수 없습니다.");
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180)
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다.");
+        if (zoom != null && (zoom < 0 || zoom > 21))
+            throw new IllegalArgumentException("잘못된 zoom 값: " + zoom);
+    }
+
+    private void checkSpan(double maxSpan) {
+        if (maxLat - minLat > maxSpan || maxLng - minLng > maxSpan)
+            throw new IllegalArgumentException("조회 범위가 너무 넓습니다. 지도를 확대해 주세요.");
+    }
+
+    /**
+     * 좌표가 범위 안에 있는지 여부 (경계 포함)
+     */
+    public boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+
+    /**
+     * MBRContains 비교용 사각형 WKT
+     */
+    public String toEnvelope() {
+        return GeoUtil.envelope(minLat, minLng, maxLat, maxLng);
+    }
+}
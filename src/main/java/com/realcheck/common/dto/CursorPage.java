@@ -0,0 +1,21 @@
+package com.realcheck.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 결과
+ * - 전체 건수/페이지 수를 세지 않음 (COUNT 쿼리 없음)
+ * - 다음 페이지는 nextCursor를 그대로 다시 보내 조회 (마지막 페이지면 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
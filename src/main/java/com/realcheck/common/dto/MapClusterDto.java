@@ -0,0 +1,19 @@
+package com.realcheck.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * MapClusterDto
+ * - 지도 마커 클러스터 (MapClusterer 결과)
+ * - count > 1: 묶인 마커들의 중심 좌표(centroid)와 개수만 전달 (item = null)
+ * - count = 1: 개별 마커이며 item에 원본 데이터 포함
+ */
+@Getter
+@AllArgsConstructor
+public class MapClusterDto<T> {
+    private double lat;
+    private double lng;
+    private int count;
+    private T item;
+}
@@ -0,0 +1,68 @@
+package com.realcheck.common.event;
+
+import com.realcheck.place.dto.PlaceDto;
+import com.realcheck.request.dto.RequestDto;
+import com.realcheck.status.dto.StatusLogDto;
+
+/**
+ * DomainEvent
+ * - 상태 로그 / 요청 / 장소 / 포인트 변경 이벤트 (DomainEventBus로 커밋 이후 발행)
+ * - 같은 서버에서는 Spring 이벤트(@EventListener)로, 다른 서버에는 Redis pub/sub으로 전달
+ *
+ * @param type    이벤트 종류 (payload 타입 결정)
+ * @param lat     변경 위치 위도 (없으면 null)
+ * @param lng     변경 위치 경도 (없으면 null)
+ * @param payload 커밋 시점 스냅샷 (type.getPayloadType() 타입)
+ * @param remote  다른 서버에서 발생해 Redis로 전달된 이벤트 여부
+ */
+public record DomainEvent(Type type, Double lat, Double lng, Object payload, boolean remote) {
+
+    /**
+     * 이벤트 종류 + payload 타입
+     */
+    public enum Type {
+        STATUS_CREATED(StatusLogDto.class),
+        STATUS_UPDATED(StatusLogDto.class),
+        STATUS_SELECTED(StatusLogDto.class),
+        STATUS_HIDDEN(StatusLogDto.class),
+        STATUS_DELETED(StatusLogDto.class),
+        // 사용자 삭제로 작성 로그 전체 제거 (payload: 사용자 ID)
+        STATUS_PURGED_BY_USER(Long.class),
+        REQUEST_CREATED(RequestDto.class),
+        REQUEST_CLOSED(RequestDto.class),
+        PLACE_SAVED(PlaceDto.class),
+        // payload: 장소 ID
+        PLACE_DELETED(Long.class),
+        POINT_CHANGED(PointChange.class);
+
+        private final Class<?> payloadType;
+
+        Type(Class<?> payloadType) {
+            this.payloadType = payloadType;
+        }
+
+        public Class<?> getPayloadType() {
+            return payloadType;
+        }
+    }
+
+    /**
+     * 포인트 변경 payload (지급/차감액, 변경 후 잔액)
+     */
+    public record PointChange(Long userId, int amount, int balance, String type) {
+    }
+
+    /**
+     * payload를 지정 타입으로 반환 (타입이 다르면 null)
+     */
+    public <T> T payloadAs(Class<T> type) {
+        return type.isInstance(payload) ? type.cast(payload) : null;
+    }
+
+    /**
+     * 좌표 포함 여부
+     */
+    public boolean hasLocation() {
+        return lat != null && lng != null;
+    }
+}
@@ -0,0 +1,308 @@
+package com.realcheck.common.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realcheck.place.dto.PlaceDto;
+import com.realcheck.place.entity.Place;
+import com.realcheck.request.dto.RequestDto;
+import com.realcheck.request.entity.Request;
+import com.realcheck.status.dto.StatusLogDto;
+import com.realcheck.status.entity.StatusLog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DomainEventBus
+ *
+ * - 상태 로그 / 요청 / 장소 / 포인트 변경 이벤트를 커밋 이후 발행
+ * - 같은 서버: Spring 이벤트로 즉시 전달 (실시간 구독, 로컬 캐시 등은 @EventListener로 수신)
+ * - 다른 서버: 발행 대기열에 모아 50ms마다 묶음(batch) 단위로 Redis pub/sub 채널에 전송
+ * - 묶음은 null 필드를 뺀 짧은 키 JSON이며, 1KB 이상이면 gzip 압축 (첫 바이트로 구분)
+ * - 자기 서버가 보낸 묶음은 노드 ID로 걸러서 무시
+ * - Redis 장애 시 해당 묶음은 버림 (수신 측 로컬 캐시는 짧은 TTL로 수렴, 실시간 알림만 누락)
+ */
+@Slf4j
+@Component
+public class DomainEventBus implements MessageListener {
+
+    // Redis pub/sub 채널
+    public static final String CHANNEL = "realcheck:events";
+
+    // 묶음 전송 주기 / 최대 크기
+    static final long FLUSH_INTERVAL_MILLIS = 50;
+    static final int MAX_BATCH_SIZE = 256;
+    // 발행 대기열 상한 (Redis 지연 시 메모리 보호, 초과분은 버림)
+    private static final int OUTBOX_CAPACITY = 50_000;
+    // 이 크기 이상이면 gzip 압축
+    private static final int COMPRESS_THRESHOLD_BYTES = 1024;
+    // 본문 형식 표시 (첫 바이트)
+    private static final byte FORMAT_JSON = 'J';
+    private static final byte FORMAT_GZIP = 'Z';
+
+    private static final byte[] CHANNEL_BYTES = CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ObjectMapper wireMapper;
+
+    // 서버 인스턴스 식별자 (자기 메시지 무시용)
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final BlockingQueue<DomainEvent> outbox = new LinkedBlockingQueue<>(OUTBOX_CAPACITY);
+    private final AtomicLong dropped = new AtomicLong();
+    private ScheduledExecutorService flusher;
+
+    public DomainEventBus(RedisTemplate<String, String> redisTemplate, ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.wireMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "domain-event-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null)
+            flusher.shutdown();
+        flushQuietly();
+    }
+
+    // ─────────────────────────────────────────────
+    // [1] 발행
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 상태 로그 변경 이벤트
+     * StatusLogService: registerInternal, updateStatusLog, selectAnswer, deleteStatusLog
+     * ReportService: report, cancelReport
+     * ReportAdminService: deleteReport
+     * StatusLogAdminService: blockLog, unblockLog
+     */
+    public void publishAfterCommit(DomainEvent.Type type, StatusLog log) {
+        publishAfterCommit(type, log.getLat(), log.getLng(), () -> StatusLogDto.fromEntity(log));
+    }
+
+    /**
+     * [1-2] 요청 등록/마감 이벤트
+     * RequestService: createRequest, closeRequest, save
+     * StatusLogService: selectAnswer
+     */
+    public void publishAfterCommit(DomainEvent.Type type, Request request) {
+        publishAfterCommit(type, request.getLat(), request.getLng(),
+                () -> RequestDto.fromEntity(request, request.getVisibleAnswerCount()));
+    }
+
+    /**
+     * [1-3] 장소 추가/갱신 이벤트
+     * PlaceGeoIndex: upsertAfterCommit
+     */
+    public void publishAfterCommit(DomainEvent.Type type, Place place) {
+        publishAfterCommit(type, place.getLat(), place.getLng(), () -> PlaceDto.fromEntity(place));
+    }
+
+    /**
+     * [1-4] 이벤트 발행 (커밋 직전 스냅샷 → 커밋 이후 전달, 트랜잭션 밖이면 즉시)
+     * - 롤백되면 발행하지 않음
+     */
+    public void publishAfterCommit(DomainEvent.Type type, Double lat, Double lng, Supplier<?> snapshot) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(new DomainEvent(type, lat, lng, snapshot.get(), false));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private Object payload;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                entityManager.flush();
+                payload = snapshot.get();
+            }
+
+            @Override
+            public void afterCommit() {
+                dispatch(new DomainEvent(type, lat, lng, payload, false));
+            }
+        });
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] Redis 중계
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 대기 중인 이벤트를 묶음 단위로 Redis 채널에 전송
+     * - 50ms 주기 전송 스레드에서 호출
+     *
+     * @return 전송한 이벤트 수
+     */
+    public int flush() {
+        int sent = 0;
+        List<DomainEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (outbox.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            byte[] body = encode(batch);
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(CHANNEL_BYTES, body));
+            sent += batch.size();
+            batch.clear();
+        }
+        return sent;
+    }
+
+    /**
+     * [2-2] 다른 서버에서 보낸 묶음 수신 (RedisMessageListenerContainer)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        WireBatch batch;
+        try {
+            batch = decode(message.getBody());
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("[DomainEventBus] 메시지 해석 실패 - 무시: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(batch.n()))
+            return;
+
+        for (WireEvent wire : batch.e()) {
+            DomainEvent event;
+            try {
+                DomainEvent.Type type = DomainEvent.Type.valueOf(wire.t());
+                Object payload = wire.p() != null ? wireMapper.convertValue(wire.p(), type.getPayloadType()) : null;
+                event = new DomainEvent(type, wire.a(), wire.o(), payload, true);
+            } catch (IllegalArgumentException e) {
+                // 버전이 다른 서버가 보낸 알 수 없는 이벤트/필드
+                log.debug("[DomainEventBus] 이벤트 변환 실패 - 무시: {}", wire.t());
+                continue;
+            }
+            publishLocally(event);
+        }
+    }
+
+    /**
+     * [2-3] 대기열 초과로 버린 이벤트 수 (모니터링용)
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    private void dispatch(DomainEvent event) {
+        publishLocally(event);
+        if (!outbox.offer(event) && dropped.incrementAndGet() % 1000 == 1) {
+            log.warn("[DomainEventBus] 발행 대기열 초과 - 이벤트 버림 (누적 {}건)", dropped.get());
+        }
+    }
+
+    // 수신 측 오류가 커밋된 요청의 응답이나 다른 수신 측에 영향을 주지 않도록 격리
+    private void publishLocally(DomainEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.warn("[DomainEventBus] 이벤트 처리 실패 ({}): {}", event.type(), e.getMessage());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RedisConnectionFailureException e) {
+            log.debug("[DomainEventBus] Redis 연결 실패 - 묶음 전송 생략");
+        } catch (RuntimeException e) {
+            log.warn("[DomainEventBus] 묶음 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    byte[] encode(List<DomainEvent> events) {
+        List<WireEvent> wire = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            wire.add(new WireEvent(event.type().name(), event.lat(), event.lng(), event.payload()));
+        }
+        try {
+            byte[] json = wireMapper.writeValueAsBytes(new WireBatch(nodeId, wire));
+            if (json.length < COMPRESS_THRESHOLD_BYTES)
+                return withFormat(FORMAT_JSON, json);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return withFormat(FORMAT_GZIP, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패", e);
+        }
+    }
+
+    WireBatch decode(byte[] body) throws IOException {
+        if (body == null || body.length < 2)
+            throw new IllegalArgumentException("빈 메시지");
+        InputStream json = new ByteArrayInputStream(body, 1, body.length - 1);
+        if (body[0] == FORMAT_GZIP)
+            json = new GZIPInputStream(json);
+        else if (body[0] != FORMAT_JSON)
+            throw new IllegalArgumentException("알 수 없는 형식: " + body[0]);
+        return wireMapper.readValue(json, WireBatch.class);
+    }
+
+    private static byte[] withFormat(byte format, byte[] data) {
+        byte[] body = new byte[data.length + 1];
+        body[0] = format;
+        System.arraycopy(data, 0, body, 1, data.length);
+        return body;
+    }
+
+    /**
+     * 전송 묶음 (n: 보낸 서버 ID, e: 이벤트 목록)
+     */
+    record WireBatch(String n, List<WireEvent> e) {
+    }
+
+    /**
+     * 전송 이벤트 (t: 종류, a: 위도, o: 경도, p: payload)
+     */
+    record WireEvent(String t, Double a, Double o, Object p) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.realcheck.common.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.realcheck.common.service.LocalViewDedup;
+import com.realcheck.common.service.ViewTrackingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ViewTrackingHealthIndicator
+ *
+ * - /actuator/health 의 viewTracking 항목
+ * - Redis 정상: UP (mode=redis)
+ * - Redis 장애로 로컬 중복 필터 사용 중: DEGRADED (mode=local, 전환 시각, 현재 세대 기록 수)
+ */
+@Component("viewTracking")
+@RequiredArgsConstructor
+public class ViewTrackingHealthIndicator implements HealthIndicator {
+
+    private final ViewTrackingService viewTrackingService;
+    private final LocalViewDedup localViewDedup;
+
+    @Override
+    public Health health() {
+        if (!viewTrackingService.isDegraded()) {
+            return Health.up()
+                    .withDetail("mode", "redis")
+                    .build();
+        }
+        return Health.status("DEGRADED")
+                .withDetail("mode", "local")
+                .withDetail("degradedSince", String.valueOf(viewTrackingService.getDegradedSince()))
+                .withDetail("localEntries", localViewDedup.currentCount())
+                .build();
+    }
+}
@@ -0,0 +1,370 @@
+package com.realcheck.common.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.util.GeoUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GeoFeedService
+ *
+ * - 지도 화면(map/nearby, map/free-share)용 WebSocket 실시간 피드
+ * - 세션이 보고 있는 화면 범위를 고정 크기 타일(geotile) 집합으로 바꿔 "타일 → 구독 세션" 목록에 등록
+ * - 상태 로그/요청 변경 이벤트(DomainEvent) 수신 시 해당 좌표 타일의 구독 세션에만 변경분(delta) 전송
+ * - 세션마다 전송 대기열(최대 MAX_PENDING_MESSAGES개)을 두고, 이벤트 스레드는 대기열에 넣기만 함 (블로킹 없음)
+ * - 대기열은 세션당 하나의 전송 작업이 순서대로 비우므로, 느린 클라이언트는 자기 대기열만 차서
+ *   자기 메시지만 오래된 것부터 버려짐 (다른 세션의 전송/대기열에는 영향 없음)
+ * - 한 번의 전송이 5초 이상 막힌 세션은 연결 종료 → 클라이언트는 재연결 후 목록을 다시 조회
+ * - 구독 정보는 서버 인스턴스별로 관리하며, 다른 서버에서 발생한 변경은 Redis로 중계된 이벤트로 수신
+ */
+@Slf4j
+@Component
+public class GeoFeedService {
+
+    // 메시지 type (클라이언트 구분용)
+    public static final String STATUS_CREATED = "status-created";
+    public static final String STATUS_UPDATED = "status-updated";
+    public static final String STATUS_HIDDEN = "status-hidden";
+    public static final String STATUS_DELETED = "status-deleted";
+    public static final String REQUEST_CREATED = "request-created";
+    public static final String REQUEST_CLOSED = "request-closed";
+
+    // 타일 크기 (0.05도 ≈ 위도 방향 5.5km, 화면 최대 1도 → 최대 21 x 21 타일)
+    static final double TILE_DEGREES = 0.05;
+    // 서버 인스턴스당 최대 동시 세션 수
+    static final int MAX_SESSIONS = 10_000;
+    // 한 번의 전송 최대 대기 시간 (초과 시 연결 종료)
+    static final int SEND_TIME_LIMIT_MILLIS = 5_000;
+    // 세션별 전송 대기 메시지 상한 (초과 시 해당 세션의 가장 오래된 메시지부터 버림)
+    static final int MAX_PENDING_MESSAGES = 100;
+    // 전송 스레드 수 (막힌 세션 하나는 최대 SEND_TIME_LIMIT_MILLIS 동안 스레드 하나만 점유)
+    private static final int SENDER_THREADS = 8;
+
+    private final ObjectMapper objectMapper;
+
+    // 타일 키 → 구독 세션 목록
+    private final Map<Long, Set<Subscriber>> subscribersByTile = new ConcurrentHashMap<>();
+    // 세션 ID → 세션 + 구독 중인 타일 + 전송 대기열
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    // 대기열 초과로 버린 메시지 수 (전체 세션 합계)
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    // 세션별 전송 작업 실행 (세션당 동시에 최대 1개이므로 작업 수는 세션 수를 넘지 않음)
+    private final ThreadPoolExecutor sender;
+
+    public GeoFeedService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(SENDER_THREADS, SENDER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_SESSIONS),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "geo-feed-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+    }
+
+    // ─────────────────────────────────────────────
+    // [1] 세션 / 구독 관리
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 세션 등록
+     * MapFeedWebSocketHandler: afterConnectionEstablished
+     *
+     * @return 최대 세션 수 초과 시 false
+     */
+    public boolean register(WebSocketSession session) {
+        if (subscribers.size() >= MAX_SESSIONS)
+            return false;
+        subscribers.put(session.getId(), new Subscriber(session));
+        return true;
+    }
+
+    /**
+     * [1-2] 화면 범위 구독 (이전 구독 범위는 교체)
+     * MapFeedWebSocketHandler: handleTextMessage
+     *
+     * @return 구독 중인 타일 수
+     */
+    public int subscribe(String sessionId, BoundingBox box) {
+        box.validate();
+        Subscriber subscriber = subscribers.get(sessionId);
+        if (subscriber == null)
+            throw new IllegalStateException("등록되지 않은 세션입니다.");
+
+        Set<Long> tiles = new HashSet<>();
+        int minY = GeoUtil.cellLat(box.getMinLat(), TILE_DEGREES);
+        int maxY = GeoUtil.cellLat(box.getMaxLat(), TILE_DEGREES);
+        int minX = GeoUtil.cellLng(box.getMinLng(), TILE_DEGREES);
+        int maxX = GeoUtil.cellLng(box.getMaxLng(), TILE_DEGREES);
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                tiles.add(GeoUtil.cellKey(y, x));
+            }
+        }
+
+        synchronized (subscriber) {
+            for (Long tile : subscriber.tiles) {
+                if (!tiles.contains(tile))
+                    removeFromTile(tile, subscriber);
+            }
+            for (Long tile : tiles) {
+                if (!subscriber.tiles.contains(tile))
+                    addToTile(tile, subscriber);
+            }
+            subscriber.tiles = tiles;
+        }
+        return tiles.size();
+    }
+
+    /**
+     * [1-3] 세션 해제 (연결 종료/전송 오류)
+     * MapFeedWebSocketHandler: afterConnectionClosed, handleTransportError
+     */
+    public void unregister(String sessionId) {
+        Subscriber subscriber = subscribers.remove(sessionId);
+        if (subscriber == null)
+            return;
+        synchronized (subscriber) {
+            subscriber.tiles.forEach(tile -> removeFromTile(tile, subscriber));
+            subscriber.tiles = Set.of();
+        }
+        synchronized (subscriber.pending) {
+            subscriber.pending.clear();
+        }
+    }
+
+    /**
+     * [1-4] 특정 세션에 직접 응답 (구독 확인, 오류 안내)
+     * MapFeedWebSocketHandler: handleTextMessage
+     * - 변경분과 같은 대기열을 거치므로 세션별 전송 순서가 유지됨
+     */
+    public void reply(String sessionId, String type, Object data) {
+        Subscriber subscriber = subscribers.get(sessionId);
+        TextMessage message = toMessage(type, data);
+        if (subscriber != null && message != null)
+            enqueue(subscriber, message);
+    }
+
+    /**
+     * [1-5] 현재 세션 수 (모니터링용)
+     */
+    public int sessionCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * [1-6] 전송 대기열 초과로 버린 메시지 수 (모니터링용)
+     */
+    public long droppedMessages() {
+        return droppedMessages.get();
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 변경분 전송
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 상태 로그 / 요청 변경 전송 (DomainEventBus 커밋 이후 이벤트, 다른 서버 발생분 포함)
+     * - 구독자가 없는 타일이면 직렬화 없이 바로 종료
+     * - 메시지는 한 번만 직렬화해 구독 세션들의 대기열에 넣기만 하고 바로 반환
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        String type = feedTypeOf(event.type());
+        if (type == null || !event.hasLocation())
+            return;
+        long tile = GeoUtil.cellKey(GeoUtil.cellLat(event.lat(), TILE_DEGREES),
+                GeoUtil.cellLng(event.lng(), TILE_DEGREES));
+        Set<Subscriber> tileSubscribers = subscribersByTile.get(tile);
+        if (tileSubscribers == null)
+            return;
+        TextMessage message = toMessage(type, event.payload());
+        if (message == null)
+            return;
+        tileSubscribers.forEach(subscriber -> enqueue(subscriber, message));
+    }
+
+    /**
+     * [2-2] 전송이 막힌 세션 종료 (1초마다 실행)
+     * - 한 번의 전송이 SEND_TIME_LIMIT_MILLIS 이상 끝나지 않은 세션을 해제하고 연결 종료
+     *   (막힌 전송 스레드도 연결 종료로 풀려남, 클라이언트는 재연결 유도)
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void closeStalledSessions() {
+        closeStalledSessions(System.currentTimeMillis());
+    }
+
+    void closeStalledSessions(long nowMillis) {
+        for (Subscriber subscriber : subscribers.values()) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt == 0 || nowMillis - startedAt < SEND_TIME_LIMIT_MILLIS)
+                continue;
+            log.debug("[GeoFeed] 느린 클라이언트 연결 종료: {}", subscriber.session.getId());
+            unregister(subscriber.session.getId());
+            try {
+                subscriber.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | RuntimeException ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    private static String feedTypeOf(DomainEvent.Type type) {
+        return switch (type) {
+            case STATUS_CREATED -> STATUS_CREATED;
+            case STATUS_UPDATED -> STATUS_UPDATED;
+            case STATUS_HIDDEN -> STATUS_HIDDEN;
+            case STATUS_DELETED -> STATUS_DELETED;
+            case REQUEST_CREATED -> REQUEST_CREATED;
+            case REQUEST_CLOSED -> REQUEST_CLOSED;
+            default -> null;
+        };
+    }
+
+    // 세션 대기열에 추가 (가득 차면 해당 세션의 가장 오래된 메시지를 버림) 후 전송 작업 예약
+    private void enqueue(Subscriber subscriber, TextMessage message) {
+        synchronized (subscriber.pending) {
+            if (subscriber.pending.size() >= MAX_PENDING_MESSAGES) {
+                subscriber.pending.pollFirst();
+                droppedMessages.incrementAndGet();
+            }
+            subscriber.pending.addLast(message);
+        }
+        scheduleDrain(subscriber);
+    }
+
+    // 세션당 전송 작업은 동시에 하나만 실행 (세션 내 전송 순서 보장)
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true))
+            return;
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            TextMessage message;
+            while ((message = poll(subscriber)) != null) {
+                if (!send(subscriber, message))
+                    return;
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 마지막 확인 이후 추가된 메시지가 있으면 다시 예약
+        if (hasPending(subscriber) && subscribers.get(subscriber.session.getId()) == subscriber)
+            scheduleDrain(subscriber);
+    }
+
+    private static TextMessage poll(Subscriber subscriber) {
+        synchronized (subscriber.pending) {
+            return subscriber.pending.pollFirst();
+        }
+    }
+
+    private static boolean hasPending(Subscriber subscriber) {
+        synchronized (subscriber.pending) {
+            return !subscriber.pending.isEmpty();
+        }
+    }
+
+    // 전송 성공 시 true, 실패(연결 끊김) 시 구독 해제 후 false
+    private boolean send(Subscriber subscriber, TextMessage message) {
+        WebSocketSession session = subscriber.session;
+        subscriber.sendStartedAt = System.currentTimeMillis();
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[GeoFeed] 전송 실패 - 구독 해제: {}", session.getId());
+            unregister(session.getId());
+            return false;
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+    }
+
+    private TextMessage toMessage(String type, Object data) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(Map.of("type", type, "data", data)));
+        } catch (JsonProcessingException e) {
+            log.warn("[GeoFeed] 직렬화 실패 - 전송 생략: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 타일 목록 추가/제거는 같은 키 단위 compute로 처리 (빈 목록 제거와 추가가 엇갈리지 않도록)
+    private void addToTile(Long tile, Subscriber subscriber) {
+        subscribersByTile.compute(tile, (k, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+    }
+
+    private void removeFromTile(Long tile, Subscriber subscriber) {
+        subscribersByTile.computeIfPresent(tile, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 세션별 구독 상태
+     * - 타일 집합은 subscribe/unregister에서 세션 단위로 동기화하여 교체
+     * - 전송 대기열은 pending 자체로 동기화, 전송 작업은 draining으로 세션당 하나만 실행
+     */
+    private static final class Subscriber {
+        private final WebSocketSession session;
+        private final Deque<TextMessage> pending = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 진행 중인 전송 시작 시각 (0: 전송 중 아님)
+        private volatile long sendStartedAt;
+        private Set<Long> tiles = Set.of();
+
+        private Subscriber(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.realcheck.common.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.request.dto.RequestDto;
+import com.realcheck.status.dto.StatusLogDto;
+import com.realcheck.user.entity.User;
+import com.realcheck.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LeaderboardService
+ *
+ * - 사용자 순위(Top N)를 Redis sorted set으로 유지 (member: 사용자 ID, score: 건수/잔액)
+ * - 쓰기 시점에 ZINCRBY로 증감하므로 Top N 조회는 ZREVRANGE 한 번 (테이블 전체 GROUP BY/정렬 없음)
+ * - 증감 경로: 상태 로그 등록/삭제, 요청 등록, 포인트 변경 이벤트(DomainEvent) + 신고/신고 취소 커밋 이후 호출
+ * - 순위표가 아직 만들어지지 않았으면(재구성 전) 증감하지 않음 → 일부만 반영된 순위가 노출되지 않도록
+ * - 삭제 연쇄 등 이벤트로 잡히지 않은 변경은 LeaderboardRebuildScheduler가 MySQL 기준으로 주기적으로 다시 만듦
+ * - Redis 장애 시 조회는 빈 값을 반환하고(호출한 쪽이 DB 집계로 대체), 증감은 건너뜀 (다음 재구성 때 보정)
+ *
+ * Redis 키 구성
+ * - leaderboard:{board}          사용자별 점수
+ * - leaderboard:{board}:rebuild  재구성 중인 임시 키 (완료 시 RENAME으로 교체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    // 재구성 시 ZADD 한 번에 넣는 최대 사용자 수
+    static final int REBUILD_CHUNK_SIZE = 1_000;
+    // 삭제된 사용자가 순위에 남아 있는 경우를 대비해 더 읽어오는 수
+    private static final int LOOKUP_SLACK = 10;
+
+    // 순위표가 있을 때만 증감 (재구성 전에는 키가 없으므로 무시)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+
+    /**
+     * 순위표 종류
+     */
+    public enum Board {
+        // 상태 로그 작성 수
+        CONTRIBUTORS,
+        // 요청 등록 수
+        REQUESTERS,
+        // 작성 로그가 신고당한 수
+        REPORTED,
+        // 포인트 잔액
+        POINTS;
+
+        String key() {
+            return KEY_PREFIX + name().toLowerCase();
+        }
+    }
+
+    /**
+     * 순위 항목 (사용자 + 점수)
+     */
+    public record Ranked(User user, long score) {
+    }
+
+    // ─────────────────────────────────────────────
+    // [1] 점수 증감
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 상태 로그 / 요청 / 포인트 변경 이벤트 반영 (DomainEventBus 커밋 이후 이벤트)
+     * - 발생한 서버에서만 반영 (Redis는 서버 간 공유이므로 중계된 이벤트까지 반영하면 중복)
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (event.remote())
+            return;
+        switch (event.type()) {
+            case STATUS_CREATED -> incrementContributor(event.payloadAs(StatusLogDto.class), 1);
+            case STATUS_DELETED -> incrementContributor(event.payloadAs(StatusLogDto.class), -1);
+            case REQUEST_CREATED -> {
+                RequestDto dto = event.payloadAs(RequestDto.class);
+                if (dto != null)
+                    increment(Board.REQUESTERS, dto.getRequesterId(), 1);
+            }
+            case POINT_CHANGED -> {
+                DomainEvent.PointChange change = event.payloadAs(DomainEvent.PointChange.class);
+                if (change != null)
+                    increment(Board.POINTS, change.userId(), change.amount());
+            }
+            case STATUS_PURGED_BY_USER -> removeUser(event.payloadAs(Long.class));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * [1-2] 점수 증감 (커밋 이후 반영, 트랜잭션 밖이면 즉시)
+     * ReportService: report, cancelReport
+     * - 롤백되면 반영하지 않음
+     */
+    public void incrementAfterCommit(Board board, Long userId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(board, userId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(board, userId, delta);
+            }
+        });
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 순위 조회
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 상위 N명 (점수 내림차순)
+     * AdminStatsService: getTopRequestUsers, getTopReportedUsers, getTopContributingUsers
+     * AdminPointService: getTopUsersByPoints
+     * - ZREVRANGE 1회 + 사용자 PK 조회 1회 (이미 삭제된 사용자는 제외)
+     *
+     * @return 순위표가 없거나(재구성 전) Redis 장애 시 빈 값 → 호출한 쪽에서 DB 집계로 대체
+     */
+    public Optional<List<Ranked>> top(Board board, int limit) {
+        Set<TypedTuple<String>> tuples;
+        try {
+            tuples = redisTemplate.opsForZSet().reverseRangeWithScores(board.key(), 0, limit + LOOKUP_SLACK - 1L);
+        } catch (DataAccessException e) {
+            log.warn("[Leaderboard] {} 조회 실패 - DB 집계로 대체: {}", board, e.getMessage());
+            return Optional.empty();
+        }
+        if (tuples == null || tuples.isEmpty())
+            return Optional.empty();
+
+        Map<Long, Long> scores = new LinkedHashMap<>();
+        tuples.forEach(tuple -> scores.put(Long.valueOf(tuple.getValue()),
+                tuple.getScore() != null ? tuple.getScore().longValue() : 0L));
+        Map<Long, User> users = userRepository.findAllById(scores.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Ranked> ranked = new ArrayList<>(limit);
+        for (Map.Entry<Long, Long> entry : scores.entrySet()) {
+            User user = users.get(entry.getKey());
+            if (user != null && ranked.size() < limit)
+                ranked.add(new Ranked(user, entry.getValue()));
+        }
+        return Optional.of(ranked);
+    }
+
+    // ─────────────────────────────────────────────
+    // [3] 순위표 재구성
+    // ─────────────────────────────────────────────
+
+    /**
+     * [3-1] 순위표 전체 교체 (MySQL 집계 결과 기준)
+     * LeaderboardRebuildScheduler: rebuild
+     * - 임시 키에 ZADD(REBUILD_CHUNK_SIZE명씩 파이프라인) 후 RENAME으로 한 번에 교체 (조회 중 빈 순위표 노출 없음)
+     * - 재구성 도중 들어온 증감은 교체 시 사라질 수 있음 (다음 재구성에서 보정)
+     *
+     * @param rows [사용자 ID, 점수] 목록
+     * @return 순위표 사용자 수
+     */
+    public int replace(Board board, List<Object[]> rows) {
+        String tempKey = board.key() + REBUILD_SUFFIX;
+        redisTemplate.delete(tempKey);
+        if (rows.isEmpty()) {
+            redisTemplate.delete(board.key());
+            return 0;
+        }
+
+        for (int from = 0; from < rows.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, rows.size()));
+            Set<TypedTuple<String>> tuples = new HashSet<>(chunk.size() * 2);
+            for (Object[] row : chunk) {
+                tuples.add(TypedTuple.of(String.valueOf(row[0]), ((Number) row[1]).doubleValue()));
+            }
+            redisTemplate.opsForZSet().add(tempKey, tuples);
+        }
+        redisTemplate.rename(tempKey, board.key());
+        return rows.size();
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    private void incrementContributor(StatusLogDto dto, long delta) {
+        if (dto != null)
+            increment(Board.CONTRIBUTORS, dto.getUserId(), delta);
+    }
+
+    private void increment(Board board, Long userId, long delta) {
+        if (userId == null || delta == 0)
+            return;
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(board.key()), String.valueOf(delta), String.valueOf(userId));
+        } catch (DataAccessException e) {
+            log.debug("[Leaderboard] {} 증감 실패 - 재구성 때 보정 (userId={}): {}", board, userId, e.getMessage());
+        }
+    }
+
+    // 사용자 삭제 시 모든 순위표에서 제거 (파이프라인 1회)
+    private void removeUser(Long userId) {
+        if (userId == null)
+            return;
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (Board board : Board.values()) {
+                        operations.opsForZSet().remove(board.key(), String.valueOf(userId));
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.debug("[Leaderboard] 사용자 제거 실패 - 재구성 때 보정 (userId={}): {}", userId, e.getMessage());
+        }
+    }
+}
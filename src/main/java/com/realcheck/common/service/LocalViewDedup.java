@@ -0,0 +1,103 @@
+package com.realcheck.common.service;
+
+import java.time.Duration;
+import java.util.BitSet;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * LocalViewDedup
+ *
+ * - Redis 장애 시 ViewTrackingService가 대신 사용하는 프로세스 내부 중복 조회 필터
+ * - 세대(generation) 2개를 교대로 사용하는 블룸 필터로, 메모리 사용량이 항목 수와 무관하게 고정됨
+ * - 현재 세대가 TTL의 절반을 넘기면 이전 세대를 버리고 새 세대를 시작 → 기록은 TTL/2 ~ TTL 동안 유지
+ * - 블룸 필터 특성상 드물게(약 1%) 처음 보는 조회를 중복으로 판단할 수 있음 (조회수는 근사치로 집계)
+ * - 인스턴스별로 따로 유지되므로 서버가 여러 대이면 서버마다 한 번씩 집계될 수 있음
+ */
+@Component
+public class LocalViewDedup {
+
+    // 세대당 비트 수 (2^22 = 512KB) - 약 40만 건에서 오탐률 1% 수준
+    private static final int BITS = 1 << 22;
+    // 항목당 해시 함수 개수
+    private static final int HASHES = 4;
+
+    private final long rotateAfterMillis;
+
+    private BitSet current = new BitSet(BITS);
+    private BitSet previous = new BitSet(BITS);
+    private long currentStartedAt;
+    private int currentCount;
+
+    public LocalViewDedup() {
+        this(Duration.ofHours(3));
+    }
+
+    LocalViewDedup(Duration ttl) {
+        this.rotateAfterMillis = ttl.toMillis() / 2;
+        this.currentStartedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * [1] 최근 조회 기록이 없으면 기록하고 true 반환 (확인 + 기록을 한 번에 처리)
+     * ViewTrackingService: canIncreaseView, canIncreaseViews (Redis 장애 시)
+     *
+     * @return true: 조회 가능 (중복 아님), false: 최근에 이미 조회한 것으로 판단
+     */
+    public synchronized boolean tryMark(Long userId, Long logId) {
+        rotateIfExpired();
+
+        long hash = hash(userId, logId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        if (contains(current, h1, h2) || contains(previous, h1, h2)) {
+            return false;
+        }
+        for (int i = 0; i < HASHES; i++) {
+            current.set(index(h1, h2, i));
+        }
+        currentCount++;
+        return true;
+    }
+
+    /**
+     * [2] 현재 세대에 기록된 조회 수 (헬스 체크용)
+     */
+    public synchronized int currentCount() {
+        return currentCount;
+    }
+
+    // 현재 세대가 TTL/2를 넘기면 세대 교체
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - currentStartedAt < rotateAfterMillis)
+            return;
+
+        previous = current;
+        current = new BitSet(BITS);
+        currentStartedAt = now;
+        currentCount = 0;
+    }
+
+    private static boolean contains(BitSet bits, int h1, int h2) {
+        for (int i = 0; i < HASHES; i++) {
+            if (!bits.get(index(h1, h2, i)))
+                return false;
+        }
+        return true;
+    }
+
+    // 이중 해싱: h1 + i * h2
+    private static int index(int h1, int h2, int i) {
+        return ((h1 + i * h2) & Integer.MAX_VALUE) % BITS;
+    }
+
+    // (사용자 ID, 로그 ID)를 64비트로 섞음 (SplitMix64 마무리 단계)
+    private static long hash(Long userId, Long logId) {
+        long z = userId * 0x9E3779B97F4A7C15L + logId;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
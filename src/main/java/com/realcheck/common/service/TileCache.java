@@ -0,0 +1,404 @@
+package com.realcheck.common.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.request.entity.Request;
+import com.realcheck.status.entity.StatusLog;
+import com.realcheck.status.entity.StatusType;
+import com.realcheck.util.GeoUtil;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TileCache
+ *
+ * - 지도 조회 결과를 고정 크기 타일(geotile) + 시간 버킷 단위로 캐시 (L1: 로컬 메모리, L2: Redis)
+ * - 조회 범위에 걸친 타일 중 캐시에 없는 타일만 한 번의 DB 쿼리(타일들을 감싸는 사각 범위)로 채움
+ * - 타일 값은 해당 타일의 최신 항목 최대 MAX_ITEMS_PER_TILE개이며, 반경/화면 범위/기준 시각 필터와 정렬·페이징은 호출하는 쪽에서 처리
+ * - 타일 수가 MAX_TILES_PER_LOOKUP을 넘는 범위는 캐시 대상이 아니므로 호출하는 쪽에서 isCacheable 확인 후 페이징 쿼리로 직접 조회
+ * - 쓰기(등록/수정/삭제/마감)가 일어나면 해당 좌표의 타일만 커밋 이후 무효화
+ * - L1은 다른 서버의 무효화를 받지 못하므로 짧게(10초) 유지하고, Redis 값은 2개 버킷 동안만 보관
+ * - Redis 장애 시에는 L1 + DB로만 동작
+ *
+ * 메트릭
+ * - tile.cache.lookups{kind, result=l1_hit|redis_hit|miss|bypass}: 타일 단위 조회 결과 (bypass는 조회 단위)
+ * - tile.cache.hit.ratio{kind}: 누적 적중률 (L1 + Redis)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TileCache {
+
+    /**
+     * 캐시 대상 조회 종류
+     */
+    public enum Kind {
+        GROUPED, FREE_SHARE, REQUEST
+    }
+
+    // 타일 크기 (0.05도 ≈ 위도 방향 5.5km)
+    static final double TILE_DEGREES = 0.05;
+    // 시간 버킷 크기 (초) - 키에 포함되므로 버킷이 바뀌면 새 값으로 채워짐
+    static final long BUCKET_SECONDS = 60;
+    // Redis 보관 시간 (현재 + 다음 버킷)
+    private static final Duration REDIS_TTL = Duration.ofSeconds(BUCKET_SECONDS * 2);
+    // L1 보관 시간 (밀리초)
+    private static final long L1_TTL_MILLIS = 10_000;
+    // L1 최대 항목 수
+    private static final int L1_MAX_ENTRIES = 10_000;
+    // 한 번의 조회에서 캐시를 거치는 최대 타일 수 (1도 화면이 타일 경계에 걸쳐도 포함되도록 22 x 22, 초과 시 호출하는 쪽에서 DB 직접 조회)
+    static final int MAX_TILES_PER_LOOKUP = 22 * 22;
+    // 타일 하나에 보관하는 최대 항목 수 (최신순) - 밀집 지역의 캐시 미스가 무제한 로딩이 되지 않도록 제한
+    public static final int MAX_ITEMS_PER_TILE = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, L1Entry> l1 = new ConcurrentHashMap<>();
+    private final Map<Kind, Stats> stats = new ConcurrentHashMap<>();
+
+    // ─────────────────────────────────────────────
+    // [1] 조회
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 캐시 조회 가능 여부 (범위에 걸친 타일 수 ≤ MAX_TILES_PER_LOOKUP)
+     * StatusLogService, RequestService: 타일 캐시 조회 전
+     * - false이면 bypass로 집계되며, 호출하는 쪽은 타일 로더 대신 페이징 쿼리로 직접 조회
+     */
+    public boolean isCacheable(Kind kind, BoundingBox range) {
+        if (tileCount(range) <= MAX_TILES_PER_LOOKUP)
+            return true;
+        stats(kind).count("bypass");
+        return false;
+    }
+
+    /**
+     * [1-2] 사각 범위에 걸친 타일들의 항목 조회
+     * StatusLogService: groupedPlaceLogsInBox, cachedFreeShareLogs
+     * RequestService: cachedRequests
+     *
+     * @param kind   조회 종류 (키 구분)
+     * @param range  조회 범위 (타일 경계에 맞출 필요 없음, isCacheable이어야 함)
+     * @param type   JSON 역직렬화 타입
+     * @param latOf  항목 위도 (타일 분류용)
+     * @param lngOf  항목 경도 (타일 분류용)
+     * @param loader (캐시에 없는 타일들을 감싸는 사각 범위, 최대 행 수) → 해당 범위 항목을 최신순으로 조회 (DB)
+     * @return 범위에 걸친 타일들의 항목 (타일별 최신 MAX_ITEMS_PER_TILE개, 범위 밖 항목 포함 가능)
+     */
+    public <T> List<T> get(Kind kind, BoundingBox range, TypeReference<List<T>> type,
+            ToDoubleFunction<T> latOf, ToDoubleFunction<T> lngOf, BiFunction<BoundingBox, Integer, List<T>> loader) {
+        long bucket = currentBucket();
+        int minY = GeoUtil.cellLat(range.getMinLat(), TILE_DEGREES);
+        int minX = GeoUtil.cellLng(range.getMinLng(), TILE_DEGREES);
+        int maxY = GeoUtil.cellLat(range.getMaxLat(), TILE_DEGREES);
+        int maxX = GeoUtil.cellLng(range.getMaxLng(), TILE_DEGREES);
+        Stats kindStats = stats(kind);
+
+        if (tileCount(range) > MAX_TILES_PER_LOOKUP)
+            throw new IllegalStateException("타일 캐시 조회 범위 초과 - isCacheable 확인 후 호출해야 합니다.");
+
+        List<T> result = new ArrayList<>();
+        List<int[]> pendingTiles = new ArrayList<>();
+        List<String> pendingKeys = new ArrayList<>();
+
+        // (1) L1
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                String key = key(kind, y, x, bucket);
+                List<T> cached = fromL1(key);
+                if (cached != null) {
+                    kindStats.count("l1_hit");
+                    result.addAll(cached);
+                } else {
+                    pendingTiles.add(new int[] { y, x });
+                    pendingKeys.add(key);
+                }
+            }
+        }
+        if (pendingKeys.isEmpty())
+            return result;
+
+        // (2) Redis (MGET 1회)
+        List<String> values = null;
+        try {
+            values = redisTemplate.opsForValue().multiGet(pendingKeys);
+        } catch (RedisConnectionFailureException e) {
+            log.debug("[TileCache] Redis 연결 실패 - DB에서 조회");
+        }
+
+        List<int[]> missingTiles = new ArrayList<>();
+        List<String> missingKeys = new ArrayList<>();
+        for (int i = 0; i < pendingKeys.size(); i++) {
+            List<T> cached = values != null ? parse(values.get(i), type) : null;
+            if (cached != null) {
+                kindStats.count("redis_hit");
+                putL1(pendingKeys.get(i), cached);
+                result.addAll(cached);
+            } else {
+                missingTiles.add(pendingTiles.get(i));
+                missingKeys.add(pendingKeys.get(i));
+            }
+        }
+        if (missingKeys.isEmpty())
+            return result;
+
+        // (3) DB - 빠진 타일들을 감싸는 사각 범위를 최신순으로 한 번에 조회 후 타일별로 분류 (타일당 최대 MAX_ITEMS_PER_TILE개)
+        int loadMinY = Integer.MAX_VALUE, loadMinX = Integer.MAX_VALUE;
+        int loadMaxY = Integer.MIN_VALUE, loadMaxX = Integer.MIN_VALUE;
+        for (int[] tile : missingTiles) {
+            loadMinY = Math.min(loadMinY, tile[0]);
+            loadMaxY = Math.max(loadMaxY, tile[0]);
+            loadMinX = Math.min(loadMinX, tile[1]);
+            loadMaxX = Math.max(loadMaxX, tile[1]);
+        }
+        BoundingBox loadRange = new BoundingBox(
+                loadMinY * TILE_DEGREES - 90.0, loadMinX * TILE_DEGREES - 180.0,
+                (loadMaxY + 1) * TILE_DEGREES - 90.0, (loadMaxX + 1) * TILE_DEGREES - 180.0, null);
+
+        int limit = missingTiles.size() * MAX_ITEMS_PER_TILE;
+        List<T> rows = loader.apply(loadRange, limit);
+        Map<Long, List<T>> byTile = new HashMap<>();
+        for (T item : rows) {
+            long tileKey = GeoUtil.cellKey(
+                    GeoUtil.cellLat(latOf.applyAsDouble(item), TILE_DEGREES),
+                    GeoUtil.cellLng(lngOf.applyAsDouble(item), TILE_DEGREES));
+            List<T> items = byTile.computeIfAbsent(tileKey, k -> new ArrayList<>());
+            if (items.size() < MAX_ITEMS_PER_TILE)
+                items.add(item);
+        }
+
+        // 전체 행 수 제한에 걸렸으면 다른 타일의 최신 행에 밀려 빠졌을 수 있으므로
+        // 가득 찬 타일(최신 MAX_ITEMS_PER_TILE개가 확정됨)만 캐시에 저장
+        boolean truncated = rows.size() >= limit;
+        Map<String, List<T>> loaded = new HashMap<>();
+        for (int i = 0; i < missingTiles.size(); i++) {
+            int[] tile = missingTiles.get(i);
+            List<T> items = byTile.getOrDefault(GeoUtil.cellKey(tile[0], tile[1]), List.of());
+            kindStats.count("miss");
+            result.addAll(items);
+            if (truncated && items.size() < MAX_ITEMS_PER_TILE)
+                continue;
+            putL1(missingKeys.get(i), items);
+            loaded.put(missingKeys.get(i), items);
+        }
+        putRedis(loaded);
+        return result;
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 무효화
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 좌표가 속한 타일 무효화 (커밋 이후 반영, 트랜잭션 밖이면 즉시)
+     * TileCache: invalidateStatusLogAfterCommit
+     * RequestService: createRequest, closeRequest
+     */
+    public void invalidateAfterCommit(Kind kind, Double lat, Double lng) {
+        if (lat == null || lng == null)
+            return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(kind, lat, lng);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(kind, lat, lng);
+            }
+        });
+    }
+
+    /**
+     * [2-2] 좌표가 속한 타일 즉시 무효화 (현재 + 직전 버킷)
+     */
+    public void invalidate(Kind kind, double lat, double lng) {
+        int y = GeoUtil.cellLat(lat, TILE_DEGREES);
+        int x = GeoUtil.cellLng(lng, TILE_DEGREES);
+        long bucket = currentBucket();
+        List<String> keys = List.of(key(kind, y, x, bucket), key(kind, y, x, bucket - 1));
+
+        keys.forEach(l1::remove);
+        try {
+            redisTemplate.delete(keys);
+        } catch (RedisConnectionFailureException e) {
+            log.debug("[TileCache] Redis 연결 실패 - 로컬 캐시만 무효화");
+        }
+    }
+
+    /**
+     * [2-2-A] 상태 로그 변경 시 해당 위치의 타일 무효화 (커밋 이후)
+     * StatusLogService: registerInternal, updateStatusLog, selectAnswer, deleteStatusLog
+     * ReportService: report (자동 숨김)
+     * ReportAdminService: deleteReport (숨김 해제)
+     * StatusLogAdminService: blockLog, unblockLog
+     * - 숨김/해제도 목록에 보이는 항목이 바뀌므로 무효화하지 않으면 캐시된 타일이 숨긴 로그를 계속 반환함
+     * - 답변 변경은 요청의 공개 답변 수도 바꾸므로 요청 타일도 함께 무효화
+     */
+    public void invalidateStatusLogAfterCommit(StatusLog log) {
+        Kind kind = log.getStatusType() == StatusType.FREE_SHARE ? Kind.FREE_SHARE : Kind.GROUPED;
+        invalidateAfterCommit(kind, log.getLat(), log.getLng());
+
+        Request request = log.getRequest();
+        if (request != null) {
+            invalidateAfterCommit(Kind.REQUEST, request.getLat(), request.getLng());
+        }
+    }
+
+    /**
+     * [2-3] 다른 서버에서 발생한 변경 반영 (Redis로 중계된 DomainEvent)
+     * - Redis 값은 변경이 일어난 서버가 이미 지웠으므로 이 서버의 L1만 해당 타일 전 종류 제거
+     */
+    @EventListener
+    public void onRemoteEvent(DomainEvent event) {
+        if (!event.remote() || !event.hasLocation())
+            return;
+        int y = GeoUtil.cellLat(event.lat(), TILE_DEGREES);
+        int x = GeoUtil.cellLng(event.lng(), TILE_DEGREES);
+        long bucket = currentBucket();
+        for (Kind kind : Kind.values()) {
+            l1.remove(key(kind, y, x, bucket));
+            l1.remove(key(kind, y, x, bucket - 1));
+        }
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    // 키 형식: tile:{종류}:{위도 인덱스}:{경도 인덱스}:{시간 버킷}
+    private static String key(Kind kind, int y, int x, long bucket) {
+        return "tile:" + kind.name().toLowerCase() + ":" + y + ":" + x + ":" + bucket;
+    }
+
+    // 범위에 걸친 타일 수
+    private static long tileCount(BoundingBox range) {
+        long rows = GeoUtil.cellLat(range.getMaxLat(), TILE_DEGREES) - GeoUtil.cellLat(range.getMinLat(), TILE_DEGREES) + 1;
+        long cols = GeoUtil.cellLng(range.getMaxLng(), TILE_DEGREES) - GeoUtil.cellLng(range.getMinLng(), TILE_DEGREES) + 1;
+        return rows * cols;
+    }
+
+    private static long currentBucket() {
+        return System.currentTimeMillis() / 1000 / BUCKET_SECONDS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> fromL1(String key) {
+        L1Entry entry = l1.get(key);
+        if (entry == null)
+            return null;
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            l1.remove(key, entry);
+            return null;
+        }
+        return (List<T>) entry.items;
+    }
+
+    private void putL1(String key, List<?> items) {
+        long now = System.currentTimeMillis();
+        if (l1.size() >= L1_MAX_ENTRIES) {
+            l1.values().removeIf(entry -> entry.expiresAt < now);
+            if (l1.size() >= L1_MAX_ENTRIES)
+                l1.clear();
+        }
+        l1.put(key, new L1Entry(items, now + L1_TTL_MILLIS));
+    }
+
+    // 타일별 SET EX를 파이프라인으로 한 번에 저장
+    private void putRedis(Map<String, ? extends List<?>> entries) {
+        Map<String, String> json = new HashMap<>();
+        entries.forEach((key, items) -> {
+            try {
+                json.put(key, objectMapper.writeValueAsString(items));
+            } catch (JsonProcessingException e) {
+                log.warn("[TileCache] 직렬화 실패 - Redis 저장 생략: {}", e.getMessage());
+            }
+        });
+        if (json.isEmpty())
+            return;
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    json.forEach((key, value) -> operations.opsForValue().set(key, value, REDIS_TTL));
+                    return null;
+                }
+            });
+        } catch (RedisConnectionFailureException e) {
+            log.debug("[TileCache] Redis 연결 실패 - 로컬 캐시에만 저장");
+        }
+    }
+
+    private <T> List<T> parse(String json, TypeReference<List<T>> type) {
+        if (json == null)
+            return null;
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("[TileCache] 역직렬화 실패 - 캐시 미스로 처리: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Stats stats(Kind kind) {
+        return stats.computeIfAbsent(kind, Stats::new);
+    }
+
+    private record L1Entry(List<?> items, long expiresAt) {
+    }
+
+    /**
+     * 종류별 적중/미스 집계 (Micrometer 카운터 + 적중률 게이지)
+     */
+    private final class Stats {
+        private final String kind;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+
+        private Stats(Kind kind) {
+            this.kind = kind.name().toLowerCase();
+            Gauge.builder("tile.cache.hit.ratio", this, s -> s.total.get() == 0 ? 0.0
+                    : (double) s.hits.get() / s.total.get())
+                    .tag("kind", this.kind)
+                    .register(meterRegistry);
+        }
+
+        private void count(String result) {
+            total.incrementAndGet();
+            if (result.endsWith("_hit"))
+                hits.incrementAndGet();
+            meterRegistry.counter("tile.cache.lookups", "kind", kind, "result", result).increment();
+        }
+    }
+}
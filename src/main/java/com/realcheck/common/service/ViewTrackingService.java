@@ -1,11 +1,18 @@
 package com.realcheck.common.service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * ViewTrackingService
@@ -13,33 +20,136 @@ import lombok.RequiredArgsConstructor;
  * - 사용자의 조회 기록을 Redis에 저장하여 중복 조회를 방지하는 역할을 수행
  * - 특정 사용자가 특정 상태 로그를 일정 시간 내에 반복 조회하지 못하도록 제한
  * - Redis를 활용해 TTL(Time-To-Live)을 지정하여 자동 만료 처리
+ * - 확인과 등록을 SET NX EX 한 번으로 처리하므로 왕복 1회이며, 동시 조회도 한 요청만 통과
+ * - Redis 연결 실패 시 프로세스 내부 필터(LocalViewDedup)로 자동 전환하여 조회가 실패하지 않도록 함 (근사 집계)
+ * - 전환 후에는 일정 시간마다 Redis를 다시 시도하고, 성공하면 Redis 모드로 복귀
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ViewTrackingService {
 
+    // 중복 조회 제한 시간
+    private static final Duration VIEW_TTL = Duration.ofHours(3);
+    // Redis 장애 감지 후 다시 시도하기까지의 대기 시간 (그동안은 연결 시도 없이 로컬 필터 사용)
+    private static final long REDIS_RETRY_INTERVAL_MILLIS = 5000;
+
     // RedisTemplate을 이용하여 String 기반의 키-값 저장소에 접근
     private final RedisTemplate<String, String> redisTemplate;
+    private final LocalViewDedup localViewDedup;
+
+    // Redis 장애로 로컬 필터를 사용 중인지 여부와 전환 시각, 다음 재시도 시각
+    private volatile boolean degraded;
+    private volatile LocalDateTime degradedSince;
+    private volatile long redisRetryAt;
+
+    /**
+     * 조회 대상 (사용자 ID, 상태 로그 ID)
+     */
+    public record ViewKey(Long userId, Long logId) {
+    }
 
     /**
      * 사용자가 특정 상태 로그를 조회할 수 있는지 여부를 판단
+     * - SET key 1 NX EX 10800: 키가 없을 때만 등록되며, 등록에 성공한 요청만 true
      *
      * @param userId 사용자 ID
      * @param logId  상태 로그 ID
      * @return true: 조회 가능 (중복 아님), false: 최근에 이미 조회한 적 있음
      */
     public boolean canIncreaseView(Long userId, Long logId) {
-        // Redis에 저장될 키 형식: viewed:사용자ID:로그ID
-        String key = "viewed:" + userId + ":" + logId;
+        if (skipRedis())
+            return localViewDedup.tryMark(userId, logId);
 
-        // 해당 키가 이미 존재하면 최근에 조회한 것이므로 조회수 증가 불가
-        Boolean exists = redisTemplate.hasKey(key);
-        if (Boolean.TRUE.equals(exists))
-            return false;
+        try {
+            Boolean created = redisTemplate.opsForValue().setIfAbsent(key(userId, logId), "1", VIEW_TTL);
+            recovered();
+            return Boolean.TRUE.equals(created);
+        } catch (RedisConnectionFailureException e) {
+            degrade(e);
+            return localViewDedup.tryMark(userId, logId);
+        }
+    }
 
-        // 조회 기록이 없을 경우: Redis에 키를 등록하고 TTL 3시간 설정
-        redisTemplate.opsForValue().set(key, "1", Duration.ofHours(3));
+    /**
+     * 여러 (사용자, 로그) 조합의 조회 가능 여부를 한 번에 판단 (목록 화면용)
+     * - 각 조합에 SET NX EX를 파이프라인으로 보내 왕복 1회로 처리
+     *
+     * @return 입력 순서와 같은 순서의 결과 목록 (true: 조회수 증가 가능)
+     */
+    public List<Boolean> canIncreaseViews(List<ViewKey> views) {
+        if (views.isEmpty())
+            return List.of();
+        if (skipRedis())
+            return markLocally(views);
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (ViewKey view : views) {
+                        operations.opsForValue().setIfAbsent(key(view.userId(), view.logId()), "1", VIEW_TTL);
+                    }
+                    return null;
+                }
+            });
+            recovered();
+        } catch (RedisConnectionFailureException e) {
+            degrade(e);
+            return markLocally(views);
+        }
+
+        return results.stream()
+                .map(Boolean.TRUE::equals)
+                .toList();
+    }
+
+    /**
+     * 로컬 필터 사용 여부 (헬스 체크용)
+     */
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    /**
+     * 로컬 필터로 전환된 시각 (Redis 모드이면 null)
+     */
+    public LocalDateTime getDegradedSince() {
+        return degradedSince;
+    }
+
+    private List<Boolean> markLocally(List<ViewKey> views) {
+        return views.stream()
+                .map(view -> localViewDedup.tryMark(view.userId(), view.logId()))
+                .toList();
+    }
+
+    // 장애 상태이고 재시도 시각 전이면 Redis 호출 생략
+    private boolean skipRedis() {
+        return degraded && System.currentTimeMillis() < redisRetryAt;
+    }
+
+    private void degrade(RedisConnectionFailureException e) {
+        redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_INTERVAL_MILLIS;
+        if (!degraded) {
+            degraded = true;
+            degradedSince = LocalDateTime.now();
+            log.warn("[ViewTracking] Redis 연결 실패 - 로컬 중복 조회 필터로 전환: {}", e.getMessage());
+        }
+    }
+
+    private void recovered() {
+        if (degraded) {
+            degraded = false;
+            degradedSince = null;
+            log.info("[ViewTracking] Redis 연결 복구 - Redis 중복 조회 방지로 복귀");
+        }
+    }
 
-        return true;
+    // Redis에 저장될 키 형식: viewed:사용자ID:로그ID
+    private static String key(Long userId, Long logId) {
+        return "viewed:" + userId + ":" + logId;
     }
 }
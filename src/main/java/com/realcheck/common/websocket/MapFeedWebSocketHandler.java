@@ -0,0 +1,65 @@
+package com.realcheck.common.websocket;
+
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.service.GeoFeedService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MapFeedWebSocketHandler
+ *
+ * - /ws/map-feed 지도 실시간 피드 WebSocket 핸들러
+ * - 클라이언트 → 서버: 현재 지도 화면 범위 JSON {minLat, minLng, maxLat, maxLng} (지도 이동 시마다 다시 전송)
+ * - 서버 → 클라이언트: {type, data}
+ * -- subscribed: 구독 타일 수 / error: 오류 메시지
+ * -- status-created, status-updated, status-hidden, status-deleted (data: StatusLogDto)
+ * -- request-created, request-closed (data: RequestDto)
+ */
+@Component
+@RequiredArgsConstructor
+public class MapFeedWebSocketHandler extends TextWebSocketHandler {
+
+    private final GeoFeedService geoFeedService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+        if (!geoFeedService.register(session)) {
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage message) {
+        try {
+            BoundingBox box = objectMapper.readValue(message.getPayload(), BoundingBox.class);
+            int tiles = geoFeedService.subscribe(session.getId(), box);
+            geoFeedService.reply(session.getId(), "subscribed", Map.of("tiles", tiles));
+        } catch (JsonProcessingException e) {
+            geoFeedService.reply(session.getId(), "error", "잘못된 구독 메시지입니다.");
+        } catch (IllegalArgumentException e) {
+            geoFeedService.reply(session.getId(), "error", e.getMessage());
+        }
+    }
+
+    @Override
+    public void handleTransportError(@NonNull WebSocketSession session, @NonNull Throwable exception) {
+        geoFeedService.unregister(session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
+        geoFeedService.unregister(session.getId());
+    }
+}
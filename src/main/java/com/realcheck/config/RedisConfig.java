@@ -6,8 +6,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.realcheck.common.event.DomainEventBus;
+
 /**
  * RedisConfig
  *
@@ -52,4 +56,23 @@ public class RedisConfig {
 
         return template;
     }
+
+    /**
+     * Redis pub/sub 수신 컨테이너
+     *
+     * - 기존 Lettuce 연결 팩토리로 도메인 이벤트 채널을 구독
+     * - 다른 서버가 발행한 이벤트 묶음을 DomainEventBus로 전달
+     *
+     * @param cf             RedisConnectionFactory (Redis 연결 객체)
+     * @param domainEventBus 이벤트 묶음 수신 처리
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory cf,
+            DomainEventBus domainEventBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(domainEventBus, new ChannelTopic(DomainEventBus.CHANNEL));
+        return container;
+    }
 }
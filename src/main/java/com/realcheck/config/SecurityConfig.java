@@ -2,11 +2,17 @@ package com.realcheck.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import com.realcheck.user.dto.UserDto;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
 @Configuration
 public class SecurityConfig {
 
@@ -28,10 +34,22 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화 (JSP 폼에 CSRF 토큰 안 씀)
                 .authorizeHttpRequests(auth -> auth
+                        // 운영 지표(캐시 적중률, JVM/DB 풀 등)는 관리자 세션만 조회 가능 (health는 공개)
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**")
+                        .access((authentication, context) -> new AuthorizationDecision(isAdmin(context.getRequest())))
                         .anyRequest().permitAll()) // 모든 요청 허용 (세션에서 직접 제어함)
                 .formLogin(login -> login.disable()); // Spring 기본 로그인 UI 제거
 
         return http.build();
     }
 
+    // 세션의 로그인 사용자가 관리자인지 여부 (세션을 새로 만들지 않음)
+    private static boolean isAdmin(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null)
+            return false;
+        UserDto loginUser = (UserDto) session.getAttribute("loginUser");
+        return loginUser != null && "ADMIN".equals(loginUser.getRole());
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.realcheck.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * SpatialFunctionContributor
+ *
+ * - JPQL에서 geo_point 공간 인덱스를 타는 사각 범위 조건을 쓰기 위한 Hibernate 함수 등록
+ * - mbr_contains(:envelope, x.geoPoint) → MBRContains(ST_GeomFromText(envelope, 0), geo_point)
+ *   · 반환 타입이 boolean이므로 WHERE 절에 비교 없이 그대로 조건으로 사용
+ *   · FUNCTION('MBRContains', ...) = 1 처럼 결과를 비교하면 MySQL 옵티마이저가 SPATIAL INDEX를 사용하지 않음
+ *   · 사각형은 geo_point 컬럼(GeoUtil.GEO_POINT_COLUMN_DEFINITION)과 같은 SRID 0으로 생성
+ * - 등록: META-INF/services/org.hibernate.boot.model.FunctionContributor (Hibernate가 시작 시 로딩)
+ */
+public class SpatialFunctionContributor implements FunctionContributor {
+
+    public static final String MBR_CONTAINS = "mbr_contains";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry().registerPattern(
+                MBR_CONTAINS, "MBRContains(ST_GeomFromText(?1, 0), ?2)", booleanType);
+    }
+}
@@ -0,0 +1,82 @@
+package com.realcheck.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.realcheck.util.GeoUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SpatialIndexInitializer
+ *
+ * - 반경 쿼리용 geo_point 컬럼에 SPATIAL INDEX 생성 (없을 때만)
+ * - geo_point 컬럼 자체는 엔티티 매핑(GeoUtil.GEO_POINT_COLUMN_DEFINITION)으로 ddl-auto가 생성하지만,
+ *   JPA @Index로는 SPATIAL 인덱스를 지정할 수 없어 시작 시 직접 확인 후 생성
+ * - ddl-auto(update)는 컬럼 추가 실패를 로그만 남기고 넘어가므로, 컬럼이 없으면 여기서 직접 추가하고
+ *   그래도 실패하면 오류로 기록 (geo_point가 없으면 mbr_contains를 쓰는 지도/반경 쿼리가 모두 실패함)
+ * - 인덱스 생성 실패 시에도 쿼리 결과는 동일하며(ST_Distance_Sphere로 최종 확인) 속도만 느려짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpatialIndexInitializer {
+
+    // 공간 인덱스 대상 테이블
+    private static final List<String> TABLES = List.of("places", "status_logs", "request");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingIndexes() {
+        for (String table : TABLES) {
+            if (!ensureColumn(table))
+                continue;
+
+            String indexName = "idx_" + table + "_geo_point";
+            Integer exists = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                    """, Integer.class, table, indexName);
+            if (exists != null && exists > 0)
+                continue;
+
+            try {
+                long started = System.currentTimeMillis();
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD SPATIAL INDEX " + indexName + " (geo_point)");
+                log.info("[SpatialIndex] {} 생성 완료 ({}ms)", indexName, System.currentTimeMillis() - started);
+            } catch (DataAccessException e) {
+                log.warn("[SpatialIndex] {} 생성 실패 - 반경 쿼리가 전체 스캔으로 동작함: {}", indexName, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * geo_point 컬럼 확인 (없으면 GeoUtil.GEO_POINT_COLUMN_DEFINITION으로 추가)
+     *
+     * @return 컬럼이 있거나 추가에 성공하면 true
+     */
+    private boolean ensureColumn(String table) {
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = ? AND column_name = 'geo_point'
+                """, Integer.class, table);
+        if (exists != null && exists > 0)
+            return true;
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN geo_point " + GeoUtil.GEO_POINT_COLUMN_DEFINITION);
+            log.info("[SpatialIndex] {}.geo_point 컬럼 추가 완료", table);
+            return true;
+        } catch (DataAccessException e) {
+            log.error("[SpatialIndex] {}.geo_point 컬럼 추가 실패 - 지도/반경 조회 불가: {}", table, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.realcheck.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+import com.realcheck.common.websocket.MapFeedWebSocketHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocketConfig
+ *
+ * - 지도 실시간 피드(/ws/map-feed) WebSocket 엔드포인트 등록
+ * - 수신 메시지는 화면 범위 JSON뿐이므로 수신 버퍼를 작게 제한하여 연결당 메모리 사용량을 줄임
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final MapFeedWebSocketHandler mapFeedWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(@NonNull WebSocketHandlerRegistry registry) {
+        registry.addHandler(mapFeedWebSocketHandler, "/ws/map-feed");
+    }
+
+    /**
+     * 컨테이너 수준 WebSocket 설정
+     * - 수신 메시지 버퍼 4KB, 유휴 연결 10분 후 종료 (클라이언트는 재연결 후 다시 구독)
+     */
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(4 * 1024);
+        container.setMaxBinaryMessageBufferSize(4 * 1024);
+        container.setMaxSessionIdleTimeout(10 * 60 * 1000L);
+        return container;
+    }
+}
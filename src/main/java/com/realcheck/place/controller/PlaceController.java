@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.dto.MapClusterDto;
 import com.realcheck.place.dto.FavoritePlaceDto;
 import com.realcheck.place.dto.PlaceDetailsDto;
 import com.realcheck.place.dto.PlaceDto;
@@ -73,6 +75,7 @@ public class PlaceController {
      * page: place/place-search.jsp
      * - 위도(lat), 경도(lng), 반경(radiusMeters)을 기반으로 인근 장소 조회
      * - 지도에서 사용자 위치를 기준으로 인근 장소 표시
+     * - 반경은 최대 10km (PlaceGeoIndex.MAX_RADIUS_METERS), 초과 시 400
      */
     @GetMapping("/nearby")
     public ResponseEntity<List<PlaceDto>> getNearbyPlaces(
@@ -82,6 +85,26 @@ public class PlaceController {
         return ResponseEntity.ok(placeService.findNearbyPlaces(lat, lng, radiusMeters));
     }
 
+    /**
+     * [2-1-A] 지도 화면 사각 범위 내 장소 조회 API
+     * - 파라미터: minLat, minLng, maxLat, maxLng, zoom(선택)
+     * - 반경(원) 대신 지도에 보이는 사각 범위만 조회
+     */
+    @GetMapping("/bbox")
+    public ResponseEntity<List<PlaceDto>> getPlacesInBox(BoundingBox box) {
+        return ResponseEntity.ok(placeService.findPlacesInBox(box));
+    }
+
+    /**
+     * [2-1-B] 지도 화면 사각 범위 내 장소 클러스터 조회 API
+     * - 파라미터: minLat, minLng, maxLat, maxLng, zoom(필수)
+     * - 저배율에서는 중심 좌표 + 개수만, 고배율(17 이상)에서는 개별 장소 반환
+     */
+    @GetMapping("/bbox/clusters")
+    public ResponseEntity<List<MapClusterDto<PlaceDto>>> getPlaceClustersInBox(BoundingBox box) {
+        return ResponseEntity.ok(placeService.findPlaceClustersInBox(box));
+    }
+
     /**
      * [2-2] 장소 검색 API (검색어 기반)
      * page: request/register.jsp
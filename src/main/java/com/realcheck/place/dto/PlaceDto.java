@@ -21,7 +21,7 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PlaceDto {
 
     // 동시성 제어용 버전 필드 추가
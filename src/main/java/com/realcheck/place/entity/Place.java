@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Set;
 
 import com.realcheck.user.entity.User;
+import com.realcheck.util.GeoUtil;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,7 +18,7 @@ import lombok.*;
  */
 
 @Entity
-@Table(name = "places")
+@Table(name = "places", indexes = @Index(name = "idx_places_created_at", columnList = "created_at")) // 일자별 통계 재계산 범위 조회
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,6 +59,12 @@ public class Place {
     @Column(nullable = false)
     private double lng;
 
+    // 공간 인덱스용 좌표 (lat/lng로 DB가 계산하는 읽기 전용 생성 컬럼, 반경 쿼리의 MBRContains 대상)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "geo_point", insertable = false, updatable = false, columnDefinition = GeoUtil.GEO_POINT_COLUMN_DEFINITION)
+    private byte[] geoPoint;
+
     // createdAt: DB에서 자동 생성 (CURRENT_TIMESTAMP)
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
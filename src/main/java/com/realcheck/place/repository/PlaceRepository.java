@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -33,21 +34,6 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
         // [2] 사용자 검색
         // ─────────────────────────────────────────────
 
-        /**
-         * [2-1] 위도(lat), 경도(lng), 반경(m) 기준 근처 모든 장소 조회 - 사용자 페이지
-         * PlaceSerive: findNearbyPlaces
-         * - 거리 계산: MySQL의 ST_Distance_Sphere 함수 사용
-         * - 거리 단위: 미터(m)
-         */
-        @Query("""
-                            SELECT p FROM Place p
-                            WHERE FUNCTION('ST_Distance_Sphere', point(p.lng, p.lat), point(:lng, :lat)) <= :radiusInMeters
-                        """)
-        List<Place> findNearbyPlaces(
-                        @Param("lat") double lat,
-                        @Param("lng") double lng,
-                        @Param("radiusInMeters") double radiusInMeters);
-
         /**
          * [2-2] 승인된 장소 중 키워드 포함된 장소 검색 (대소문자 무시) - 사용자 페이지
          * PlaceService: searchApprovedPlaces
@@ -124,7 +110,7 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
 
         /**
          * [3-9] 월별 장소 등록 수 통계
-         * AdminStatsService: getMonthlyPlaceRegistrations
+         * 원본 전체 집계 (대시보드는 StatsRollupService 롤업 조회로 대체, 롤업 값 대조용으로 유지)
          * - 관리자 대시보드에 월별 그래프 렌더링용
          */
         @Query("""
@@ -137,4 +123,18 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
                         """)
         List<MonthlyStatDto> countMonthlyRegistrations();
 
+        /**
+         * [3-10] 일자별 장소 등록 수 (기간 지정)
+         * StatsRollupService: recompute
+         * - 결과: [일자(DATE), 건수]
+         * - 통계 롤업(stats_rollup) 재계산용, created_at 인덱스 범위 조회
+         */
+        @Query("""
+                            SELECT FUNCTION('DATE', p.createdAt), COUNT(p)
+                            FROM Place p
+                            WHERE p.createdAt >= :from AND p.createdAt < :to
+                            GROUP BY FUNCTION('DATE', p.createdAt)
+                        """)
+        List<Object[]> countDailyRegistrations(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
 }
@@ -0,0 +1,246 @@
+package com.realcheck.place.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.place.dto.PlaceDto;
+import com.realcheck.place.entity.Place;
+import com.realcheck.place.repository.PlaceRepository;
+import com.realcheck.util.GeoUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PlaceGeoIndex
+ * - 장소(Place) 좌표를 고정 크기 위도/경도 격자(grid)로 나눠 메모리에 보관하는 공간 인덱스
+ * - 반경 조회 시 DB 전체 스캔(ST_Distance_Sphere) 대신 주변 셀만 확인 후 거리 비교
+ * - 시작 시 DB에서 전체 장소를 읽어 구성하고, 등록/수정/승인/반려/삭제 시 커밋 이후 갱신
+ * - 쓰기(구성/추가/제거)는 인덱스 단위 락으로 직렬화해 byId와 셀 목록이 항상 같은 상태를 가리키도록 하고,
+ *   조회는 락 없이 동시 맵을 읽음 (쓰기는 장소 변경 시에만 발생하므로 락 경합이 거의 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceGeoIndex {
+
+    // 셀 크기 (0.01도 ≈ 위도 방향 1.1km)
+    static final double CELL_DEGREES = 0.01;
+    // 반경 조회 최대 반경 (미터)
+    public static final double MAX_RADIUS_METERS = 10_000; // place-search.js 요청 반경과 동일
+
+    private final PlaceRepository placeRepository;
+    private final DomainEventBus domainEventBus;
+
+    // 셀 키 → (placeId → PlaceDto)
+    private final Map<Long, Map<Long, PlaceDto>> cells = new ConcurrentHashMap<>();
+    // placeId → PlaceDto (이동/삭제 시 기존 셀을 찾기 위해 사용)
+    private final Map<Long, PlaceDto> byId = new ConcurrentHashMap<>();
+
+    // ─────────────────────────────────────────────
+    // [1] 인덱스 구성
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 애플리케이션 시작 시 전체 장소로 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<PlaceDto> places = placeRepository.findAll().stream().map(PlaceDto::fromEntity).toList();
+        synchronized (this) {
+            cells.clear();
+            byId.clear();
+            places.forEach(this::put);
+        }
+        log.info("[PlaceGeoIndex] 장소 인덱스 구성 완료: {}건", byId.size());
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 인덱스 갱신
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 장소 추가/갱신 (커밋 이후 반영)
+     * PlaceService: registerPlace, updatePlace
+     * AdminPlaceService: approvePlace, rejectPlace
+     * - 트랜잭션이 롤백되면 인덱스에 반영하지 않음
+     * - 커밋 시점의 version/updatedAt 값을 그대로 담기 위해 afterCommit에서 DTO 변환
+     * - 다른 서버 인덱스에도 반영되도록 PLACE_SAVED 이벤트 발행
+     */
+    public void upsertAfterCommit(Place place) {
+        runAfterCommit(() -> put(PlaceDto.fromEntity(place)));
+        domainEventBus.publishAfterCommit(DomainEvent.Type.PLACE_SAVED, place);
+    }
+
+    /**
+     * [2-2] 장소 제거 (커밋 이후 반영)
+     * AdminPlaceService: deletePlace
+     */
+    public void removeAfterCommit(Long placeId) {
+        runAfterCommit(() -> remove(placeId));
+        domainEventBus.publishAfterCommit(DomainEvent.Type.PLACE_DELETED, null, null, () -> placeId);
+    }
+
+    /**
+     * [2-5] 다른 서버에서 발생한 장소 변경 반영 (Redis로 중계된 이벤트)
+     */
+    @EventListener
+    public void onRemoteEvent(DomainEvent event) {
+        if (!event.remote())
+            return;
+        if (event.type() == DomainEvent.Type.PLACE_SAVED && event.payload() != null) {
+            put(event.payloadAs(PlaceDto.class));
+        } else if (event.type() == DomainEvent.Type.PLACE_DELETED && event.payload() != null) {
+            remove(event.payloadAs(Long.class));
+        }
+    }
+
+    /**
+     * [2-3] 장소 추가/갱신 (즉시 반영)
+     * - 좌표가 바뀐 경우 이전 셀에서 제거 후 새 셀에 추가
+     * - 동시에 같은 장소를 갱신해도 이전 셀 제거와 새 셀 추가가 엇갈리지 않도록 락 안에서 처리
+     */
+    public synchronized void put(PlaceDto place) {
+        PlaceDto previous = byId.put(place.getId(), place);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+        cells.computeIfAbsent(cellKeyOf(place.getLat(), place.getLng()), k -> new ConcurrentHashMap<>())
+                .put(place.getId(), place);
+    }
+
+    /**
+     * [2-4] 장소 제거 (즉시 반영)
+     */
+    public synchronized void remove(Long placeId) {
+        PlaceDto previous = byId.remove(placeId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // [3] 반경 조회
+    // ─────────────────────────────────────────────
+
+    /**
+     * [3-1] 중심 좌표 기준 반경(m) 내 장소 조회
+     * PlaceService: findNearbyPlaces
+     * - 반경을 감싸는 사각 범위의 셀만 순회한 뒤 실제 거리로 최종 필터링
+     * - 승인 여부와 관계없이 반환
+     * - 반경은 0 초과 MAX_RADIUS_METERS 이하만 허용 (그 외 IllegalArgumentException → 400)
+     */
+    public List<PlaceDto> findWithin(double lat, double lng, double radiusMeters) {
+        if (!(radiusMeters > 0 && radiusMeters <= MAX_RADIUS_METERS))
+            throw new IllegalArgumentException("반경은 0 초과 " + (int) MAX_RADIUS_METERS + "m 이하여야 합니다.");
+        double[] box = GeoUtil.boundingBox(lat, lng, radiusMeters);
+        return scan(box[0], box[1], box[2], box[3],
+                place -> GeoUtil.distanceMeters(lat, lng, place.getLat(), place.getLng()) <= radiusMeters);
+    }
+
+    /**
+     * [3-2] 장소 ID로 단건 조회 (없으면 null)
+     * StatusLogService: findNearbyGroupedPlaceLogs
+     * - 인덱스 내부 객체가 아닌 복사본 반환
+     */
+    public PlaceDto find(Long placeId) {
+        PlaceDto place = byId.get(placeId);
+        return place != null ? place.toBuilder().build() : null;
+    }
+
+    /**
+     * [3-3] 인덱스에 등록된 장소 수
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * [3-4] 지도 화면 사각 범위 내 장소 조회
+     * PlaceService: findPlacesInBox
+     */
+    public List<PlaceDto> findInBox(BoundingBox box) {
+        return scan(box.getMinLat(), box.getMinLng(), box.getMaxLat(), box.getMaxLng(),
+                place -> box.contains(place.getLat(), place.getLng()));
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    // 사각 범위에 걸친 셀만 순회하여 조건을 만족하는 장소 수집 (결과는 복사본)
+    // - 범위의 셀 수가 장소가 있는 셀 수보다 많으면 장소가 있는 셀만 순회 (순회 비용 상한 = 채워진 셀 수)
+    private List<PlaceDto> scan(double minLatDeg, double minLngDeg, double maxLatDeg, double maxLngDeg,
+            Predicate<PlaceDto> filter) {
+        int minLat = GeoUtil.cellLat(minLatDeg, CELL_DEGREES);
+        int minLng = GeoUtil.cellLng(minLngDeg, CELL_DEGREES);
+        int maxLat = GeoUtil.cellLat(maxLatDeg, CELL_DEGREES);
+        int maxLng = GeoUtil.cellLng(maxLngDeg, CELL_DEGREES);
+
+        List<PlaceDto> result = new ArrayList<>();
+        long span = (long) (maxLat - minLat + 1) * (maxLng - minLng + 1);
+        if (span > cells.size()) {
+            cells.forEach((key, cell) -> {
+                int y = (int) (key >> 32);
+                int x = (int) (long) key;
+                if (y >= minLat && y <= maxLat && x >= minLng && x <= maxLng)
+                    collect(cell, filter, result);
+            });
+            return result;
+        }
+        for (int y = minLat; y <= maxLat; y++) {
+            for (int x = minLng; x <= maxLng; x++) {
+                Map<Long, PlaceDto> cell = cells.get(GeoUtil.cellKey(y, x));
+                if (cell != null)
+                    collect(cell, filter, result);
+            }
+        }
+        return result;
+    }
+
+    private void collect(Map<Long, PlaceDto> cell, Predicate<PlaceDto> filter, List<PlaceDto> result) {
+        for (PlaceDto place : cell.values()) {
+            if (filter.test(place)) {
+                result.add(place.toBuilder().build());
+            }
+        }
+    }
+
+    private void removeFromCell(PlaceDto place) {
+        cells.computeIfPresent(cellKeyOf(place.getLat(), place.getLng()), (k, cell) -> {
+            cell.remove(place.getId());
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private long cellKeyOf(double lat, double lng) {
+        return GeoUtil.cellKey(GeoUtil.cellLat(lat, CELL_DEGREES), GeoUtil.cellLng(lng, CELL_DEGREES));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -7,6 +7,8 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.dto.MapClusterDto;
 import com.realcheck.place.dto.FavoritePlaceDto;
 import com.realcheck.place.dto.PlaceDetailsDto;
 import com.realcheck.place.dto.PlaceDto;
@@ -23,6 +25,7 @@ import com.realcheck.status.entity.StatusType;
 import com.realcheck.status.repository.StatusLogRepository;
 import com.realcheck.user.entity.User;
 import com.realcheck.user.repository.UserRepository;
+import com.realcheck.util.MapClusterer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +42,7 @@ public class PlaceService {
         private final StatusLogRepository statusLogRepository;
         private final FavoritePlaceRepository favoritePlaceRepository;
         private final AllowedRequestTypeRepository allowedRequestTypeRepository;
+        private final PlaceGeoIndex placeGeoIndex;
 
         // ─────────────────────────────────────────────
         // [1] 장소 등록 관련
@@ -78,6 +82,9 @@ public class PlaceService {
 
                 // 5. place 저장 시 AllowedRequestType도 함께 저장됨 (Cascade.ALL)
                 placeRepository.save(place);
+
+                // 6. 커밋 이후 공간 인덱스에 반영
+                placeGeoIndex.upsertAfterCommit(place);
         }
 
         // ─────────────────────────────────────────────
@@ -88,11 +95,32 @@ public class PlaceService {
          * [2-1] 현재 위치 기준 반경 내 장소 조회
          * PlaceController: getNearbyPlaces
          * - 사용자의 위도(lat), 경도(lng)를 기반으로 주변 장소 조회
+         * - DB 전체 스캔 대신 메모리 공간 인덱스(PlaceGeoIndex)에서 조회
          */
         public List<PlaceDto> findNearbyPlaces(double lat, double lng, double radiusMeters) {
-                return placeRepository.findNearbyPlaces(lat, lng, radiusMeters).stream()
-                                .map(PlaceDto::fromEntity)
-                                .toList();
+                return placeGeoIndex.findWithin(lat, lng, radiusMeters);
+        }
+
+        /**
+         * [2-1-A] 지도 화면 사각 범위 내 장소 조회
+         * PlaceController: getPlacesInBox
+         * - 반경(원) 대신 화면과 같은 사각 범위로 조회 (메모리 공간 인덱스 사용)
+         */
+        public List<PlaceDto> findPlacesInBox(BoundingBox box) {
+                box.validate();
+                return placeGeoIndex.findInBox(box);
+        }
+
+        /**
+         * [2-1-B] 지도 화면 사각 범위 내 장소 클러스터 조회
+         * PlaceController: getPlaceClustersInBox
+         * - 확대 수준(zoom)에 따라 격자 단위로 묶어 중심 좌표 + 개수 반환 (고배율에서는 개별 장소)
+         * - 범위 검사는 validateForClusters (zoom에 맞춰 넓은 화면 허용)
+         */
+        public List<MapClusterDto<PlaceDto>> findPlaceClustersInBox(BoundingBox box) {
+                box.validateForClusters();
+                return MapClusterer.cluster(placeGeoIndex.findInBox(box), PlaceDto::getLat, PlaceDto::getLng,
+                                box.requireZoom());
         }
 
         /**
@@ -207,6 +235,9 @@ public class PlaceService {
                                 }).collect(Collectors.toSet());
                 place.getAllowedRequestTypes().clear();
                 place.getAllowedRequestTypes().addAll(newAllowedTypes);
+
+                // 커밋 이후 공간 인덱스에 반영 (좌표/상태 변경)
+                placeGeoIndex.upsertAfterCommit(place);
         }
 
         // ─────────────────────────────────────────────
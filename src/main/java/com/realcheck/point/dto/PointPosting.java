@@ -0,0 +1,42 @@
+package com.realcheck.point.dto;
+
+import com.realcheck.point.entity.PointType;
+import com.realcheck.user.entity.User;
+
+/**
+ * PointPosting
+ * - 일괄 포인트 지급/차감(PointService.postBatch) 1건
+ *
+ * @param user           지급/차감 대상 사용자
+ * @param amount         금액 (양수: 적립, 음수: 차감)
+ * @param reason         지급/차감 이유
+ * @param type           포인트 타입
+ * @param idempotencyKey 중복 지급 방지 키 (null이면 중복 확인 없음)
+ */
+public record PointPosting(User user, int amount, String reason, PointType type, String idempotencyKey) {
+
+    public PointPosting(User user, int amount, String reason, PointType type) {
+        this(user, amount, reason, type, null);
+    }
+
+    /**
+     * 요청 단위 키 (요청당 사용자별 1회: 예치, 차감, 환불 등)
+     */
+    public static String requestKey(Long requestId, PointType type, Long userId) {
+        return "request:" + requestId + ":" + type.name() + ":user:" + userId;
+    }
+
+    /**
+     * 답변 단위 키 (요청의 답변마다 1회: 채택 보상, 자동 마감 분배)
+     */
+    public static String answerKey(Long requestId, PointType type, Long statusLogId) {
+        return "request:" + requestId + ":" + type.name() + ":answer:" + statusLogId;
+    }
+
+    /**
+     * 상태 로그 단위 키 (로그당 1회: 자발적 공유 최초 조회수 보상)
+     */
+    public static String statusLogKey(Long statusLogId, PointType type) {
+        return "statuslog:" + statusLogId + ":" + type.name();
+    }
+}
@@ -7,7 +7,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "points")
+@Table(name = "points", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_points_idempotency_key", columnNames = "idempotency_key")
+}, indexes = {
+        @Index(name = "idx_points_earned_at", columnList = "earned_at") // 일자 범위 집계 (당일 실시간 합계, 롤업 대조)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,6 +46,14 @@ public class Point {
     @Enumerated(EnumType.STRING)
     private PointType type;
 
+    /**
+     * 중복 지급 방지 키 (예: request:12:EARN:answer:34)
+     * - 같은 키의 내역은 한 번만 저장 (재시도, 스케줄러 재실행, 서버 간 동시 처리 대비)
+     * - 키가 없는 내역(충전, 환전 등)은 제한 없음
+     */
+    @Column(length = 100)
+    private String idempotencyKey;
+
     // ─────────────────────────────────────────────
     // [2] 연관 관계 (사용자)
     // ─────────────────────────────────────────────
@@ -0,0 +1,124 @@
+package com.realcheck.point.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.realcheck.point.dto.PointPosting;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointBatchRepository
+ * - 여러 사용자 포인트 지급/차감을 건수와 관계없이 고정 횟수의 쿼리로 처리 (PointService.postBatch 전용)
+ * - Point는 IDENTITY 키라 JPA 배치 INSERT가 불가능하므로 다중 행 INSERT를 직접 실행
+ * - JPA 트랜잭션과 같은 커넥션을 사용하므로 호출한 트랜잭션과 함께 커밋/롤백
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointBatchRepository {
+
+    // 한 문장에 넣을 최대 행 수 (바인딩 변수 수 제한 대비)
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [1-1] 사용자별 잔액 일괄 증감 (잔액이 음수가 되는 사용자는 갱신하지 않음)
+     * PointService: postBatch
+     * - 사용자 ID 오름차순으로 전달받아 동시에 실행되는 일괄 처리끼리 잠금 순서를 맞춤
+     *
+     * @param deltas 사용자 ID → 증감 합계 (ID 오름차순)
+     * @return 갱신된 사용자 수 (deltas 크기보다 작으면 잔액 부족 사용자 존재)
+     */
+    public int addPoints(Map<Long, Integer> deltas) {
+        int updated = 0;
+        for (List<Map.Entry<Long, Integer>> part : partition(new ArrayList<>(deltas.entrySet()))) {
+            StringBuilder sql = new StringBuilder("UPDATE users u JOIN (");
+            List<Object> args = new ArrayList<>(part.size() * 2);
+            for (int i = 0; i < part.size(); i++) {
+                sql.append(i == 0 ? "SELECT ? AS id, ? AS delta" : " UNION ALL SELECT ?, ?");
+                args.add(part.get(i).getKey());
+                args.add(part.get(i).getValue());
+            }
+            sql.append(") d ON u.id = d.id SET u.points = u.points + d.delta WHERE u.points + d.delta >= 0");
+            updated += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return updated;
+    }
+
+    /**
+     * [1-2] 포인트 내역 다중 행 INSERT
+     * PointService: postBatch
+     * - 이미 저장된 중복 방지 키가 있으면 유니크 인덱스 위반 예외 → 호출한 트랜잭션 롤백
+     */
+    public void insertAll(List<PointPosting> postings, LocalDateTime earnedAt) {
+        Timestamp timestamp = Timestamp.valueOf(earnedAt);
+        for (List<PointPosting> part : partition(postings)) {
+            StringBuilder sql = new StringBuilder(
+                    "INSERT INTO points (user_id, amount, reason, type, earned_at, idempotency_key) VALUES ");
+            List<Object> args = new ArrayList<>(part.size() * 6);
+            for (int i = 0; i < part.size(); i++) {
+                PointPosting posting = part.get(i);
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?)");
+                args.add(posting.user().getId());
+                args.add(posting.amount());
+                args.add(posting.reason());
+                args.add(posting.type().name());
+                args.add(timestamp);
+                args.add(posting.idempotencyKey());
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /**
+     * [1-3] 사용자별 현재 잔액 조회
+     * PointService: postBatch
+     */
+    public Map<Long, Integer> findPoints(Collection<Long> userIds) {
+        Map<Long, Integer> balances = new HashMap<>();
+        for (List<Long> part : partition(new ArrayList<>(userIds))) {
+            String placeholders = String.join(", ", Collections.nCopies(part.size(), "?"));
+            jdbcTemplate.query("SELECT id, points FROM users WHERE id IN (" + placeholders + ")",
+                    rs -> {
+                        balances.put(rs.getLong(1), rs.getInt(2));
+                    }, part.toArray());
+        }
+        return balances;
+    }
+
+    /**
+     * [1-4] 이미 저장된 중복 방지 키 조회
+     * PointService: postBatch
+     */
+    public Set<String> findExistingKeys(Collection<String> keys) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> part : partition(new ArrayList<>(keys))) {
+            String placeholders = String.join(", ", Collections.nCopies(part.size(), "?"));
+            jdbcTemplate.query("SELECT idempotency_key FROM points WHERE idempotency_key IN (" + placeholders + ")",
+                    rs -> {
+                        existing.add(rs.getString(1));
+                    }, part.toArray());
+        }
+        return existing;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items) {
+        List<List<T>> parts = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += MAX_ROWS_PER_STATEMENT) {
+            parts.add(items.subList(from, Math.min(items.size(), from + MAX_ROWS_PER_STATEMENT)));
+        }
+        return parts;
+    }
+}
@@ -1,11 +1,13 @@
 package com.realcheck.point.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.realcheck.point.entity.Point;
 
@@ -17,8 +19,7 @@ public interface PointRepository extends JpaRepository<Point, Long> {
 
     /**
      * [1-1] 발행된 포인트 총량 조회
-     * AdminStatsService: getTotalPointSum
-     * - 관리자 대시보드 통계용
+     * - 원장 전체 집계 (대시보드는 PointDailyRollupService 롤업 + 당일 합계로 대체, 대조용으로 유지)
      * - CHARGE, REWARD 타입은 그대로 더하고
      * - CASH 타입은 음수로 처리해서 뺌
      * - 나머지 타입은 계산에서 제외
@@ -40,8 +41,7 @@ public interface PointRepository extends JpaRepository<Point, Long> {
 
     /**
      * [1-2] 일별 포인트 합계 조회
-     * AdminPointService: getDailyAggregatedPoints
-     * - 관리자 대시보드 통계용
+     * - 원장 전체 집계 (대시보드는 PointDailyRollupService 롤업 + 당일 합계로 대체, 대조용으로 유지)
      */
     @Query("""
               SELECT FUNCTION('DATE', p.earnedAt), SUM(p.amount)
@@ -58,6 +58,42 @@ public interface PointRepository extends JpaRepository<Point, Long> {
      */
     Page<Point> findAllByOrderByEarnedAtDesc(Pageable pageable);
 
+    /**
+     * [1-4] 기간 내 유형별 합계 / 건수
+     * PointDailyRollupService: getDailyAggregates, sumNetIssuedPoints
+     * - 결과: [type, 금액 합계, 건수]
+     * - 당일분 실시간 집계용 (earned_at 인덱스 범위 조회)
+     */
+    @Query("""
+              SELECT p.type, SUM(p.amount), COUNT(p)
+              FROM Point p
+              WHERE p.earnedAt >= :from AND p.earnedAt < :to
+              GROUP BY p.type
+            """)
+    List<Object[]> sumByType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * [1-5] 기간 내 일자 + 유형별 합계 / 건수
+     * PointDailyRollupService: verify
+     * - 결과: [일자(DATE), type, 금액 합계, 건수]
+     * - 일별 롤업(point_daily_rollup)과 원장 대조용
+     */
+    @Query("""
+              SELECT FUNCTION('DATE', p.earnedAt), p.type, SUM(p.amount), COUNT(p)
+              FROM Point p
+              WHERE p.earnedAt >= :from AND p.earnedAt < :to
+              GROUP BY FUNCTION('DATE', p.earnedAt), p.type
+            """)
+    List<Object[]> sumDailyByType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * [1-6] 가장 오래된 내역 시각
+     * PointRollupConsistencyChecker: check
+     * - 롤업 대조 시작일 기준
+     */
+    @Query("SELECT MIN(p.earnedAt) FROM Point p")
+    LocalDateTime findEarliestEarnedAt();
+
     // ─────────────────────────────────────────────
     // [2] 사용자 전용 - 포인트 내역 조회
     // ─────────────────────────────────────────────
@@ -68,4 +104,14 @@ public interface PointRepository extends JpaRepository<Point, Long> {
      * - 마이페이지 또는 활동 내역 페이지에서 사용
      */
     Page<Point> findByUserId(Long userId, Pageable pageable);
+
+    // ─────────────────────────────────────────────
+    // [3] 중복 지급 방지
+    // ─────────────────────────────────────────────
+
+    /**
+     * [3-1] 중복 방지 키로 저장된 내역 존재 여부
+     * PointService: givePoint
+     */
+    boolean existsByIdempotencyKey(String idempotencyKey);
 }
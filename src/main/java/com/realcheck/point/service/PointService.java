@@ -1,19 +1,26 @@
 package com.realcheck.point.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
 import com.realcheck.point.dto.PointDto;
+import com.realcheck.point.dto.PointPosting;
 import com.realcheck.point.entity.Point;
 import com.realcheck.point.entity.PointType;
+import com.realcheck.point.repository.PointBatchRepository;
 import com.realcheck.point.repository.PointRepository;
 import com.realcheck.status.entity.StatusLog;
 import com.realcheck.user.dto.UserDto;
@@ -25,12 +32,17 @@ import lombok.RequiredArgsConstructor;
 /**
  * PointService
  * - 포인트 지급 및 조회 기능을 처리하는 서비스 클래스
+ * - 포인트 내역(Point)이 원장이며, 사용자 잔액(User.points)은 내역 저장과 같은 트랜잭션에서 원자적 UPDATE로 누적
+ * - 중복 방지 키(idempotencyKey)가 있는 내역은 한 번만 반영 (최근 키 메모리 확인 → DB 확인 → 유니크 인덱스)
  */
 @Service
 @RequiredArgsConstructor
 public class PointService {
     private final PointRepository pointRepository;
     private final UserRepository userRepository;
+    private final PointBatchRepository pointBatchRepository;
+    private final RecentPointKeys recentPointKeys;
+    private final DomainEventBus domainEventBus;
 
     // ─────────────────────────────────────────────
     // [1] 포인트 지급 및 차감 처리
@@ -38,25 +50,103 @@ public class PointService {
 
     /**
      * [1-1] 포인트 지급/차감 처리
-     * AutoCloseRequestService: distributePointsToAnswerers
      * StatusLogService: giveUserPoint
-     * StatusLogService: selectAnswer
-     * PointService: chargePoint
+     * PointService: chargePoint, cashOutPoint, refundIfRewarded, reissueRewardIfEligible
+     * - 잔액 증감은 조건부 UPDATE 한 번으로 처리 (동시 지급/차감이 몰려도 버전 충돌 재시도 없음)
+     * - 차감 시 잔액 부족 여부도 같은 UPDATE 조건으로 판단하므로 동시 차감에도 음수 잔액이 생기지 않음
      */
-    @Retryable(value = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 100))
     @Transactional
     public void givePoint(User user, int amount, String reason, PointType type) {
-        // (1) 지급할 포인트 유효성 검사
-        validatePointAmount(amount, user);
+        givePoint(user, amount, reason, type, null);
+    }
+
+    /**
+     * [1-1-B] 포인트 지급/차감 처리 (중복 방지 키 지정)
+     * RequestService: createRequest, closeRequest
+     * StatusLogService: giveUserPoint
+     * - 같은 키로 이미 반영된 내역이 있으면 아무것도 하지 않음 (재시도/재실행에 안전)
+     * - 동시에 같은 키로 들어온 경우 유니크 인덱스 위반으로 늦은 쪽 트랜잭션이 롤백됨
+     *
+     * @return 반영했으면 true, 이미 반영된 키면 false
+     */
+    @Transactional
+    public boolean givePoint(User user, int amount, String reason, PointType type, String idempotencyKey) {
+        // (1) 지급할 포인트 유효성 검사 + 중복 확인
+        validatePointAmount(amount);
+        if (idempotencyKey != null && isPosted(idempotencyKey)) {
+            return false;
+        }
 
-        // (2) 포인트 지급 내역 생성 및 저장
+        // (2) 사용자 잔액 원자적 증감 (잔액 부족 시 0건 → 예외로 트랜잭션 롤백)
+        if (userRepository.addPoints(user.getId(), amount) == 0) {
+            throw new IllegalArgumentException("포인트가 부족합니다.");
+        }
+        int balance = userRepository.findPointsById(user.getId());
+        user.setPoints(balance); // 응답(UserDto 등)용 메모리 값만 갱신 (컬럼은 updatable = false)
+
+        // (3) 포인트 지급 내역 생성 및 저장
         PointDto pointDto = new PointDto(amount, reason, LocalDateTime.now(), type.name());
         Point point = pointDto.toEntity(user, type);
+        point.setIdempotencyKey(idempotencyKey);
         pointRepository.save(point);
+        if (idempotencyKey != null) {
+            recentPointKeys.addAfterCommit(List.of(idempotencyKey));
+        }
 
-        // (3) 사용자 포인트 누적 반영
-        user.setPoints(user.getPoints() + amount);
-        userRepository.save(user);
+        // (4) 포인트 변경 이벤트 발행 (커밋 시점 잔액)
+        domainEventBus.publishAfterCommit(DomainEvent.Type.POINT_CHANGED, null, null,
+                () -> new DomainEvent.PointChange(user.getId(), amount, balance, type.name()));
+        return true;
+    }
+
+    /**
+     * [1-1-A] 여러 건 포인트 지급/차감 일괄 처리 (전부 성공 또는 전부 실패)
+     * AutoCloseRequestService: closeChunk, closeIfExpired
+     * StatusLogService: selectAnswer
+     * - 사용자별 증감 합계를 UPDATE 한 번으로 반영하고, 내역은 다중 행 INSERT 한 번으로 저장
+     * - 건수와 관계없이 쿼리 3회 (잔액 증감, 내역 저장, 잔액 조회) - givePoint 반복 시 건당 3회
+     *   (중복 방지 키가 있으면 키 조회 1회 추가, 최근 키 메모리에 있는 건은 DB 조회 없이 제외)
+     * - 이미 반영된 키의 내역은 제외하고 나머지만 반영
+     * - 잔액이 부족한 사용자가 하나라도 있으면 예외 → 호출한 트랜잭션 전체 롤백
+     */
+    @Transactional
+    public void postBatch(List<PointPosting> postings) {
+        postings.forEach(posting -> validatePointAmount(posting.amount()));
+
+        // (1) 중복 제외 (최근 키 메모리 → 같은 묶음 안 중복 → DB)
+        postings = excludePosted(postings);
+        if (postings.isEmpty())
+            return;
+
+        // 사용자별 증감 합계 (ID 오름차순 → 잠금 순서 고정)
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (PointPosting posting : postings) {
+            deltas.merge(posting.user().getId(), posting.amount(), Integer::sum);
+        }
+
+        // (2) 잔액 일괄 증감 (합계 0인 사용자 제외, 한 명이라도 잔액 부족이면 예외로 롤백)
+        Map<Long, Integer> changes = new TreeMap<>(deltas);
+        changes.values().removeIf(delta -> delta == 0);
+        if (!changes.isEmpty() && pointBatchRepository.addPoints(changes) != changes.size()) {
+            throw new IllegalArgumentException("포인트가 부족합니다.");
+        }
+
+        // (3) 포인트 내역 일괄 저장
+        pointBatchRepository.insertAll(postings, LocalDateTime.now());
+        recentPointKeys.addAfterCommit(postings.stream()
+                .map(PointPosting::idempotencyKey)
+                .filter(key -> key != null)
+                .toList());
+
+        // (4) 갱신된 잔액 반영 + 포인트 변경 이벤트 발행
+        Map<Long, Integer> balances = pointBatchRepository.findPoints(deltas.keySet());
+        for (PointPosting posting : postings) {
+            User user = posting.user();
+            int balance = balances.getOrDefault(user.getId(), user.getPoints());
+            user.setPoints(balance);
+            domainEventBus.publishAfterCommit(DomainEvent.Type.POINT_CHANGED, null, null,
+                    () -> new DomainEvent.PointChange(user.getId(), posting.amount(), balance, posting.type().name()));
+        }
     }
 
     /**
@@ -143,16 +233,53 @@ public class PointService {
      * [1] 포인트 지급 금액 유효성 검사
      * PointService: givePoint
      * - 0 포인트 지급 불가
-     * - 차감 시 사용자의 포인트가 부족하면 예외 발생
+     * - 잔액 부족 여부는 UserRepository.addPoints 조건에서 판단
      */
-    private void validatePointAmount(int amount, User user) {
+    private void validatePointAmount(int amount) {
         if (amount == 0) {
             throw new IllegalArgumentException("지급할 포인트가 0입니다.");
         }
+    }
 
-        if (amount < 0 && user.getPoints() < Math.abs(amount)) {
-            throw new IllegalArgumentException("포인트가 부족합니다.");
+    /**
+     * [2] 중복 방지 키로 이미 반영된 내역인지 확인
+     * PointService: givePoint
+     * - DB에서 확인된 키도 커밋 이후 최근 키 메모리에 등록
+     */
+    private boolean isPosted(String idempotencyKey) {
+        if (recentPointKeys.contains(idempotencyKey))
+            return true;
+        if (!pointRepository.existsByIdempotencyKey(idempotencyKey))
+            return false;
+        recentPointKeys.addAfterCommit(List.of(idempotencyKey));
+        return true;
+    }
+
+    /**
+     * [3] 일괄 처리 대상 중 이미 반영된 내역 제외
+     * PointService: postBatch
+     * - 키가 없는 내역은 그대로 유지
+     */
+    private List<PointPosting> excludePosted(List<PointPosting> postings) {
+        Map<String, PointPosting> keyed = new LinkedHashMap<>();
+        List<PointPosting> remaining = new ArrayList<>(postings.size());
+        for (PointPosting posting : postings) {
+            String key = posting.idempotencyKey();
+            if (key == null)
+                remaining.add(posting);
+            else if (!recentPointKeys.contains(key))
+                keyed.putIfAbsent(key, posting);
         }
+        if (keyed.isEmpty())
+            return remaining;
+
+        Set<String> existing = pointBatchRepository.findExistingKeys(keyed.keySet());
+        recentPointKeys.addAfterCommit(existing);
+        keyed.forEach((key, posting) -> {
+            if (!existing.contains(key))
+                remaining.add(posting);
+        });
+        return remaining;
     }
 
 }
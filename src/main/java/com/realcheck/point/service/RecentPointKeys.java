@@ -0,0 +1,61 @@
+package com.realcheck.point.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * RecentPointKeys
+ * - 최근 저장된 포인트 내역의 중복 방지 키 (서버 인스턴스별 메모리, 최대 MAX_KEYS개)
+ * - 이미 처리된 키로 다시 요청되면(재시도, 스케줄러 재실행) DB 조회 없이 바로 중복으로 판단
+ * - 커밋된 키만 등록하며, 메모리에 없는 키는 DB 유니크 인덱스(uk_points_idempotency_key)로 최종 확인
+ */
+@Component
+public class RecentPointKeys {
+
+    // 보관할 최대 키 수 (초과 시 가장 오래 사용되지 않은 키부터 제거)
+    static final int MAX_KEYS = 100_000;
+
+    private final Map<String, Boolean> keys = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_KEYS;
+        }
+    };
+
+    /**
+     * [1] 최근 처리된 키인지 확인
+     * PointService: givePoint, postBatch
+     */
+    public synchronized boolean contains(String key) {
+        return keys.get(key) != null;
+    }
+
+    /**
+     * [2] 키 등록 (커밋 이후 반영, 트랜잭션 밖이면 즉시)
+     * PointService: givePoint, postBatch
+     * - 롤백되면 등록하지 않음 (저장되지 않은 키를 중복으로 판단하지 않도록)
+     */
+    public void addAfterCommit(Collection<String> postedKeys) {
+        if (postedKeys.isEmpty())
+            return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addAll(postedKeys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addAll(postedKeys);
+            }
+        });
+    }
+
+    private synchronized void addAll(Collection<String> postedKeys) {
+        postedKeys.forEach(key -> keys.put(key, Boolean.TRUE));
+    }
+}
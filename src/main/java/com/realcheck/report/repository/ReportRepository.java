@@ -1,14 +1,21 @@
 package com.realcheck.report.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.realcheck.admin.dto.ReportExportRow;
 import com.realcheck.admin.dto.TopReportedUserDto;
 import com.realcheck.report.entity.Report;
+import com.realcheck.util.ExportWriter;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * ReportRepository (ALL DONE)
@@ -75,4 +82,36 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
                 ORDER BY COUNT(r) DESC
             """)
     List<TopReportedUserDto> findTopReportedUsers(Pageable pageable);
+
+    /**
+     * [7] 작성 로그가 신고당한 수 (전체 사용자)
+     * LeaderboardRebuildScheduler: rebuild
+     * - 결과: [사용자 ID, 신고당한 수]
+     * - 신고 순위표(leaderboard:reported) 재구성용
+     */
+    @Query("""
+                SELECT sl.reporter.id, COUNT(r)
+                FROM Report r
+                JOIN r.statusLog sl
+                GROUP BY sl.reporter.id
+            """)
+    List<Object[]> countByReportedUser();
+
+    /**
+     * [8] 전체 신고 내역 스트리밍 조회 (내보내기용)
+     * AdminExportService: export
+     * - 평면 프로젝션이므로 엔티티/연관 엔티티를 영속성 컨텍스트에 올리지 않음
+     * - 한 행씩 받아오므로 건수와 관계없이 메모리 사용량 일정 (트랜잭션 안에서 스트림을 닫을 것)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.STREAM_FETCH_SIZE))
+    @Query("""
+                SELECT new com.realcheck.admin.dto.ReportExportRow(
+                         r.id, u.id, u.nickname, sl.id, w.id, r.reason, r.createdAt)
+                FROM Report r
+                LEFT JOIN r.reporter u
+                LEFT JOIN r.statusLog sl
+                LEFT JOIN sl.reporter w
+                ORDER BY r.id
+            """)
+    Stream<ReportExportRow> streamAllForExport();
 }
@@ -7,11 +7,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.common.service.LeaderboardService;
+import com.realcheck.common.service.LeaderboardService.Board;
+import com.realcheck.common.service.TileCache;
 import com.realcheck.report.dto.ReportDto;
 import com.realcheck.report.entity.Report;
 import com.realcheck.report.repository.ReportRepository;
 import com.realcheck.status.entity.StatusLog;
+import com.realcheck.request.repository.RequestRepository;
 import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.status.service.RecentStatusLogWindow;
 import com.realcheck.user.entity.User;
 import com.realcheck.user.repository.UserRepository;
 
@@ -26,7 +33,12 @@ import lombok.RequiredArgsConstructor;
 public class ReportService {
     private final ReportRepository reportRepository;
     private final StatusLogRepository statusLogRepository;
+    private final RequestRepository requestRepository;
     private final UserRepository userRepository;
+    private final RecentStatusLogWindow recentStatusLogWindow;
+    private final DomainEventBus domainEventBus;
+    private final LeaderboardService leaderboardService;
+    private final TileCache tileCache;
 
     /**
      * [1] 신고 처리 로직
@@ -57,13 +69,25 @@ public class ReportService {
         reportRepository.save(report);
 
         // (5) 신고 대상 로그 신고 횟수 증가 (동시성 안전)
+        boolean wasHidden = log.isHidden();
         log.incrementReportCount();
         statusLogRepository.save(log);
+        recentStatusLogWindow.upsertAfterCommit(log);
+
+        // 이번 신고로 자동 숨김된 로그면 요청의 공개 답변 수 감소 + 지도 타일 무효화 + 숨김 이벤트 발행 (요청 상세/지도 구독자, 다른 서버 캐시)
+        if (!wasHidden && log.isHidden()) {
+            if (log.getRequest() != null) {
+                requestRepository.addVisibleAnswerCount(log.getRequest().getId(), -1);
+            }
+            tileCache.invalidateStatusLogAfterCommit(log);
+            domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_HIDDEN, log);
+        }
 
         // (6) 신고된 사용자(User) 신고 횟수 증가 (동시성 안전)
         User targetUser = log.getReporter();
         targetUser.incrementReportCount();
         userRepository.save(targetUser);
+        leaderboardService.incrementAfterCommit(Board.REPORTED, targetUser.getId(), 1);
     }
 
     /**
@@ -100,10 +124,13 @@ public class ReportService {
         // (4) 로그 신고 횟수 감소
         log.decrementReportCount();
         statusLogRepository.save(log);
+        recentStatusLogWindow.upsertAfterCommit(log);
+        domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_UPDATED, log);
 
         // (5) 신고 대상 사용자 신고 횟수 감소
         User targetUser = log.getReporter();
         targetUser.decrementReportCount();
         userRepository.save(targetUser);
+        leaderboardService.incrementAfterCommit(Board.REPORTED, targetUser.getId(), -1);
     }
 }
@@ -1,5 +1,6 @@
 package com.realcheck.request.controller;
 
+import com.realcheck.common.dto.BoundingBox;
 import com.realcheck.request.dto.RequestDto;
 import com.realcheck.request.entity.Request;
 import com.realcheck.request.entity.RequestCategory;
@@ -99,6 +100,21 @@ public class RequestController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * [2-2-A] 지도 화면 사각 범위 내 최신 요청 조회 API
+     * page: map/requset-list.jsp
+     * - 파라미터: minLat, minLng, maxLat, maxLng, zoom(선택)
+     * - [2-2]와 같은 필터이며, 반경 대신 지도에 보이는 사각 범위만 조회
+     */
+    @GetMapping("/bbox")
+    public ResponseEntity<Page<RequestDto>> findRequestsInBox(
+            BoundingBox box,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "5") int size) {
+
+        return ResponseEntity.ok(requestService.findRequestsInBox(box, page, size));
+    }
+
     /**
      * [2-3] 요청 단건 상세 조회 (ID로 조회) API
      * page: request/detail.jsp
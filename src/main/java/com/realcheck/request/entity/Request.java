@@ -3,6 +3,7 @@ package com.realcheck.request.entity;
 import com.realcheck.place.entity.Place;
 import com.realcheck.status.entity.StatusLog;
 import com.realcheck.user.entity.User;
+import com.realcheck.util.GeoUtil;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -20,6 +21,7 @@ import java.util.List;
  * - 카테고리에 따라 일부 필드는 유동적으로 사용
  */
 @Entity
+@Table(indexes = @Index(name = "idx_request_created_at", columnList = "created_at")) // 일자별 통계 재계산 범위 조회
 @Getter
 @Setter
 @Builder
@@ -107,6 +109,12 @@ public class Request {
     private Double lat;
     private Double lng;
 
+    // 공간 인덱스용 좌표 (lat/lng로 DB가 계산하는 읽기 전용 생성 컬럼, 반경 쿼리의 MBRContains 대상)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "geo_point", insertable = false, updatable = false, columnDefinition = GeoUtil.GEO_POINT_COLUMN_DEFINITION)
+    private byte[] geoPoint;
+
     // ─────────────────────────────────────────────
     // [4] 상태 필드 (생성 시각, 마감 여부)
     // ─────────────────────────────────────────────
@@ -116,6 +124,15 @@ public class Request {
     @Column(nullable = false)
     private boolean isClosed = false;
 
+    // 숨김 처리되지 않은 답변 수 (목록 조회 시 행마다 COUNT 쿼리를 실행하지 않기 위한 비정규화 컬럼)
+    // - 답변 등록/삭제, 숨김/숨김 해제 시 RequestRepository.addVisibleAnswerCount로 원자적 증감
+    //   (엔티티 수정이 아니므로 @Version이 올라가지 않아 동시 답변/자동 마감과 충돌하지 않음)
+    // - 엔티티 저장 시에는 갱신하지 않음 (updatable = false: 오래된 값이 증감/보정 결과를 덮어쓰지 않도록)
+    // - 어긋난 값은 VisibleAnswerCountReconcileScheduler가 주기적으로 보정
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int visibleAnswerCount = 0;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
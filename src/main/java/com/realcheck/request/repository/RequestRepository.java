@@ -9,10 +9,12 @@ import com.realcheck.request.entity.RequestCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -83,7 +85,7 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
          * [2-1] 위치 기반, 카테고리 필터링된 미마감 요청 조회
          * RequestService: findOpenRequestsWithLocation
          * - 미마감
-         * - 답변 3개 미만
+         * - 공개 답변 3개 미만 (visibleAnswerCount 컬럼 사용)
          * - 위치(lat/lng) 존재
          * - 생성 시간 기준 조회
          * - 카테고리 및 반경 필터
@@ -94,18 +96,16 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
                         SELECT r
                         FROM Request r
                         WHERE r.isClosed = false
-                                AND SIZE(r.statusLogs) < 3
+                                AND r.visibleAnswerCount < 3
                                 AND r.createdAt <= :threshold
                                 AND r.lat IS NOT NULL
                                 AND r.lng IS NOT NULL
                                 AND (:category IS NULL OR r.category = :category)
-                                AND (6371 * acos(
-                                cos(radians(:lat)) * cos(radians(r.lat)) *
-                                cos(radians(r.lng) - radians(:lng)) +
-                                sin(radians(:lat)) * sin(radians(r.lat))
-                                )) <= (:radius / 1000)
+                                AND mbr_contains(:envelope, r.geoPoint)
+                                AND FUNCTION('ST_Distance_Sphere', POINT(r.lng, r.lat), POINT(:lng, :lat)) <= :radius
                         """)
         Page<Request> findOpenRequestsWithLocation(
+                        @Param("envelope") String envelope,
                         @Param("lat") double lat,
                         @Param("lng") double lng,
                         @Param("radius") double radius,
@@ -120,8 +120,8 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
          * - 장소 좌표(lat/lng)가 존재하는 요청만 대상
          * - 3시간 이내 생성된 요청만 조회
          * - 요청이 닫히지 않았으며 (isClosed = false)
-         * - 숨김 처리되지 않은 응답(StatusLog)이 3개 미만인 요청만 반환
-         * - ST_Distance_Sphere 함수를 이용한 반경 필터링 적용
+         * - 숨김 처리되지 않은 응답(StatusLog)이 3개 미만인 요청만 반환 (visibleAnswerCount 컬럼 사용)
+         * - geo_point 공간 인덱스(MBRContains)로 사각 범위를 먼저 좁힌 뒤 ST_Distance_Sphere 함수로 반경 필터링
          * - 최신순(createdAt DESC) 정렬
          */
         @Query(value = """
@@ -130,55 +130,164 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
                         WHERE r.isClosed = false
                           AND r.lat IS NOT NULL AND r.lng IS NOT NULL
                           AND r.createdAt >= :timeLimit
+                          AND mbr_contains(:envelope, r.geoPoint)
                           AND FUNCTION('ST_Distance_Sphere', POINT(r.lng, r.lat), POINT(:lng, :lat)) <= :radius
-                          AND (
-                              SELECT COUNT(s)
-                              FROM StatusLog s
-                              WHERE s.request = r
-                                AND s.isHidden = false
-                          ) < 3
+                          AND r.visibleAnswerCount < 3
                         """, countQuery = """
                         SELECT COUNT(r)
                         FROM Request r
                         WHERE r.isClosed = false
                           AND r.lat IS NOT NULL AND r.lng IS NOT NULL
                           AND r.createdAt >= :timeLimit
+                          AND mbr_contains(:envelope, r.geoPoint)
                           AND FUNCTION('ST_Distance_Sphere', POINT(r.lng, r.lat), POINT(:lng, :lat)) <= :radius
-                          AND (
-                              SELECT COUNT(s)
-                              FROM StatusLog s
-                              WHERE s.request = r
-                                AND s.isHidden = false
-                          ) < 3
+                          AND r.visibleAnswerCount < 3
                         """)
         Page<Request> findNearbyValidRequestsPaged(
+                        @Param("envelope") String envelope,
                         @Param("lat") double lat,
                         @Param("lng") double lng,
                         @Param("radius") double radius,
                         @Param("timeLimit") LocalDateTime timeLimit,
                         Pageable pageable);
 
+        /**
+         * [2-3] 지도 화면 사각 범위 내 미마감 요청 조회 (응답 3개 미만, 페이지네이션 적용)
+         * RequestService: findRequestsInBox
+         * - [2-2]와 같은 조건이며, 반경 대신 geo_point 공간 인덱스 범위 조건만 사용
+         */
+        @Query(value = """
+                        SELECT r
+                        FROM Request r
+                        WHERE r.isClosed = false
+                          AND r.lat IS NOT NULL AND r.lng IS NOT NULL
+                          AND r.createdAt >= :timeLimit
+                          AND mbr_contains(:envelope, r.geoPoint)
+                          AND r.visibleAnswerCount < 3
+                        """, countQuery = """
+                        SELECT COUNT(r)
+                        FROM Request r
+                        WHERE r.isClosed = false
+                          AND r.lat IS NOT NULL AND r.lng IS NOT NULL
+                          AND r.createdAt >= :timeLimit
+                          AND mbr_contains(:envelope, r.geoPoint)
+                          AND r.visibleAnswerCount < 3
+                        """)
+        Page<Request> findValidRequestsInBox(
+                        @Param("envelope") String envelope,
+                        @Param("timeLimit") LocalDateTime timeLimit,
+                        Pageable pageable);
+
+        /**
+         * [2-4] 지도 화면 사각 범위 내 미마감 요청 ID 조회 (최신순, 최대 행 수는 pageable로 제한)
+         * RequestService: loadValidRequestsInBox
+         * - [2-3]과 같은 조건, 타일 캐시 로딩용 (엔티티는 [2-5]로 한 번에 조회)
+         */
+        @Query("""
+                        SELECT r.id
+                        FROM Request r
+                        WHERE r.isClosed = false
+                          AND r.lat IS NOT NULL AND r.lng IS NOT NULL
+                          AND r.createdAt >= :timeLimit
+                          AND mbr_contains(:envelope, r.geoPoint)
+                          AND r.visibleAnswerCount < 3
+                        ORDER BY r.createdAt DESC, r.id DESC
+                        """)
+        List<Long> findValidRequestIdsInBox(
+                        @Param("envelope") String envelope,
+                        @Param("timeLimit") LocalDateTime timeLimit,
+                        Pageable pageable);
+
+        /**
+         * [2-5] 요청 ID 목록으로 요청 + 요청자 + 장소 + 답변 함께 조회
+         * RequestService: loadValidRequestsInBox
+         * - RequestDto.fromEntity가 사용하는 연관 엔티티를 한 번에 가져와 요청별 지연 로딩(N+1) 제거
+         */
+        @Query("""
+                        SELECT DISTINCT r
+                        FROM Request r
+                        LEFT JOIN FETCH r.user
+                        LEFT JOIN FETCH r.place
+                        LEFT JOIN FETCH r.statusLogs
+                        WHERE r.id IN :ids
+                        """)
+        List<Request> findAllForListByIdIn(@Param("ids") Collection<Long> ids);
+
         // ─────────────────────────────────────────────
         // [3] 자동 마감 관련 메소드
         // ─────────────────────────────────────────────
 
         /**
-         * [3-1] 자동 마감 대상 쿼리
-         * RequestService: findOpenRequestsWithAnswers
+         * [3-1] 자동 마감 대상 요청 ID 조회 (키셋 페이지네이션)
+         * AutoCloseRequestService: autoCloseExpiredRequests
          * - 답변이 1개이상 달린 후, 3시간 이상 지난 요청 중
          * - 미마감
          * - No Hidden (응답 중 Hidden 없음)
+         * - afterId < ID < beforeId 범위만 ID 오름차순으로 조회 (ID 구간 분할 + 청크 단위 처리용)
          */
-
         @Query("""
-                        SELECT DISTINCT r
+                        SELECT DISTINCT r.id
                         FROM Request r
                         JOIN r.statusLogs s
                         WHERE r.isClosed = false
                         AND s.isHidden = false
                         AND s.createdAt <= :threshold
+                        AND r.id > :afterId
+                        AND r.id < :beforeId
+                        ORDER BY r.id
                         """)
-        List<Request> findRequestsWithOldVisibleAnswers(@Param("threshold") LocalDateTime threshold);
+        List<Long> findAutoCloseCandidateIds(
+                        @Param("threshold") LocalDateTime threshold,
+                        @Param("afterId") Long afterId,
+                        @Param("beforeId") Long beforeId,
+                        Pageable pageable);
+
+        /**
+         * [3-2] 미마감 요청별 첫 공개 답변 등록 시각 조회
+         * RequestExpiryWheel: rebuild
+         * - 서버 시작 시 마감 예정 시각(첫 답변 + 3시간) 재등록용
+         * - 결과: [requestId, 첫 공개 답변 createdAt]
+         */
+        @Query("""
+                        SELECT r.id, MIN(s.createdAt)
+                        FROM Request r
+                        JOIN r.statusLogs s
+                        WHERE r.isClosed = false
+                        AND s.isHidden = false
+                        GROUP BY r.id
+                        """)
+        List<Object[]> findFirstVisibleAnswerTimesOfOpenRequests();
+
+        /**
+         * [3-3] 요청 ID 목록으로 요청 + 요청자 함께 조회
+         * AutoCloseRequestService: closeChunk
+         */
+        @Query("SELECT r FROM Request r JOIN FETCH r.user WHERE r.id IN :ids")
+        List<Request> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+        /**
+         * [3-4] 마감 시각이 지난 미마감 요청 조건부 마감 (원자적 선점)
+         * AutoCloseRequestService: closeIfExpired
+         * - 미마감 + 채택 답변 없음 + threshold 이전에 등록된 공개 답변이 있는 경우에만 마감
+         * - 모든 서버의 RequestExpiryWheel이 같은 요청을 동시에 실행해도 1을 반환받는 서버는 하나
+         *   (나머지는 행 잠금 해제 후 조건을 다시 확인해 0건 갱신)
+         */
+        @Modifying
+        @Query("""
+                        UPDATE Request r
+                        SET r.isClosed = true
+                        WHERE r.id = :requestId
+                          AND r.isClosed = false
+                          AND NOT EXISTS (
+                            SELECT 1 FROM StatusLog s
+                            WHERE s.request = r AND s.isSelected = true
+                          )
+                          AND EXISTS (
+                            SELECT 1 FROM StatusLog s
+                            WHERE s.request = r AND s.isHidden = false AND s.createdAt <= :threshold
+                          )
+                        """)
+        int closeIfDue(@Param("requestId") Long requestId, @Param("threshold") LocalDateTime threshold);
 
         // ─────────────────────────────────────────────
         // [4] 관리자 통계 관련 메소드
@@ -186,7 +295,7 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
 
         /**
          * [4-1] 월별 요청 등록 수 통계
-         * AdminStatsService: getMonthlyRequestRegistrations
+         * 원본 전체 집계 (대시보드는 StatsRollupService 롤업 조회로 대체, 롤업 값 대조용으로 유지)
          * - 요청 등록 시점(createdAt)을 기준으로 연/월별 등록 수 집계
          */
         @Query("""
@@ -201,7 +310,7 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
 
         /**
          * [4-2] 카테고리별 요청 수 통계
-         * AdminStatsService: getRequestCategoryStats
+         * 원본 전체 집계 (대시보드는 StatsRollupService 롤업 조회로 대체, 롤업 값 대조용으로 유지)
          * - 각 카테고리별 요청 수를 집계하여 반환
          * - RequestCategory 기준으로 그룹화
          */
@@ -240,4 +349,69 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
                         ORDER BY COUNT(r) DESC
                         """)
         List<UserRequestStatDto> findTopUsersByRequestCount(Pageable pageable);
-}
+
+        /**
+         * [4-5] 일자 + 카테고리별 요청 등록 수 (기간 지정)
+         * StatsRollupService: recompute
+         * - 결과: [일자(DATE), category, 건수]
+         * - 통계 롤업(stats_rollup) 재계산용, created_at 인덱스 범위 조회
+         */
+        @Query("""
+                        SELECT FUNCTION('DATE', r.createdAt), r.category, COUNT(r)
+                        FROM Request r
+                        WHERE r.createdAt >= :from AND r.createdAt < :to
+                        GROUP BY FUNCTION('DATE', r.createdAt), r.category
+                        """)
+        List<Object[]> countDailyByCategory(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+        /**
+         * [4-6] 사용자별 요청 등록 수 (전체 사용자)
+         * LeaderboardRebuildScheduler: rebuild
+         * - 결과: [사용자 ID, 요청 수]
+         * - 요청 순위표(leaderboard:requesters) 재구성용
+         */
+        @Query("SELECT r.user.id, COUNT(r) FROM Request r GROUP BY r.user.id")
+        List<Object[]> countByRequester();
+
+        // ─────────────────────────────────────────────
+        // [5] 공개 답변 수 보정 관련 메소드
+        // ─────────────────────────────────────────────
+
+        /**
+         * [5-1] 공개 답변 수(visibleAnswerCount) 일괄 보정
+         * VisibleAnswerCountReconcileScheduler: reconcile
+         * - 실제 숨김 처리되지 않은 StatusLog 수와 다른 요청만 갱신
+         * - 갱신된 요청 수 반환
+         */
+        @Modifying
+        @Query("""
+                        UPDATE Request r
+                        SET r.visibleAnswerCount = (
+                            SELECT CAST(COUNT(s) AS Integer) FROM StatusLog s
+                            WHERE s.request = r AND s.isHidden = false
+                        )
+                        WHERE r.visibleAnswerCount <> (
+                            SELECT COUNT(s) FROM StatusLog s
+                            WHERE s.request = r AND s.isHidden = false
+                        )
+                        """)
+        int reconcileVisibleAnswerCounts();
+
+        /**
+         * [5-2] 공개 답변 수 원자적 증감
+         * StatusLogService: registerInternal, deleteStatusLog
+         * ReportService: report (자동 숨김)
+         * ReportAdminService: deleteReport (숨김 해제)
+         * StatusLogAdminService: blockLog, unblockLog
+         * - 엔티티 수정 대신 UPDATE 한 번 (버전 증가 없음 → 낙관적 락 충돌 없음)
+         * - 0 미만이 되는 차감은 0건 갱신 (보정 스케줄러가 맞춤)
+         */
+        @Modifying
+        @Query("""
+                        UPDATE Request r
+                        SET r.visibleAnswerCount = r.visibleAnswerCount + :delta
+                        WHERE r.id = :requestId
+                          AND r.visibleAnswerCount + :delta >= 0
+                        """)
+        int addVisibleAnswerCount(@Param("requestId") Long requestId, @Param("delta") int delta);
+}
\ No newline at end of file
@@ -1,8 +1,14 @@
 package com.realcheck.request.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.common.service.TileCache;
 import com.realcheck.place.entity.Place;
 import com.realcheck.place.repository.AllowedRequestTypeRepository;
 import com.realcheck.place.repository.PlaceRepository;
+import com.realcheck.point.dto.PointPosting;
 import com.realcheck.point.entity.PointType;
 import com.realcheck.point.service.PointService;
 import com.realcheck.request.dto.RequestDto;
@@ -10,11 +16,14 @@ import com.realcheck.request.entity.Request;
 import com.realcheck.request.entity.RequestCategory;
 import com.realcheck.request.repository.RequestRepository;
 import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.status.service.RecentStatusLogWindow;
 import com.realcheck.user.entity.User;
+import com.realcheck.util.GeoUtil;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,8 +32,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * RequestService (ALL DONE)
@@ -40,6 +51,15 @@ public class RequestService {
     private final StatusLogRepository statusLogRepository;
     private final AllowedRequestTypeRepository allowedRequestTypeRepository;
     private final PointService pointService;
+    private final RecentStatusLogWindow recentStatusLogWindow;
+    private final TileCache tileCache;
+    private final DomainEventBus domainEventBus;
+
+    // 캐시 우회 조회 정렬 (최신순)
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    // 지도 타일 캐시 값 타입
+    private static final TypeReference<List<RequestDto>> REQUEST_LIST = new TypeReference<>() {
+    };
 
     // ─────────────────────────────────────────────
     // [1] 요청 등록 (Request 등록 로직)
@@ -78,11 +98,15 @@ public class RequestService {
             throw new IllegalArgumentException("해당 장소에서는 선택한 요청 카테고리를 사용할 수 없습니다.");
         }
 
-        // (6) 포인트 예치
-        pointService.givePoint(user, -dto.getPoint(), "요청 등록 포인트 예치", PointType.RESERVE);
+        // (6) 저장
+        Request saved = requestRepository.save(request);
 
-        // (7) 저장
-        return requestRepository.save(request);
+        // (7) 포인트 예치 (요청당 1회)
+        pointService.givePoint(user, -dto.getPoint(), "요청 등록 포인트 예치", PointType.RESERVE,
+                PointPosting.requestKey(saved.getId(), PointType.RESERVE, user.getId()));
+        tileCache.invalidateAfterCommit(TileCache.Kind.REQUEST, saved.getLat(), saved.getLng());
+        domainEventBus.publishAfterCommit(DomainEvent.Type.REQUEST_CREATED, saved);
+        return saved;
     }
 
     // ─────────────────────────────────────────────
@@ -118,7 +142,8 @@ public class RequestService {
                     request.getUser(),
                     request.getPoint(),
                     "답변 없음 - 포인트 환불",
-                    PointType.REFUND);
+                    PointType.REFUND,
+                    PointPosting.requestKey(requestId, PointType.REFUND, request.getUser().getId()));
             request.setPointHandled(true);
             // 환불 여부 체크
             request.setRefundProcessed(true);
@@ -130,29 +155,24 @@ public class RequestService {
         } catch (ObjectOptimisticLockingFailureException e) {
             throw new RuntimeException("동일한 요청을 동시에 마감하려 했습니다. 다시 시도해주세요.");
         }
+        recentStatusLogWindow.markRequestClosedAfterCommit(requestId);
+        tileCache.invalidateAfterCommit(TileCache.Kind.REQUEST, request.getLat(), request.getLng());
+        domainEventBus.publishAfterCommit(DomainEvent.Type.REQUEST_CLOSED, request);
     }
 
     /**
-     * [2-2] 자동 마감 대상 조회
-     * AutoCloseRequestService: autoCloseExpiredRequests
-     * - 조건:
-     * - 1. 마감되지 않았고 (isClosed = false)
-     * - 2. 생성 시점이 기준(threshold)보다 이전이며
-     * - 3. 숨김 처리되지 않은 답변이 1개 이상 존재하는 요청
-     */
-    @Transactional(readOnly = true)
-    public List<Request> findOpenRequestsWithAnswers(LocalDateTime threshold) {
-        return requestRepository.findRequestsWithOldVisibleAnswers(threshold);
-    }
-
-    /**
-     * [2-3] 요청 저장 메서드
+     * [2-2] 요청 저장 메서드
      * AutoCloseRequestService: autoCloseExpiredRequests
      * - 자동 마감 시 상태 변경 저장용
      */
     @Transactional
     public Request save(Request request) {
-        return requestRepository.save(request);
+        Request saved = requestRepository.save(request);
+        tileCache.invalidateAfterCommit(TileCache.Kind.REQUEST, saved.getLat(), saved.getLng());
+        if (saved.isClosed()) {
+            domainEventBus.publishAfterCommit(DomainEvent.Type.REQUEST_CLOSED, saved);
+        }
+        return saved;
     }
 
     // ─────────────────────────────────────────────
@@ -184,14 +204,11 @@ public class RequestService {
 
         // Repository에서 필터링된 요청 조회
         Page<Request> entities = requestRepository.findOpenRequestsWithLocation(
-                lat, lng, radius, threshold, categoryEnum, pageable);
+                GeoUtil.envelope(lat, lng, radius), lat, lng, radius, threshold, categoryEnum, pageable);
 
         // DTO로 변환하여 반환
         return entities.stream()
-                .map(r -> {
-                    int visibleCount = countVisibleStatusLogsByRequestId(r.getId());
-                    return RequestDto.fromEntity(r, visibleCount);
-                })
+                .map(r -> RequestDto.fromEntity(r, r.getVisibleAnswerCount()))
                 .toList();
     }
 
@@ -213,21 +230,75 @@ public class RequestService {
      * RequestController: findNearbyRequestsPaged
      * - 위도/경도 기준 반경 내
      * - 미마감 + 응답 수 3개 미만
+     * - 반경을 감싸는 사각 범위의 타일 캐시(L1 → Redis → DB) 조회 후 거리로 다시 거름
      * - (TEST: 테스트를 위해서는 시간 변경)
      */
     public Page<RequestDto> findNearbyRequestsPaged(
             double lat, double lng, double radius, int page, int size) {
 
         LocalDateTime timeLimit = LocalDateTime.now().minusHours(3);
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        double[] range = GeoUtil.boundingBox(lat, lng, radius);
+        BoundingBox rangeBox = new BoundingBox(range[0], range[1], range[2], range[3], null);
+
+        // 캐시 대상보다 넓은 반경은 페이징 쿼리로 직접 조회
+        if (!tileCache.isCacheable(TileCache.Kind.REQUEST, rangeBox)) {
+            return requestRepository.findNearbyValidRequestsPaged(GeoUtil.envelope(lat, lng, radius), lat, lng,
+                    radius, timeLimit, PageRequest.of(page, size, LATEST_FIRST))
+                    .map(r -> RequestDto.fromEntity(r, r.getVisibleAnswerCount()));
+        }
+        return cachedRequests(rangeBox, timeLimit,
+                dto -> GeoUtil.distanceMeters(lat, lng, dto.getLat(), dto.getLng()) <= radius,
+                PageRequest.of(page, size));
+    }
 
-        Page<Request> pageResult = requestRepository.findNearbyValidRequestsPaged(
-                lat, lng, radius, timeLimit, pageable);
+    /**
+     * [3-3-A] 지도 화면 사각 범위 내 최신 요청 조회 (페이지네이션 포함)
+     * RequestController: findRequestsInBox
+     * - [3-3]과 같은 조건이며, 반경 대신 지도에 보이는 사각 범위로 조회
+     */
+    public Page<RequestDto> findRequestsInBox(BoundingBox box, int page, int size) {
+        box.validate();
+        LocalDateTime timeLimit = LocalDateTime.now().minusHours(3);
 
-        return pageResult.map(r -> {
-            int visibleCount = countVisibleStatusLogsByRequestId(r.getId());
-            return RequestDto.fromEntity(r, visibleCount);
-        });
+        if (!tileCache.isCacheable(TileCache.Kind.REQUEST, box)) {
+            return requestRepository.findValidRequestsInBox(box.toEnvelope(), timeLimit,
+                    PageRequest.of(page, size, LATEST_FIRST))
+                    .map(r -> RequestDto.fromEntity(r, r.getVisibleAnswerCount()));
+        }
+        return cachedRequests(box, timeLimit, dto -> box.contains(dto.getLat(), dto.getLng()),
+                PageRequest.of(page, size));
+    }
+
+    /**
+     * 미마감 요청 타일 캐시 조회 후 기준 시각 + 범위(filter)로 거르고 최신순 페이징
+     * - 호출 전에 TileCache.isCacheable 확인 (넓은 범위는 페이징 쿼리로 직접 조회)
+     */
+    private Page<RequestDto> cachedRequests(BoundingBox range, LocalDateTime timeLimit,
+            Predicate<RequestDto> filter, Pageable pageable) {
+        List<RequestDto> all = tileCache.get(TileCache.Kind.REQUEST, range, REQUEST_LIST,
+                RequestDto::getLat, RequestDto::getLng, this::loadValidRequestsInBox).stream()
+                .filter(dto -> !dto.getCreatedAt().isBefore(timeLimit) && filter.test(dto))
+                .sorted(Comparator.comparing(RequestDto::getCreatedAt).reversed())
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    /**
+     * 타일 캐시 미스 시 로딩: 사각 범위 내 3시간 이내 미마감 요청 (응답 3개 미만, 최신순 최대 limit개)
+     * - ID를 먼저 제한 조회한 뒤 연관 엔티티를 한 번에 조회 (요청별 지연 로딩 없음)
+     */
+    private List<RequestDto> loadValidRequestsInBox(BoundingBox range, int limit) {
+        List<Long> ids = requestRepository.findValidRequestIdsInBox(range.toEnvelope(),
+                LocalDateTime.now().minusHours(3), PageRequest.of(0, limit));
+        if (ids.isEmpty())
+            return List.of();
+        return requestRepository.findAllForListByIdIn(ids).stream()
+                .sorted(Comparator.comparing(Request::getCreatedAt).reversed())
+                .map(r -> RequestDto.fromEntity(r, r.getVisibleAnswerCount()))
+                .toList();
     }
 
     /**
@@ -242,11 +313,8 @@ public class RequestService {
         // [2] repository에 동적 필터 메서드 호출 (카테고리/키워드 필터링 포함)
         Page<Request> entities = requestRepository.findMyRequestsWithFilters(userId, category, keyword, pageable);
 
-        // [3] Entity → DTO 변환 + visibleAnswerCount 계산 포함
-        return entities.map(r -> {
-            int visibleCount = countVisibleStatusLogsByRequestId(r.getId()); // 비공개 제외한 답변 수
-            return RequestDto.fromEntity(r, visibleCount);
-        });
+        // [3] Entity → DTO 변환 (비공개 제외한 답변 수는 Request.visibleAnswerCount 사용)
+        return entities.map(r -> RequestDto.fromEntity(r, r.getVisibleAnswerCount()));
     }
 
     /**
@@ -256,10 +324,7 @@ public class RequestService {
     public List<RequestDto> getRequestsByPlaceId(Long placeId) {
         List<Request> requests = requestRepository.findByPlaceIdOrderByCreatedAtDesc(placeId);
         return requests.stream()
-                .map(r -> {
-                    int visibleCount = countVisibleStatusLogsByRequestId(r.getId());
-                    return RequestDto.fromEntity(r, visibleCount);
-                })
+                .map(r -> RequestDto.fromEntity(r, r.getVisibleAnswerCount()))
                 .toList();
     }
 
@@ -1,81 +1,275 @@
 package com.realcheck.scheduler;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.realcheck.point.dto.PointPosting;
 import com.realcheck.point.entity.PointType;
 import com.realcheck.point.service.PointService;
 import com.realcheck.request.entity.Request;
+import com.realcheck.request.repository.RequestRepository;
 import com.realcheck.request.service.RequestService;
+import com.realcheck.scheduler.JobLeaseManager.Lease;
 import com.realcheck.status.entity.StatusLog;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.status.service.RecentStatusLogWindow;
 import com.realcheck.user.entity.User;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AutoCloseRequestService {
+    // 첫 공개 답변 등록 후 자동 마감까지의 시간
+    public static final Duration CLOSE_DELAY = Duration.ofHours(3);
+    // 한 트랜잭션에서 처리할 요청 수
+    static final int CHUNK_SIZE = 100;
+    // 서버 간 작업 분할 단위 (요청 ID 구간 크기) - 구간마다 lease를 따로 획득
+    static final long RANGE_SIZE = 10_000;
+    // 구간 lease 이름 / 보유 시간 (주기 30분보다 짧게 잡아 다음 주기에는 다시 나눠 가짐)
+    private static final String LEASE_PREFIX = "auto-close:range:";
+    private static final Duration LEASE_HOLD = Duration.ofMinutes(25);
+
     private final RequestService requestService;
+    private final RequestRepository requestRepository;
+    private final StatusLogRepository statusLogRepository;
     private final PointService pointService;
+    private final RecentStatusLogWindow recentStatusLogWindow;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLeaseManager jobLeaseManager;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 3시간 경과 시 자동 마감 스케줄러 (5분마다 실행)
+     * 3시간 경과 시 자동 마감 보정 스케줄러 (30분마다 실행)
+     * - 정시 마감은 RequestExpiryWheel이 담당하며, 이 작업은 등록이 누락된 요청을 뒤늦게 마감하는 안전망
+     * - 모든 서버가 같은 시각(매시 0분/30분)에 실행하고, 대상 요청을 ID 구간(RANGE_SIZE)으로 나눠
+     *   구간마다 lease를 획득한 서버만 처리 → 구간별로 한 서버만 처리하고 남은 구간은 다른 서버가 나눠 처리
+     * - 구간 안에서는 키셋 페이지(id > 마지막 ID) 단위로 나눠 청크마다 짧은 트랜잭션으로 처리
+     * - 청크 처리 중 충돌/오류가 나면 해당 청크만 요청별 개별 트랜잭션으로 다시 처리
      * - (TEST: 테스트를 위해서는 시간 변경)
      */
-    @Scheduled(fixedRate = 300000) // 5분마다 실행
-    @Transactional
+    @Scheduled(cron = "0 0/30 * * * *") // 30분마다 실행 (서버 간 실행 시각 정렬)
     public void autoCloseExpiredRequests() {
-        LocalDateTime threshold = LocalDateTime.now().minusHours(3);
-        List<Request> openRequests = requestService.findOpenRequestsWithAnswers(threshold);
+        LocalDateTime threshold = LocalDateTime.now().minus(CLOSE_DELAY);
+        ChunkResult total = new ChunkResult();
+        long afterId = 0L;
+        int rangeCount = 0;
 
-        // [디버깅용 로그]
-        System.out.println("[AutoClose] " + LocalDateTime.now() +
-                " - 자동 마감 대상 요청 수: " + openRequests.size());
+        while (true) {
+            // 다음 대상 요청이 속한 구간 찾기 (대상이 없는 구간은 건너뜀)
+            List<Long> next = requestRepository.findAutoCloseCandidateIds(
+                    threshold, afterId, Long.MAX_VALUE, PageRequest.of(0, 1));
+            if (next.isEmpty())
+                break;
 
-        for (Request request : openRequests) {
-            if (request.isClosed() || request.getStatusLogs().stream().anyMatch(StatusLog::isSelected)) {
-                continue; // 이미 마감되거나 채택된 답변이 있는 경우 제외
+            long rangeNo = next.get(0) / RANGE_SIZE;
+            long rangeEnd = (rangeNo + 1) * RANGE_SIZE;
+            Optional<Lease> lease = jobLeaseManager.tryAcquire(LEASE_PREFIX + rangeNo, LEASE_HOLD);
+            if (lease.isPresent()) {
+                rangeCount++;
+                total.add(processRange(lease.get(), threshold, next.get(0) - 1, rangeEnd));
             }
+            afterId = rangeEnd - 1;
+        }
 
-            request.setClosed(true); // 마감 처리
-            try {
-                // 요청 상태를 마감으로 변경
-                if (!request.isPointHandled()) {
-                    // 자동 마감 처리 직후, 요청자에게 포인트 차감
-                    User requester = request.getUser();
-                    int totalPoints = request.getPoint();
+        // [디버깅용 로그]
+        log.info("[AutoClose] 자동 마감 완료 (처리 구간 {}개) - 마감: {}, 제외: {}, 충돌: {}, 실패: {}",
+                rangeCount, total.closed, total.skipped, total.conflicts, total.failed);
+    }
+
+    /**
+     * 단일 요청 마감 시각 도래 시 마감 처리
+     * RequestExpiryWheel: fire
+     * - 첫 공개 답변 + 3시간이 지났으면 마감 및 포인트 분배
+     * - 아직 마감 시각 전이면(첫 답변이 숨김 처리된 경우 등) 새 마감 예정 시각 반환
+     * - 이미 마감/채택되었거나 공개 답변이 없으면 빈 값 반환 (새 답변 등록 시 다시 등록됨)
+     * - 휠은 모든 서버에서 동작하므로 조건부 UPDATE(closeIfDue)로 먼저 마감을 선점하고,
+     *   선점한 서버만 포인트 분배 (다른 서버가 먼저 마감했으면 빈 값)
+     */
+    @Transactional
+    public Optional<LocalDateTime> closeIfExpired(Long requestId) {
+        Request request = requestService.findById(requestId).orElse(null);
+        if (request == null || request.isClosed() || request.getStatusLogs().stream().anyMatch(StatusLog::isSelected)) {
+            return Optional.empty();
+        }
+
+        Optional<LocalDateTime> deadline = request.getStatusLogs().stream()
+                .filter(log -> !log.isHidden())
+                .map(StatusLog::getCreatedAt)
+                .min(LocalDateTime::compareTo)
+                .map(firstAnswerAt -> firstAnswerAt.plus(CLOSE_DELAY));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (deadline.isEmpty() || deadline.get().isAfter(now)) {
+            return deadline;
+        }
+        if (requestRepository.closeIfDue(requestId, now.minus(CLOSE_DELAY)) == 0) {
+            return Optional.empty();
+        }
+
+        List<PointPosting> postings = new ArrayList<>();
+        closeAndDistribute(request, request.getStatusLogs(), postings);
+        pointService.postBatch(postings);
+        return Optional.empty();
+    }
+
+    /**
+     * 구간 처리 (lease를 획득한 ID 구간 [afterId + 1, rangeEnd) 안에서 청크 단위 처리)
+     * - lease를 다른 서버에 빼앗기면 남은 청크는 처리하지 않음
+     */
+    private ChunkResult processRange(Lease lease, LocalDateTime threshold, long afterId, long rangeEnd) {
+        ChunkResult total = new ChunkResult();
+        int chunkNo = 0;
+
+        while (true) {
+            List<Long> ids = requestRepository.findAutoCloseCandidateIds(
+                    threshold, afterId, rangeEnd, PageRequest.of(0, CHUNK_SIZE));
+            if (ids.isEmpty())
+                break;
+
+            chunkNo++;
+            long started = System.nanoTime();
+            ChunkResult result = processChunk(lease, ids);
+            long durationNanos = System.nanoTime() - started;
+            meterRegistry.timer("autoclose.chunk.duration").record(durationNanos, TimeUnit.NANOSECONDS);
+            if (result == null) {
+                log.warn("[AutoClose] {} lease 상실 - 구간 처리 중단", lease.name());
+                break;
+            }
 
-                    pointService.givePoint(requester, -totalPoints, "자동 마감으로 포인트 차감", PointType.DEDUCT);
-                    // 답변자에게 포인트 분배
-                    distributePointsToAnswerers(request);
+            // [청크 메트릭] 카운터 + 로그
+            recordChunk(result);
+            log.info("[AutoClose] {} 청크 {} ({}~{}) - 마감: {}, 제외: {}, 충돌: {}, 실패: {}, 소요: {}ms",
+                    lease.name(), chunkNo, ids.get(0), ids.get(ids.size() - 1),
+                    result.closed, result.skipped, result.conflicts, result.failed, durationNanos / 1_000_000);
 
-                    request.setPointHandled(true); // 분배 완료 플래그
-                }
-                requestService.save(request);
+            total.add(result);
+            afterId = ids.get(ids.size() - 1);
+        }
+        return total;
+    }
 
-                // [디버깅용 로그]
-                System.out.println("[AutoClose] 요청 ID " + request.getId() + " 마감 성공");
+    /**
+     * 청크 처리
+     * - 청크 전체를 하나의 트랜잭션으로 처리
+     * - 실패 시 롤백된 청크를 요청별 개별 트랜잭션으로 다시 처리해 충돌 난 요청만 제외
+     *
+     * @return lease를 빼앗겼으면 null
+     */
+    private ChunkResult processChunk(Lease lease, List<Long> ids) {
+        try {
+            return transactionTemplate.execute(status -> closeChunkFenced(lease, ids));
+        } catch (RuntimeException e) {
+            log.warn("[AutoClose] 청크 처리 실패 - 요청별로 재처리 ({})", e.getClass().getSimpleName());
+        }
 
+        ChunkResult result = new ChunkResult();
+        for (Long id : ids) {
+            try {
+                ChunkResult single = transactionTemplate.execute(status -> closeChunkFenced(lease, List.of(id)));
+                if (single == null)
+                    return null;
+                result.add(single);
             } catch (ObjectOptimisticLockingFailureException e) {
-                System.out.println("[AutoClose] 요청 ID " + request.getId() +
-                        " 마감 중 충돌 발생 - 다른 프로세스에서 처리했을 수 있음");
+                result.conflicts++;
+                log.info("[AutoClose] 요청 ID {} 마감 중 충돌 발생 - 다른 프로세스에서 처리했을 수 있음", id);
+            } catch (RuntimeException e) {
+                result.failed++;
+                log.error("[AutoClose] 요청 ID {} 마감 실패: {}", id, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * lease 확인 후 마감 처리 (트랜잭션 내부에서 호출)
+     * - 쓰기 전에 fenceToken을 확인하고, 커밋까지 lease 행을 잠가 다른 서버와 동시에 처리되지 않도록 함
+     *
+     * @return lease를 빼앗겼으면 null (아무것도 쓰지 않음)
+     */
+    private ChunkResult closeChunkFenced(Lease lease, List<Long> ids) {
+        if (!jobLeaseManager.verify(lease))
+            return null;
+        return closeChunk(ids);
+    }
+
+    /**
+     * 요청 ID 목록 마감 처리 (트랜잭션 내부에서 호출)
+     * - 요청(+요청자)과 청크 전체의 답변(+작성자)을 각각 한 번의 쿼리로 조회
+     * - 청크 전체의 포인트 차감/분배를 모아 한 번에 반영 (PointService.postBatch)
+     */
+    private ChunkResult closeChunk(List<Long> ids) {
+        List<Request> requests = requestRepository.findAllWithUserByIdIn(ids);
+        Map<Long, List<StatusLog>> answersByRequest = statusLogRepository.findByRequestIdInWithReporter(ids).stream()
+                .collect(Collectors.groupingBy(log -> log.getRequest().getId()));
+
+        ChunkResult result = new ChunkResult();
+        List<PointPosting> postings = new ArrayList<>();
+        for (Request request : requests) {
+            List<StatusLog> answers = answersByRequest.getOrDefault(request.getId(), List.of());
+            if (request.isClosed() || answers.stream().anyMatch(StatusLog::isSelected)) {
+                result.skipped++; // 이미 마감되거나 채택된 답변이 있는 경우 제외
+                continue;
             }
+            closeAndDistribute(request, answers, postings);
+            result.closed++;
+        }
+        pointService.postBatch(postings);
+        return result;
+    }
+
+    /**
+     * 요청 마감 + 포인트 차감/분배 공통 처리
+     * - 요청자 포인트 차감 후 공개 답변자에게 균등 분배 (최초 1회)
+     * - 포인트 증감은 postings에 모으고, 호출한 쪽에서 같은 트랜잭션 안에 일괄 반영
+     */
+    private void closeAndDistribute(Request request, List<StatusLog> answers, List<PointPosting> postings) {
+        request.setClosed(true); // 마감 처리
+
+        // 요청 상태를 마감으로 변경
+        if (!request.isPointHandled()) {
+            // 자동 마감 처리 직후, 요청자에게 포인트 차감
+            User requester = request.getUser();
+            int totalPoints = request.getPoint();
+
+            postings.add(new PointPosting(requester, -totalPoints, "자동 마감으로 포인트 차감", PointType.DEDUCT,
+                    PointPosting.requestKey(request.getId(), PointType.DEDUCT, requester.getId())));
+            // 답변자에게 포인트 분배
+            distributePointsToAnswerers(request, answers, postings);
+
+            request.setPointHandled(true); // 분배 완료 플래그
         }
+        requestService.save(request);
+        recentStatusLogWindow.markRequestClosedAfterCommit(request.getId());
+
+        // [디버깅용 로그]
+        log.info("[AutoClose] 요청 ID {} 마감 성공", request.getId());
     }
 
     /**
      * 포인트를 답변자에게 균등 분배 (소수점 제외)
      * - 최소 포인트 1점 이상만 분배
      * - PointType.EARN 으로 기록
+     * - 호출하는 쪽 트랜잭션 안에서 실행됨 (postings에 추가)
      */
-    @Transactional
-    private void distributePointsToAnswerers(Request request) {
-        List<StatusLog> visibleAnswers = request.getStatusLogs().stream()
+    private void distributePointsToAnswerers(Request request, List<StatusLog> answers, List<PointPosting> postings) {
+        List<StatusLog> visibleAnswers = answers.stream()
                 .filter(log -> !log.isHidden())
                 .toList();
 
@@ -85,9 +279,39 @@ public class AutoCloseRequestService {
 
         int totalPoints = request.getPoint();
         int pointPerUser = totalPoints / answerCount; // 소수점 제외
+        if (pointPerUser < 1)
+            return;
 
         for (StatusLog answer : visibleAnswers) {
-            pointService.givePoint(answer.getReporter(), pointPerUser, "자동 마감 포인트 분배", PointType.EARN);
+            postings.add(new PointPosting(answer.getReporter(), pointPerUser, "자동 마감 포인트 분배", PointType.EARN,
+                    PointPosting.answerKey(request.getId(), PointType.EARN, answer.getId())));
+        }
+    }
+
+    /**
+     * 청크 처리 결과 Micrometer 카운터 반영 (autoclose.chunk.closed / skipped / conflicts / failed)
+     */
+    private void recordChunk(ChunkResult result) {
+        meterRegistry.counter("autoclose.chunk.closed").increment(result.closed);
+        meterRegistry.counter("autoclose.chunk.skipped").increment(result.skipped);
+        meterRegistry.counter("autoclose.chunk.conflicts").increment(result.conflicts);
+        meterRegistry.counter("autoclose.chunk.failed").increment(result.failed);
+    }
+
+    /**
+     * 청크 처리 결과 (메트릭)
+     */
+    private static class ChunkResult {
+        private int closed;
+        private int skipped;
+        private int conflicts;
+        private int failed;
+
+        private void add(ChunkResult other) {
+            closed += other.closed;
+            skipped += other.skipped;
+            conflicts += other.conflicts;
+            failed += other.failed;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.realcheck.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.scheduler.repository.JobLeaseRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JobLeaseManager
+ * - 여러 서버에서 같은 시각에 실행되는 스케줄 작업을 한 서버만 실행하도록 DB 행(job_lease) 기반 lease 관리
+ * - 획득: 만료된 lease만 가져갈 수 있고, 가져갈 때마다 fenceToken 증가
+ * - 보유 중 쓰기: 작업 트랜잭션 안에서 verify로 fenceToken을 확인하며 만료 연장
+ *   (lease 행이 트랜잭션 끝까지 잠기므로, 확인 후 커밋 전에 다른 서버로 넘어가는 경우가 없음)
+ * - 자동 장애 조치: 보유 서버가 죽으면 만료 시각 이후 다른 서버가 획득
+ * - 만료 판단은 각 서버 시계 기준이므로 서버 간 시계 오차는 fence 검사로 보완
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    // 새로 만든 lease 행의 만료 시각 (처음부터 만료 상태)
+    private static final LocalDateTime UNOWNED_EXPIRES_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final JobLeaseRepository jobLeaseRepository;
+    // 호출한 쪽 트랜잭션과 관계없이 획득 결과를 바로 커밋하기 위한 별도 트랜잭션
+    private final TransactionTemplate acquireTransaction;
+
+    // 서버 인스턴스 식별자 (lease owner)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public JobLeaseManager(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.acquireTransaction = new TransactionTemplate(transactionManager);
+        this.acquireTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ─────────────────────────────────────────────
+    // [1] lease 획득 / 확인
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] lease 획득 시도
+     * AutoCloseRequestService: autoCloseExpiredRequests
+     * UserDeletionScheduler: autoDeleteExpiredAccounts
+     * StatsRollupBackfillScheduler: rebuild
+     * PointRollupConsistencyChecker: check
+     * LeaderboardRebuildScheduler: rebuild
+     * - 다른 서버가 보유 중(미만료)이면 빈 값
+     * - DB 오류 시에도 빈 값 (이번 주기는 건너뛰고 다음 주기에 다시 시도)
+     *
+     * @param holdFor 보유 시간 (이 시간 동안 다른 서버는 실행하지 않음, verify 때마다 연장)
+     */
+    public Optional<Lease> tryAcquire(String name, Duration holdFor) {
+        try {
+            Long fenceToken = acquireTransaction.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                jobLeaseRepository.insertIfAbsent(name, UNOWNED_EXPIRES_AT);
+                if (jobLeaseRepository.tryAcquire(name, nodeId, now, now.plus(holdFor)) == 0)
+                    return null;
+                return jobLeaseRepository.findFenceToken(name, nodeId).orElse(null);
+            });
+            return Optional.ofNullable(fenceToken).map(token -> new Lease(name, token, holdFor));
+        } catch (DataAccessException e) {
+            log.warn("[JobLease] {} 획득 실패 - 이번 주기 건너뜀: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * [1-2] lease 보유 확인 + 만료 연장 (작업 트랜잭션 안에서 쓰기 전에 호출)
+     * AutoCloseRequestService: processChunk
+     * UserDeletionScheduler: autoDeleteExpiredAccounts
+     * StatsRollupBackfillScheduler: recompute
+     * PointRollupConsistencyChecker: verify
+     *
+     * @return 다른 서버로 넘어갔으면 false (호출한 쪽은 쓰기 없이 작업 중단)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean verify(Lease lease) {
+        boolean held = jobLeaseRepository.extend(lease.name(), nodeId, lease.fenceToken(),
+                LocalDateTime.now().plus(lease.holdFor())) == 1;
+        if (!held)
+            log.warn("[JobLease] {} 소유권 상실 (fenceToken={}) - 작업 중단", lease.name(), lease.fenceToken());
+        return held;
+    }
+
+    /**
+     * 획득한 lease (이름, 소유권 번호, 보유 시간)
+     */
+    public record Lease(String name, long fenceToken, Duration holdFor) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.realcheck.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.realcheck.common.service.LeaderboardService;
+import com.realcheck.common.service.LeaderboardService.Board;
+import com.realcheck.report.repository.ReportRepository;
+import com.realcheck.request.repository.RequestRepository;
+import com.realcheck.scheduler.JobLeaseManager.Lease;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardRebuildScheduler {
+    // 작업 lease 이름 / 보유 시간 (1시간 주기 실행 중 다른 서버는 건너뜀)
+    private static final String LEASE_NAME = "leaderboard-rebuild";
+    private static final Duration LEASE_HOLD = Duration.ofMinutes(50);
+
+    private final LeaderboardService leaderboardService;
+    private final StatusLogRepository statusLogRepository;
+    private final RequestRepository requestRepository;
+    private final ReportRepository reportRepository;
+    private final UserRepository userRepository;
+    private final JobLeaseManager jobLeaseManager;
+
+    /**
+     * 순위표 재구성 (1시간마다, 서버 시작 1분 후 최초 실행)
+     * - lease를 획득한 서버 한 곳만 실행
+     * - MySQL 집계(사용자별 작성 수, 요청 수, 신고당한 수, 잔액)로 순위표를 통째로 교체
+     *   (사용자 삭제 연쇄, Redis 장애 중 누락된 증감 등 어긋난 점수 보정)
+     * - Redis에 순위표가 없는 최초 실행 전까지 관리자 화면은 DB 집계로 조회
+     */
+    @Scheduled(initialDelay = 60000, fixedRate = 3600000)
+    public void rebuild() {
+        Optional<Lease> lease = jobLeaseManager.tryAcquire(LEASE_NAME, LEASE_HOLD);
+        if (lease.isEmpty()) {
+            log.info("[Leaderboard] 다른 서버에서 실행 중이므로 건너뜀");
+            return;
+        }
+
+        rebuild(Board.CONTRIBUTORS, statusLogRepository::countByReporter);
+        rebuild(Board.REQUESTERS, requestRepository::countByRequester);
+        rebuild(Board.REPORTED, reportRepository::countByReportedUser);
+        rebuild(Board.POINTS, userRepository::findAllPoints);
+    }
+
+    // 순위표별로 따로 처리 (하나가 실패해도 나머지는 교체)
+    private void rebuild(Board board, Supplier<List<Object[]>> source) {
+        try {
+            int size = leaderboardService.replace(board, source.get());
+            log.info("[Leaderboard] {} 재구성 완료: {}명", board, size);
+        } catch (Exception e) {
+            log.error("[Leaderboard] {} 재구성 중 오류 발생: {}", board, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.realcheck.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.admin.service.PointDailyRollupService;
+import com.realcheck.admin.service.StatsRollupService;
+import com.realcheck.point.repository.PointRepository;
+import com.realcheck.scheduler.JobLeaseManager.Lease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointRollupConsistencyChecker {
+    // 작업 lease 이름 / 보유 시간 (1시간 주기 실행 중 다른 서버는 건너뜀)
+    private static final String LEASE_NAME = "point-rollup-check";
+    private static final Duration LEASE_HOLD = Duration.ofMinutes(50);
+    // 과거 구간 대조 진행 위치 이름 (stats_rollup BACKFILL_CURSOR 행)
+    private static final String CURSOR_NAME = "POINT_DAILY_ROLLUP";
+    // 한 트랜잭션에서 대조하는 일수
+    static final int CHUNK_DAYS = 31;
+    // 1회 실행당 과거 구간 대조 최대 일수
+    static final int MAX_DAYS_PER_RUN = 366;
+
+    private final PointDailyRollupService pointDailyRollupService;
+    private final StatsRollupService statsRollupService;
+    private final PointRepository pointRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 포인트 일별 롤업 ↔ 원장 대조 (1시간마다, 서버 시작 3분 후 최초 실행)
+     * - lease를 획득한 서버 한 곳만 실행
+     * - 1) 대기 중인 이벤트 증감분 반영
+     * - 2) 그저께~어제 대조 (자정 전후 커밋, 반영 전 서버 종료 등으로 생긴 최근 오차 보정)
+     * - 3) 과거 구간을 진행 위치(cursor) 다음 날부터 이어서 대조 (최초 배포 시 과거 롤업 채우기)
+     *      그저께 이전까지 끝나면 첫 내역 일자부터 다시 돌며, 사용자 삭제 연쇄 등으로 바뀐 원장을 반영
+     * - 불일치 구간은 원장 값으로 다시 저장하고 경고 로그 (당일분은 조회 시 원장에서 직접 집계하므로 대조 제외)
+     */
+    @Scheduled(initialDelay = 180000, fixedRate = 3600000)
+    public void check() {
+        Optional<Lease> lease = jobLeaseManager.tryAcquire(LEASE_NAME, LEASE_HOLD);
+        if (lease.isEmpty()) {
+            log.info("[PointRollup] 다른 서버에서 실행 중이므로 건너뜀");
+            return;
+        }
+
+        pointDailyRollupService.flush();
+
+        LocalDate today = LocalDate.now();
+        LocalDate recentFrom = today.minusDays(2);
+        if (!verify(lease.get(), recentFrom, today, null))
+            return;
+
+        LocalDateTime earliest = pointRepository.findEarliestEarnedAt();
+        LocalDate start = earliest != null ? earliest.toLocalDate() : today;
+        LocalDate from = statsRollupService.findCursor(CURSOR_NAME).map(date -> date.plusDays(1)).orElse(start);
+        if (!from.isBefore(recentFrom))
+            from = start;
+        LocalDate end = min(from.plusDays(MAX_DAYS_PER_RUN), recentFrom);
+        while (from.isBefore(end)) {
+            LocalDate to = min(from.plusDays(CHUNK_DAYS), end);
+            if (!verify(lease.get(), from, to, to.minusDays(1)))
+                return;
+            from = to;
+        }
+    }
+
+    // 구간 대조 + 진행 위치 저장 (lease를 빼앗겼거나 오류 시 false → 이번 실행 중단)
+    private boolean verify(Lease lease, LocalDate from, LocalDate to, LocalDate cursor) {
+        try {
+            Boolean done = transactionTemplate.execute(status -> {
+                if (!jobLeaseManager.verify(lease))
+                    return false;
+                pointDailyRollupService.verify(from, to);
+                if (cursor != null)
+                    statsRollupService.saveCursor(CURSOR_NAME, cursor);
+                return true;
+            });
+            return Boolean.TRUE.equals(done);
+        } catch (Exception e) {
+            log.error("[PointRollup] 원장 대조 중 오류 발생 ({} ~ {}): {}", from, to, e.getMessage());
+            return false;
+        }
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,221 @@
+package com.realcheck.scheduler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.realcheck.request.repository.RequestRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RequestExpiryWheel
+ * - 요청 자동 마감 시각을 1초 단위 타이밍 휠(timing wheel)로 관리
+ * - 첫 공개 답변 등록 시 마감 예정 시각(답변 + 3시간)을 등록하고, 해당 초가 되면 즉시 마감 처리
+ * - 매 틱마다 현재 슬롯 하나만 확인하므로 미마감 요청 수와 관계없이 틱 비용이 일정함
+ * - 서버 시작 시 DB의 미마감 요청으로 다시 구성
+ * - 모든 서버에서 같은 요청이 실행되므로, 마감은 조건부 UPDATE로 한 서버만 선점 (AutoCloseRequestService: closeIfExpired)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestExpiryWheel {
+
+    // 슬롯 수 (1슬롯 = 1초, 한 바퀴 = 512초) - 더 먼 마감 시각은 여러 바퀴 후 처리
+    static final int WHEEL_SIZE = 512;
+    // 틱 확인 주기 (밀리초) - 마감 지연을 1초 미만으로 유지
+    private static final long TICK_MILLIS = 200;
+    // 동시 수정 충돌 시 재시도 간격 (초)
+    private static final long RETRY_DELAY_SECONDS = 5;
+
+    private final AutoCloseRequestService autoCloseRequestService;
+    private final RequestRepository requestRepository;
+
+    // 슬롯별 요청 ID 목록
+    private final List<Set<Long>> slots = createSlots();
+    // requestId → 마감 예정 시각 (epoch second)
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+    // 마지막으로 처리한 시각 (epoch second)
+    private long currentSecond;
+    private ScheduledExecutorService ticker;
+
+    // ─────────────────────────────────────────────
+    // [1] 시작 / 종료
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 애플리케이션 시작 시 미마감 요청의 마감 예정 시각 등록 후 틱 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronized (this) {
+            currentSecond = toEpochSecond(LocalDateTime.now());
+        }
+
+        List<Object[]> rows = requestRepository.findFirstVisibleAnswerTimesOfOpenRequests();
+        for (Object[] row : rows) {
+            schedule((Long) row[0], ((LocalDateTime) row[1]).plus(AutoCloseRequestService.CLOSE_DELAY));
+        }
+        log.info("[RequestExpiryWheel] 마감 예정 요청 {}건 등록", rows.size());
+
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "request-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * [1-2] 애플리케이션 종료 시 틱 중지
+     */
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 마감 예정 시각 등록
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 마감 예정 시각 등록 (커밋 이후 반영)
+     * StatusLogService: registerInternal
+     * ReportAdminService: deleteReport
+     * StatusLogAdminService: unblockLog
+     * - 트랜잭션이 롤백되면 등록하지 않음
+     */
+    public void scheduleAfterCommit(Long requestId, LocalDateTime deadline) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(requestId, deadline);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(requestId, deadline);
+            }
+        });
+    }
+
+    /**
+     * [2-2] 마감 예정 시각 등록 (즉시 반영)
+     * - 이미 더 이른 시각이 등록되어 있으면 무시 (첫 답변 기준 마감)
+     * - 이미 지난 시각이면 다음 틱에 처리
+     */
+    public synchronized void schedule(Long requestId, LocalDateTime deadline) {
+        long second = toEpochSecond(deadline);
+        Long existing = deadlines.get(requestId);
+        if (existing != null && existing <= second) {
+            return;
+        }
+        deadlines.put(requestId, second);
+        slots.get(slotOf(Math.max(second, currentSecond + 1))).add(requestId);
+    }
+
+    /**
+     * [2-3] 등록된 요청 수
+     */
+    public int size() {
+        return deadlines.size();
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    /**
+     * 틱 처리: 마지막 처리 시각 이후 지나간 슬롯을 순서대로 확인
+     * - 서버가 멈춰 있던 시간이 한 바퀴를 넘으면 모든 슬롯을 한 번씩만 확인
+     */
+    void tick() {
+        try {
+            long now = toEpochSecond(LocalDateTime.now());
+            List<Long> due = new ArrayList<>();
+
+            synchronized (this) {
+                long from = Math.max(currentSecond + 1, now - WHEEL_SIZE + 1);
+                for (long second = from; second <= now; second++) {
+                    collectDue(slotOf(second), now, due);
+                }
+                currentSecond = Math.max(currentSecond, now);
+            }
+
+            due.forEach(this::fire);
+        } catch (Exception e) {
+            log.error("[RequestExpiryWheel] 틱 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 슬롯에서 마감 시각이 지난 요청을 꺼냄
+     * - 다른 슬롯으로 다시 등록되었거나 이미 처리된 항목은 제거
+     * - 아직 바퀴가 남은 항목은 유지
+     */
+    private void collectDue(int slot, long now, List<Long> due) {
+        Set<Long> ids = slots.get(slot);
+        ids.removeIf(id -> {
+            Long deadline = deadlines.get(id);
+            if (deadline == null) {
+                return true;
+            }
+            if (deadline <= now) {
+                deadlines.remove(id);
+                due.add(id);
+                return true;
+            }
+            return slotOf(deadline) != slot;
+        });
+    }
+
+    /**
+     * 마감 처리 실행
+     * - 아직 마감 시각 전이면 새 시각으로 다시 등록
+     * - 동시 수정 충돌 시 잠시 후 재시도
+     */
+    private void fire(Long requestId) {
+        try {
+            autoCloseRequestService.closeIfExpired(requestId)
+                    .ifPresent(next -> schedule(requestId, next));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("[RequestExpiryWheel] 요청 ID {} 마감 중 충돌 발생 - {}초 후 재시도", requestId, RETRY_DELAY_SECONDS);
+            schedule(requestId, LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS));
+        } catch (Exception e) {
+            log.error("[RequestExpiryWheel] 요청 ID {} 마감 실패: {}", requestId, e.getMessage(), e);
+        }
+    }
+
+    private static int slotOf(long epochSecond) {
+        return (int) Math.floorMod(epochSecond, (long) WHEEL_SIZE);
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static List<Set<Long>> createSlots() {
+        List<Set<Long>> slots = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.add(ConcurrentHashMap.newKeySet());
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,105 @@
+package com.realcheck.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.admin.entity.StatsMetric;
+import com.realcheck.admin.service.StatsRollupService;
+import com.realcheck.scheduler.JobLeaseManager.Lease;
+import com.realcheck.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatsRollupBackfillScheduler {
+    // 작업 lease 이름 / 보유 시간 (1시간 주기 실행 중 다른 서버는 건너뜀)
+    private static final String LEASE_NAME = "stats-rollup";
+    private static final Duration LEASE_HOLD = Duration.ofMinutes(50);
+    // 재계산 대상 통계
+    private static final List<StatsMetric> METRICS = List.of(
+            StatsMetric.STATUS_LOG, StatsMetric.REQUEST, StatsMetric.PLACE, StatsMetric.USER);
+    // 한 트랜잭션에서 재계산하는 일수
+    static final int CHUNK_DAYS = 31;
+    // 1회 실행당 통계별 과거 구간 재계산 최대 일수
+    static final int MAX_DAYS_PER_RUN = 366;
+
+    private final StatsRollupService statsRollupService;
+    private final UserRepository userRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 통계 롤업 재계산 (1시간마다, 서버 시작 2분 후 최초 실행)
+     * - lease를 획득한 서버 한 곳만 실행
+     * - 1) 대기 중인 이벤트 증감분 반영
+     * - 2) 어제~오늘 재계산 (이벤트가 없는 장소 등록/가입 수를 1시간 단위로 갱신)
+     * - 3) 과거 구간을 진행 위치(cursor) 다음 날부터 이어서 재계산 (최초 배포 시 과거 데이터 채우기)
+     *      그저께까지 끝나면 첫 가입일부터 다시 돌며, 삭제 연쇄 등 이벤트로 잡히지 않은 오차를 보정
+     * - 구간(31일)마다 lease 확인 + 재계산 + 진행 위치 저장을 한 트랜잭션으로 처리하므로
+     *   중간에 서버가 멈춰도 다음 실행이 마지막 완료 구간 이후부터 이어서 진행
+     */
+    @Scheduled(initialDelay = 120000, fixedRate = 3600000)
+    public void rebuild() {
+        Optional<Lease> lease = jobLeaseManager.tryAcquire(LEASE_NAME, LEASE_HOLD);
+        if (lease.isEmpty()) {
+            log.info("[StatsRollup] 다른 서버에서 실행 중이므로 건너뜀");
+            return;
+        }
+
+        statsRollupService.flush();
+
+        LocalDate today = LocalDate.now();
+        LocalDate recentFrom = today.minusDays(1);
+        LocalDateTime earliest = userRepository.findEarliestCreatedAt();
+        LocalDate start = earliest != null ? earliest.toLocalDate() : today;
+
+        for (StatsMetric metric : METRICS) {
+            if (!recompute(lease.get(), metric, recentFrom, today.plusDays(1), null))
+                return;
+
+            LocalDate from = statsRollupService.findCursor(metric).map(date -> date.plusDays(1)).orElse(start);
+            if (!from.isBefore(recentFrom))
+                from = start;
+            LocalDate end = min(from.plusDays(MAX_DAYS_PER_RUN), recentFrom);
+            while (from.isBefore(end)) {
+                LocalDate to = min(from.plusDays(CHUNK_DAYS), end);
+                if (!recompute(lease.get(), metric, from, to, to.minusDays(1)))
+                    return;
+                from = to;
+            }
+            log.info("[StatsRollup] {} 재계산 완료 (과거 구간 ~{})", metric, end.minusDays(1));
+        }
+    }
+
+    // 구간 재계산 + 진행 위치 저장 (lease를 빼앗겼거나 오류 시 false → 이번 실행 중단)
+    private boolean recompute(Lease lease, StatsMetric metric, LocalDate from, LocalDate to, LocalDate cursor) {
+        try {
+            Boolean done = transactionTemplate.execute(status -> {
+                if (!jobLeaseManager.verify(lease))
+                    return false;
+                statsRollupService.recompute(metric, from, to);
+                if (cursor != null)
+                    statsRollupService.saveCursor(metric, cursor);
+                return true;
+            });
+            return Boolean.TRUE.equals(done);
+        } catch (Exception e) {
+            log.error("[StatsRollup] {} 재계산 중 오류 발생 ({} ~ {}): {}", metric, from, to, e.getMessage());
+            return false;
+        }
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -1,11 +1,14 @@
 package com.realcheck.scheduler;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.realcheck.scheduler.JobLeaseManager.Lease;
 import com.realcheck.user.entity.User;
 import com.realcheck.user.repository.UserRepository;
 import com.realcheck.user.service.UserService;
@@ -17,21 +20,41 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class UserDeletionScheduler {
+    // 작업 lease 이름 / 보유 시간 (같은 자정 실행 중 다른 서버는 건너뜀)
+    private static final String LEASE_NAME = "user-deletion";
+    private static final Duration LEASE_HOLD = Duration.ofHours(1);
+
     private final UserService userService;
     private final UserRepository userRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 매일 자정에 탈퇴 예정 사용자 삭제
+     * - lease를 획득한 서버 한 곳만 실행 (보유 서버 장애 시 다음 실행에서 다른 서버가 획득)
+     * - 사용자별 트랜잭션에서 lease 확인 후 삭제 (lease를 빼앗기면 남은 사용자는 처리하지 않음)
      */
     @Scheduled(cron = "0 0 0 * * *")// 매일 자정
-    @Transactional
     public void autoDeleteExpiredAccounts() {
+        Optional<Lease> lease = jobLeaseManager.tryAcquire(LEASE_NAME, LEASE_HOLD);
+        if (lease.isEmpty()) {
+            log.info("회원 탈퇴 처리 - 다른 서버에서 실행 중이므로 건너뜀");
+            return;
+        }
+
         List<User> usersToDelete = userRepository
                 .findByIsPendingDeletionTrueAndDeletionScheduledAtBefore(LocalDateTime.now());
 
         for (User user : usersToDelete) {
             try {
-                userService.deleteUserAndRelatedData(user.getId());
+                Boolean deleted = transactionTemplate.execute(status -> {
+                    if (!jobLeaseManager.verify(lease.get()))
+                        return false;
+                    userService.deleteUserAndRelatedData(user.getId());
+                    return true;
+                });
+                if (!Boolean.TRUE.equals(deleted))
+                    return;
                 log.info("회원 탈퇴 처리 완료: {}", user.getEmail());
             } catch (Exception e) {
                 log.error("회원 탈퇴 처리 중 오류 발생 (ID: {}): {}", user.getId(), e.getMessage());
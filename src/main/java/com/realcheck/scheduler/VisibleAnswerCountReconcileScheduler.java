@@ -0,0 +1,36 @@
+package com.realcheck.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realcheck.request.repository.RequestRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VisibleAnswerCountReconcileScheduler {
+    private final RequestRepository requestRepository;
+
+    /**
+     * 요청별 공개 답변 수(visibleAnswerCount) 보정 (1시간마다 실행)
+     * - 회원 탈퇴로 인한 연쇄 삭제 등 서비스 로직을 거치지 않은 변경으로 어긋난 값을 실제 값으로 맞춤
+     * - 서버 시작 시(ApplicationReadyEvent) 한 번 동기 실행 (컬럼 추가 직후 기존 요청 값 채우기 포함)
+     *   → 이벤트 처리가 끝난 뒤에 readiness가 ACCEPTING_TRAFFIC으로 바뀌므로 보정 전 값으로 응답하지 않음
+     * - 이후 1시간마다 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 3600000, fixedRate = 3600000)
+    @Transactional
+    public void reconcile() {
+        int updated = requestRepository.reconcileVisibleAnswerCounts();
+        if (updated > 0) {
+            log.info("[VisibleAnswerCount] 공개 답변 수 보정 완료: {}건", updated);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.realcheck.scheduler.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * JobLease 엔티티
+ * - 여러 서버에서 동시에 도는 스케줄 작업의 실행 권한(lease) 기록
+ * - 작업(또는 작업 구간) 이름별 한 행이며, 만료 전까지는 owner 서버만 실행
+ * - fenceToken: 소유권이 넘어갈 때마다 1씩 증가하는 번호
+ *   (이전 소유자가 늦게 쓰기를 시도해도 번호가 달라 거부됨)
+ */
+@Entity
+@Table(name = "job_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class JobLease {
+
+    // ─────────────────────────────────────────────
+    // [1] 기본 정보
+    // ─────────────────────────────────────────────
+
+    // 작업 이름 (예: user-deletion, auto-close:range:3)
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // 현재 소유 서버 ID (비어 있으면 미소유)
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    // 소유권 번호 (획득할 때마다 증가)
+    @Column(nullable = false)
+    private long fenceToken;
+
+    // 만료 시각 (이후에는 다른 서버가 획득 가능)
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
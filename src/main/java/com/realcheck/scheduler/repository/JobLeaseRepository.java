@@ -0,0 +1,73 @@
+package com.realcheck.scheduler.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.realcheck.scheduler.entity.JobLease;
+
+/**
+ * JobLeaseRepository
+ * - 스케줄 작업 lease 획득/연장 쿼리
+ * - 모든 변경은 조건부 UPDATE 한 번으로 처리 (행 잠금으로 서버 간 경합 정리)
+ */
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * [1-1] lease 행이 없으면 미소유 상태로 생성 (MySQL INSERT IGNORE)
+     * JobLeaseManager: tryAcquire
+     * - 여러 서버가 동시에 생성해도 한 행만 남음
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO job_lease (name, owner, fence_token, expires_at)
+            VALUES (:name, '', 0, :expiresAt)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * [1-2] lease 획득 (만료되었거나 이미 내 소유인 경우만)
+     * JobLeaseManager: tryAcquire
+     * - 획득할 때마다 fenceToken 증가
+     *
+     * @return 획득 시 1, 다른 서버가 보유 중이면 0
+     */
+    @Modifying
+    @Query("""
+            UPDATE JobLease l
+            SET l.owner = :owner, l.fenceToken = l.fenceToken + 1, l.expiresAt = :expiresAt
+            WHERE l.name = :name
+            AND (l.expiresAt < :now OR l.owner = :owner)
+            """)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+            @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * [1-3] 내 소유 lease의 fenceToken 조회
+     * JobLeaseManager: tryAcquire
+     */
+    @Query("SELECT l.fenceToken FROM JobLease l WHERE l.name = :name AND l.owner = :owner")
+    Optional<Long> findFenceToken(@Param("name") String name, @Param("owner") String owner);
+
+    /**
+     * [1-4] 소유권 확인 + 만료 연장 (fence 검사)
+     * JobLeaseManager: verify
+     * - 호출한 트랜잭션이 끝날 때까지 lease 행이 잠기므로, 그 사이 다른 서버가 가져갈 수 없음
+     *
+     * @return 여전히 같은 fenceToken을 보유 중이면 1, 빼앗겼으면 0
+     */
+    @Modifying
+    @Query("""
+            UPDATE JobLease l
+            SET l.expiresAt = :expiresAt
+            WHERE l.name = :name
+            AND l.owner = :owner
+            AND l.fenceToken = :fenceToken
+            """)
+    int extend(@Param("name") String name, @Param("owner") String owner,
+            @Param("fenceToken") long fenceToken, @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -1,9 +1,10 @@
 package com.realcheck.status.controller;
 
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.dto.MapClusterDto;
 import com.realcheck.common.dto.PageResult;
 import com.realcheck.status.dto.PlaceLogGroupDto;
 import com.realcheck.status.dto.StatusLogDto;
-import com.realcheck.status.entity.StatusLog;
 import com.realcheck.status.service.StatusLogService;
 import com.realcheck.user.dto.UserDto;
 import com.realcheck.user.entity.User;
@@ -13,12 +14,15 @@ import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * StatusLogController (ALL DONE)
@@ -85,6 +89,22 @@ public class StatusLogController {
         return statusLogService.viewFreeShare(id, user.getId());
     }
 
+    /**
+     * [1-4] 자발적 공유 상태 로그 일괄 조회수 반영 API
+     * page: map/free-share.jsp
+     * - 목록 화면에서 여러 로그를 한 번에 보여줄 때 (같은 위치 공유 모두 보기)
+     * - 요청 본문: 로그 ID 목록 (최대 50개)
+     * - 응답: 로그 ID → 반영 후 조회수
+     */
+    @PostMapping("/free-share/views")
+    public ResponseEntity<Map<Long, Integer>> viewFreeShares(@RequestBody List<Long> ids, HttpSession session) {
+        UserDto loginUser = (UserDto) session.getAttribute("loginUser");
+        if (loginUser == null) {
+            return ResponseEntity.status(401).build(); // Unauthorized
+        }
+        return ResponseEntity.ok(statusLogService.viewFreeShares(ids, loginUser.getId()));
+    }
+
     // ─────────────────────────────────────────────
     // [2] 사용자 기능 - 상태 로그 조회 (READ)
     // ─────────────────────────────────────────────
@@ -122,6 +142,16 @@ public class StatusLogController {
         return ResponseEntity.ok(answers);
     }
 
+    /**
+     * [2-2-A] 요청 ID로 연결된 답변 변경 실시간 구독 API (Server-Sent Events)
+     * - page: request/detail.jsp
+     * - 이벤트: answer-created, answer-updated, answer-selected, answer-hidden (data: StatusLogDto)
+     */
+    @GetMapping(value = "/by-request/{requestId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAnswersByRequest(@PathVariable Long requestId) {
+        return statusLogService.subscribeAnswers(requestId);
+    }
+
     /**
      * [2-3] 현재 위치 기반 grouped 상태 로그 조회 API
      * page: map/nearby.jsp
@@ -139,6 +169,28 @@ public class StatusLogController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * [2-3-A] 지도 화면 사각 범위 기반 grouped 상태 로그 조회 API
+     * page: map/nearby.jsp
+     * - 파라미터: minLat, minLng, maxLat, maxLng, zoom(선택)
+     * - [2-3]과 같은 그룹핑이며, 반경 대신 지도에 보이는 사각 범위만 조회
+     */
+    @GetMapping("/bbox/grouped")
+    public ResponseEntity<List<PlaceLogGroupDto>> getGroupedLogsInBox(BoundingBox box) {
+        return ResponseEntity.ok(statusLogService.findGroupedPlaceLogsInBox(box));
+    }
+
+    /**
+     * [2-3-B] 지도 화면 사각 범위 기반 grouped 상태 로그 클러스터 조회 API
+     * page: map/nearby.jsp
+     * - 파라미터: minLat, minLng, maxLat, maxLng, zoom(필수)
+     * - 저배율에서는 중심 좌표 + 장소 수만, 고배율(17 이상)에서는 장소별 그룹 반환
+     */
+    @GetMapping("/bbox/grouped/clusters")
+    public ResponseEntity<List<MapClusterDto<PlaceLogGroupDto>>> getGroupedLogClustersInBox(BoundingBox box) {
+        return ResponseEntity.ok(statusLogService.findGroupedPlaceLogClustersInBox(box));
+    }
+
     /**
      * [2-4] 일반 장소 위치 응답 로그 조회 API
      * page: map/nearby.jsp
@@ -151,8 +203,7 @@ public class StatusLogController {
             @RequestParam(defaultValue = "3000") double radiusMeters,
             @PageableDefault(size = 6, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        Page<StatusLog> logs = statusLogService.findNearbyUserLocationLogs(lat, lng, radiusMeters, pageable);
-        return ResponseEntity.ok(logs.map(StatusLogDto::fromEntity));
+        return ResponseEntity.ok(statusLogService.findNearbyUserLocationLogs(lat, lng, radiusMeters, pageable));
     }
 
     /**
@@ -174,6 +225,22 @@ public class StatusLogController {
         return statusLogService.findNearbyFreeShareLogs(lat, lng, radiusMeters, cutoff, page, size);
     }
 
+    /**
+     * [2-4-A] 지도 화면 사각 범위 내 자발적 공유 상태 로그 조회 API
+     * page: map/free-share.jsp
+     * - 파라미터: minLat, minLng, maxLat, maxLng, zoom(선택)
+     * - 기본 조회 기간: 7일
+     */
+    @GetMapping("/free-share/bbox")
+    public PageResult<StatusLogDto> getFreeShareLogsInBox(
+            BoundingBox box,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
+        return statusLogService.findFreeShareLogsInBox(box, cutoff, page, size);
+    }
+
     // ─────────────────────────────────────────────
     // [3] 사용자 기능 - 상태 로그 수정 (UPDATE)
     // ─────────────────────────────────────────────
@@ -0,0 +1,117 @@
+package com.realcheck.status.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.realcheck.request.entity.RequestCategory;
+import com.realcheck.status.entity.StatusType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * PlaceLogRow
+ * - 공식 장소 상태 로그 조회용 평면(flat) 프로젝션
+ * - StatusLogRepository.findNearbyPlaceLogRows의 JPQL 생성자 표현식(SELECT new ...)으로 생성
+ * - 작성자/장소/요청 정보를 한 번의 조인 쿼리로 가져오므로 엔티티 지연 로딩(N+1)이 발생하지 않음
+ * - 이미지 URL(컬렉션)은 별도 IN 쿼리로 한 번에 조회 후 toDto에서 합침
+ * - 생성자 인자 순서는 JPQL SELECT 절 순서와 반드시 일치해야 함
+ */
+@Getter
+@AllArgsConstructor
+public class PlaceLogRow {
+
+    // 로그 기본 정보
+    private Long id;
+    private Integer version;
+    private String content;
+    private StatusType type;
+    private boolean isSelected;
+    private boolean isHidden;
+    private int reportCount;
+    private int viewCount;
+    private boolean rewarded;
+    private Double lat;
+    private Double lng;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private RequestCategory category;
+
+    // 작성자 정보
+    private Long userId;
+    private String nickname;
+
+    // 장소 정보
+    private Long placeId;
+    private String placeName;
+    private String placeAddress;
+
+    // 요청 정보 (요청이 없는 로그는 null)
+    private Long requestId;
+    private Boolean requestClosed;
+    private Long requestOwnerId;
+    private String requestTitle;
+    private String requestContent;
+    private RequestCategory requestCategory;
+
+    // 유연 필드
+    private Boolean hasBathroom;
+    private String menuInfo;
+    private Integer waitCount;
+    private String weatherNote;
+    private String vendorName;
+    private String photoNote;
+    private String noiseNote;
+    private Boolean isParkingAvailable;
+    private Boolean isOpen;
+    private Integer seatCount;
+    private Integer crowdLevel;
+    private String extra;
+
+    /**
+     * 프로젝션 → StatusLogDto 변환
+     * - StatusLogDto.fromEntity와 동일한 규칙으로 값 설정
+     */
+    public StatusLogDto toDto(List<String> imageUrls) {
+        return StatusLogDto.builder()
+                .id(id)
+                .version(version)
+                .content(content)
+                .type(type)
+                .isSelected(isSelected)
+                .isHidden(isHidden)
+                .reportCount(reportCount)
+                .viewCount(viewCount)
+                .rewarded(rewarded)
+                .imageUrls(imageUrls)
+                .lat(lat)
+                .lng(lng)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .userId(userId)
+                .nickname(nickname)
+                .placeId(placeId)
+                .placeName(placeName)
+                .requestId(requestId)
+                .isRequestClosed(Boolean.TRUE.equals(requestClosed))
+                .requestOwnerId(requestOwnerId)
+                .requestTitle(requestTitle)
+                .requestContent(requestContent)
+                .category(category != null
+                        ? category.name()
+                        : (requestCategory != null ? requestCategory.name() : null))
+                .hasBathroom(hasBathroom)
+                .menuInfo(menuInfo)
+                .waitCount(waitCount)
+                .weatherNote(weatherNote)
+                .vendorName(vendorName)
+                .photoNote(photoNote)
+                .noiseNote(noiseNote)
+                .isParkingAvailable(isParkingAvailable)
+                .isOpen(isOpen)
+                .seatCount(seatCount)
+                .crowdLevel(crowdLevel)
+                .extra(extra)
+                .build();
+    }
+}
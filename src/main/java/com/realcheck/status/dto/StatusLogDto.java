@@ -21,7 +21,7 @@ import lombok.*;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class StatusLogDto {
 
     // 동시성 제어용 버전 필드 추가
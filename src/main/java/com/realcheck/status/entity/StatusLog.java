@@ -9,6 +9,9 @@ import com.realcheck.report.entity.Report;
 import com.realcheck.request.entity.Request;
 import com.realcheck.request.entity.RequestCategory;
 import com.realcheck.user.entity.User;
+import com.realcheck.util.GeoUtil;
+
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -20,7 +23,8 @@ import lombok.*;
  * - 요청과 연결되거나, 단독으로 등록될 수 있음
  */
 @Entity
-@Table(name = "status_logs")
+@Table(name = "status_logs", indexes = @Index(name = "idx_status_logs_created_at", columnList = "created_at")) // 일자별 통계 재계산 범위 조회
+@DynamicUpdate // 변경된 컬럼만 UPDATE (ViewCountBuffer가 일괄 반영한 view_count를 엔티티 저장이 덮어쓰지 않도록)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,7 +75,7 @@ public class StatusLog {
     @Column(nullable = false)
     private boolean isHidden = false;
 
-    // 조회수 (자발적 공유일 경우 사용)
+    // 조회수 (자발적 공유일 경우 사용) - 최신 값은 Redis(ViewCountBuffer)에 있고 주기적으로 반영됨
     @Column(nullable = false)
     private int viewCount = 0;
 
@@ -173,6 +177,12 @@ public class StatusLog {
     @Column
     private Double lng;
 
+    // 공간 인덱스용 좌표 (lat/lng로 DB가 계산하는 읽기 전용 생성 컬럼, 반경 쿼리의 MBRContains 대상)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "geo_point", insertable = false, updatable = false, columnDefinition = GeoUtil.GEO_POINT_COLUMN_DEFINITION)
+    private byte[] geoPoint;
+
     // ─────────────────────────────────────────────
     // [4] 관계 매핑
     // ─────────────────────────────────────────────
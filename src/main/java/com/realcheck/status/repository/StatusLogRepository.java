@@ -1,18 +1,28 @@
 package com.realcheck.status.repository;
 
 import com.realcheck.admin.dto.CategoryLogCountDto;
+import com.realcheck.admin.dto.HiddenLogExportRow;
 import com.realcheck.admin.dto.MonthlyStatDto;
 import com.realcheck.admin.dto.TopContributingUserDto;
+import com.realcheck.status.dto.PlaceLogRow;
 import com.realcheck.status.entity.StatusLog;
 import com.realcheck.status.entity.StatusType;
+import com.realcheck.util.ExportWriter;
+
+import jakarta.persistence.QueryHint;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
@@ -125,9 +135,11 @@ public interface StatusLogRepository extends JpaRepository<StatusLog, Long> {
                               AND s.lat IS NOT NULL AND s.lng IS NOT NULL
                               AND s.isHidden = false
                               AND s.createdAt >= :cutoff
+                              AND mbr_contains(:envelope, s.geoPoint)
                               AND function('ST_Distance_Sphere', point(:lng, :lat), point(s.lng, s.lat)) <= :radius
                         """)
         Page<StatusLog> findNearbyFreeShareLogs(
+                        @Param("envelope") String envelope,
                         @Param("lat") double lat,
                         @Param("lng") double lng,
                         @Param("radius") double radius,
@@ -170,13 +182,21 @@ public interface StatusLogRepository extends JpaRepository<StatusLog, Long> {
         @Query("SELECT COUNT(s) > 0 FROM StatusLog s WHERE s.request.id = :requestId AND s.reporter.id = :userId")
         boolean existsByRequestIdAndUserId(@Param("requestId") Long requestId, @Param("userId") Long userId);
 
+        /**
+         * [3-4] 여러 요청(Request)에 등록된 답변 + 작성자 일괄 조회
+         * AutoCloseRequestService: closeChunk
+         * - 청크 단위 자동 마감 시 요청별 지연 로딩 대신 한 번의 쿼리로 조회
+         */
+        @Query("SELECT s FROM StatusLog s JOIN FETCH s.reporter WHERE s.request.id IN :requestIds")
+        List<StatusLog> findByRequestIdInWithReporter(@Param("requestIds") Collection<Long> requestIds);
+
         // ─────────────────────────────────────────────
         // [4] 통계/관리자용 조회
         // ─────────────────────────────────────────────
 
         /**
          * [4-1] 월별 상태 로그 등록 수 통계 조회
-         * AdminStatsService: getMonthlyStatusLogCount
+         * 원본 전체 집계 (대시보드는 StatsRollupService 롤업 조회로 대체, 롤업 값 대조용으로 유지)
          * - 관리자 대시보드 통계용으로 사용
          * - 연도 및 월별로 그룹화하여 등록된 StatusLog 개수를 반환
          */
@@ -186,7 +206,7 @@ public interface StatusLogRepository extends JpaRepository<StatusLog, Long> {
 
         /**
          * [4-2] 카테고리별 상태로그 수 집계
-         * AdminStatsService: getLogCountByCategory
+         * 원본 전체 집계 (대시보드는 StatsRollupService 롤업 조회로 대체, 롤업 값 대조용으로 유지)
          * - 각 카테고리(REGISTER, ANSWER, FREE_SHARE 등)별로 상태 로그의 개수를 집계하여 반환
          */
         @Query("""
@@ -245,44 +265,230 @@ public interface StatusLogRepository extends JpaRepository<StatusLog, Long> {
          */
         Page<StatusLog> findByStatusType(StatusType type, Pageable pageable);
 
+        /**
+         * [4-8] 일자 + 로그 유형별 등록 수 (기간 지정)
+         * StatsRollupService: recompute
+         * - 결과: [일자(DATE), statusType, 건수]
+         * - 통계 롤업(stats_rollup) 재계산용, created_at 인덱스 범위 조회
+         */
+        @Query("""
+                        SELECT FUNCTION('DATE', s.createdAt), s.statusType, COUNT(s)
+                        FROM StatusLog s
+                        WHERE s.createdAt >= :from AND s.createdAt < :to
+                        GROUP BY FUNCTION('DATE', s.createdAt), s.statusType
+                        """)
+        List<Object[]> countDailyByType(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+        /**
+         * [4-9] 작성자별 상태 로그 수 (전체 사용자)
+         * LeaderboardRebuildScheduler: rebuild
+         * - 결과: [사용자 ID, 작성 수]
+         * - 기여 순위표(leaderboard:contributors) 재구성용
+         */
+        @Query("SELECT s.reporter.id, COUNT(s) FROM StatusLog s GROUP BY s.reporter.id")
+        List<Object[]> countByReporter();
+
+        /**
+         * [4-10] 숨김 처리된 상태 로그 스트리밍 조회 (내보내기용)
+         * AdminExportService: export
+         * - [4-6] findByIsHiddenTrue의 내보내기 버전: 평면 프로젝션 + 한 행씩 받아오므로 메모리 사용량 일정
+         */
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.STREAM_FETCH_SIZE))
+        @Query("""
+                            SELECT new com.realcheck.admin.dto.HiddenLogExportRow(
+                                     s.id, s.statusType, s.content, u.id, u.nickname,
+                                     p.id, p.name, rq.id, s.reportCount, s.createdAt)
+                            FROM StatusLog s
+                            LEFT JOIN s.reporter u
+                            LEFT JOIN s.place p
+                            LEFT JOIN s.request rq
+                            WHERE s.isHidden = true
+                            ORDER BY s.id
+                        """)
+        Stream<HiddenLogExportRow> streamHiddenForExport();
+
         // ─────────────────────────────────────────────
         // [5] 반경 필터링 조회 (사용자 위치 기반)
+        // - 반경 쿼리는 geo_point 공간 인덱스(MBRContains + envelope)로 후보를 좁힌 뒤 ST_Distance_Sphere로 확인
         // ─────────────────────────────────────────────
 
         /**
-         * [5-1] 현재 위치 기준 반경 - 상태 로그 조회
-         * StatusLogService: findNearbyGroupedPlaceLogs
+         * [5-2] 일반 장소 위치의 ANSWER 로그만 필터링
+         * StatusLogService: findNearbyUserLocationLogs
          */
         @Query("""
-                            SELECT s
-                            FROM StatusLog s
-                            WHERE s.statusType IN (com.realcheck.status.entity.StatusType.ANSWER, com.realcheck.status.entity.StatusType.REGISTER)
+                            SELECT s FROM StatusLog s
+                            WHERE s.statusType = com.realcheck.status.entity.StatusType.ANSWER
+                              AND s.place IS NULL
+                              AND mbr_contains(:envelope, s.geoPoint)
                               AND FUNCTION('ST_Distance_Sphere', POINT(s.lng, s.lat), POINT(:lng, :lat)) <= :radius
                               AND s.createdAt >= :cutoff
                               AND s.isHidden = false
                         """)
-        List<StatusLog> findNearbyAnswerAndRegisterLogs(
+        Page<StatusLog> findNearbyUserAnswerLogs(
+                        @Param("envelope") String envelope,
                         @Param("lat") double lat,
                         @Param("lng") double lng,
                         @Param("radius") double radius,
-                        @Param("cutoff") LocalDateTime cutoff);
+                        @Param("cutoff") LocalDateTime cutoff,
+                        Pageable pageable);
 
         /**
-         * [5-2] 일반 장소 위치의 ANSWER 로그만 필터링
-         * StatusLogService: findNearbyUserLocationLogs
+         * [5-3] 기준 시각 이후 등록된 전체 로그 조회 (연관 엔티티 함께 로딩)
+         * RecentStatusLogWindow: load
+         * - 시작 시 최근 로그 메모리 버퍼 적재용
          */
         @Query("""
                             SELECT s FROM StatusLog s
-                            WHERE s.statusType = com.realcheck.status.entity.StatusType.ANSWER
-                              AND s.place IS NULL
+                            JOIN FETCH s.reporter
+                            LEFT JOIN FETCH s.place
+                            LEFT JOIN FETCH s.request r
+                            LEFT JOIN FETCH r.user
+                            WHERE s.createdAt >= :cutoff
+                        """)
+        List<StatusLog> findRecentWithAssociations(@Param("cutoff") LocalDateTime cutoff);
+
+        /**
+         * [5-4] 현재 위치 기준 반경 - 공식 장소 로그 평면 프로젝션 조회
+         * StatusLogService: findNearbyGroupedPlaceLogs
+         * - 작성자/장소/요청 정보를 한 번의 조인으로 가져와 지연 로딩(N+1) 제거
+         * - SELECT 절 순서는 PlaceLogRow 생성자 인자 순서와 동일해야 함
+         */
+        @Query("""
+                            SELECT new com.realcheck.status.dto.PlaceLogRow(
+                                s.id, s.version, s.content, s.statusType, s.isSelected, s.isHidden,
+                                s.reportCount, s.viewCount, s.rewarded, s.lat, s.lng, s.createdAt, s.updatedAt, s.category,
+                                u.id, u.nickname,
+                                p.id, p.name, p.address,
+                                r.id, r.isClosed, ru.id, r.title, r.content, r.category,
+                                s.hasBathroom, s.menuInfo, s.waitCount, s.weatherNote, s.vendorName, s.photoNote,
+                                s.noiseNote, s.isParkingAvailable, s.isOpen, s.seatCount, s.crowdLevel, s.extra)
+                            FROM StatusLog s
+                            JOIN s.reporter u
+                            JOIN s.place p
+                            LEFT JOIN s.request r
+                            LEFT JOIN r.user ru
+                            WHERE s.statusType IN (com.realcheck.status.entity.StatusType.ANSWER, com.realcheck.status.entity.StatusType.REGISTER)
+                              AND mbr_contains(:envelope, s.geoPoint)
                               AND FUNCTION('ST_Distance_Sphere', POINT(s.lng, s.lat), POINT(:lng, :lat)) <= :radius
                               AND s.createdAt >= :cutoff
                               AND s.isHidden = false
                         """)
-        Page<StatusLog> findNearbyUserAnswerLogs(
+        List<PlaceLogRow> findNearbyPlaceLogRows(
+                        @Param("envelope") String envelope,
                         @Param("lat") double lat,
                         @Param("lng") double lng,
                         @Param("radius") double radius,
+                        @Param("cutoff") LocalDateTime cutoff);
+
+        /**
+         * [5-5] 여러 로그의 이미지 URL 일괄 조회
+         * StatusLogService: findNearbyGroupedPlaceLogs
+         * - 로그별 이미지 컬렉션을 IN 쿼리 한 번으로 조회 (결과: [statusLogId, imageUrl])
+         */
+        @Query("SELECT s.id, i FROM StatusLog s JOIN s.imageUrls i WHERE s.id IN :ids")
+        List<Object[]> findImageUrlsByStatusLogIds(@Param("ids") Collection<Long> ids);
+
+        /**
+         * [5-6] 지도 화면 사각 범위 - 공식 장소 로그 평면 프로젝션 조회
+         * StatusLogService: loadPlaceLogsInBox, groupedPlaceLogsInBox
+         * - [5-4]와 같은 프로젝션이며, 거리 계산 없이 geo_point 공간 인덱스 범위 조건만 사용
+         * - 최신순, 최대 행 수는 pageable로 제한 (타일 캐시 로딩 / 캐시 우회 조회)
+         */
+        @Query("""
+                            SELECT new com.realcheck.status.dto.PlaceLogRow(
+                                s.id, s.version, s.content, s.statusType, s.isSelected, s.isHidden,
+                                s.reportCount, s.viewCount, s.rewarded, s.lat, s.lng, s.createdAt, s.updatedAt, s.category,
+                                u.id, u.nickname,
+                                p.id, p.name, p.address,
+                                r.id, r.isClosed, ru.id, r.title, r.content, r.category,
+                                s.hasBathroom, s.menuInfo, s.waitCount, s.weatherNote, s.vendorName, s.photoNote,
+                                s.noiseNote, s.isParkingAvailable, s.isOpen, s.seatCount, s.crowdLevel, s.extra)
+                            FROM StatusLog s
+                            JOIN s.reporter u
+                            JOIN s.place p
+                            LEFT JOIN s.request r
+                            LEFT JOIN r.user ru
+                            WHERE s.statusType IN (com.realcheck.status.entity.StatusType.ANSWER, com.realcheck.status.entity.StatusType.REGISTER)
+                              AND mbr_contains(:envelope, s.geoPoint)
+                              AND s.lat IS NOT NULL AND s.lng IS NOT NULL
+                              AND s.createdAt >= :cutoff
+                              AND s.isHidden = false
+                            ORDER BY s.createdAt DESC, s.id DESC
+                        """)
+        List<PlaceLogRow> findPlaceLogRowsInBox(
+                        @Param("envelope") String envelope,
                         @Param("cutoff") LocalDateTime cutoff,
                         Pageable pageable);
+
+        /**
+         * [5-7] 지도 화면 사각 범위 - 자발적 공유 로그 조회
+         * StatusLogService: findFreeShareLogsInBox
+         */
+        @Query("""
+                            SELECT s FROM StatusLog s
+                            WHERE s.statusType = 'FREE_SHARE'
+                              AND mbr_contains(:envelope, s.geoPoint)
+                              AND s.lat IS NOT NULL AND s.lng IS NOT NULL
+                              AND s.isHidden = false
+                              AND s.createdAt >= :cutoff
+                        """)
+        Page<StatusLog> findFreeShareLogsInBox(
+                        @Param("envelope") String envelope,
+                        @Param("cutoff") LocalDateTime cutoff,
+                        Pageable pageable);
+
+        /**
+         * [5-8] 지도 화면 사각 범위 - 자발적 공유 로그 평면 프로젝션 조회
+         * StatusLogService: loadFreeShareLogsInBox
+         * - [5-6]과 같은 프로젝션 (장소가 없는 로그가 대부분이므로 장소는 LEFT JOIN)
+         * - 최신순, 최대 행 수는 pageable로 제한 (타일 캐시 로딩용)
+         */
+        @Query("""
+                            SELECT new com.realcheck.status.dto.PlaceLogRow(
+                                s.id, s.version, s.content, s.statusType, s.isSelected, s.isHidden,
+                                s.reportCount, s.viewCount, s.rewarded, s.lat, s.lng, s.createdAt, s.updatedAt, s.category,
+                                u.id, u.nickname,
+                                p.id, p.name, p.address,
+                                r.id, r.isClosed, ru.id, r.title, r.content, r.category,
+                                s.hasBathroom, s.menuInfo, s.waitCount, s.weatherNote, s.vendorName, s.photoNote,
+                                s.noiseNote, s.isParkingAvailable, s.isOpen, s.seatCount, s.crowdLevel, s.extra)
+                            FROM StatusLog s
+                            JOIN s.reporter u
+                            LEFT JOIN s.place p
+                            LEFT JOIN s.request r
+                            LEFT JOIN r.user ru
+                            WHERE s.statusType = com.realcheck.status.entity.StatusType.FREE_SHARE
+                              AND mbr_contains(:envelope, s.geoPoint)
+                              AND s.lat IS NOT NULL AND s.lng IS NOT NULL
+                              AND s.isHidden = false
+                              AND s.createdAt >= :cutoff
+                            ORDER BY s.createdAt DESC, s.id DESC
+                        """)
+        List<PlaceLogRow> findFreeShareLogRowsInBox(
+                        @Param("envelope") String envelope,
+                        @Param("cutoff") LocalDateTime cutoff,
+                        Pageable pageable);
+
+        // ─────────────────────────────────────────────
+        // [6] 일괄 갱신
+        // ─────────────────────────────────────────────
+
+        /**
+         * [6-1] 조회수 증가분 반영
+         * ViewCountBuffer: flush
+         * - Redis에 모아둔 증가분을 엔티티 로딩/버전 증가 없이 한 번에 더함
+         */
+        @Modifying
+        @Query("UPDATE StatusLog s SET s.viewCount = s.viewCount + :delta WHERE s.id = :id")
+        int addViewCount(@Param("id") Long id, @Param("delta") int delta);
+
+        /**
+         * [6-2] 조회수 보상 지급 표시 (아직 지급되지 않은 경우에만)
+         * StatusLogService: viewFreeShare
+         * - 동시 요청 중 한 요청만 1을 반환하므로, 반환값이 1일 때만 포인트 지급
+         */
+        @Modifying
+        @Query("UPDATE StatusLog s SET s.rewarded = true WHERE s.id = :id AND s.rewarded = false")
+        int markRewarded(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.realcheck.status.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.status.dto.StatusLogDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AnswerStreamService
+ * - 요청(Request) 상세 화면용 답변 변경 실시간 알림 (Server-Sent Events)
+ * - 요청 ID별 구독자(SseEmitter) 목록을 메모리에 보관하고, 답변 등록/수정/채택/숨김 이벤트(DomainEvent) 수신 시 전송
+ * - SseEmitter는 서블릿 비동기 처리로 동작하므로 대기 중인 연결이 요청 처리 스레드를 점유하지 않음
+ * - 구독 정보는 서버 인스턴스별로 관리하며, 다른 서버에서 발생한 변경은 Redis로 중계된 이벤트로 수신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnswerStreamService {
+
+    // 이벤트 이름 (클라이언트 EventSource.addEventListener 기준)
+    public static final String ANSWER_CREATED = "answer-created";
+    public static final String ANSWER_UPDATED = "answer-updated";
+    public static final String ANSWER_SELECTED = "answer-selected";
+    public static final String ANSWER_HIDDEN = "answer-hidden";
+
+    // 연결 유지 시간 (만료 시 클라이언트 EventSource가 자동 재연결)
+    static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    // 서버 인스턴스당 최대 동시 구독 수
+    static final int MAX_SUBSCRIBERS = 10_000;
+
+    // 요청 ID → 구독자 목록
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // ─────────────────────────────────────────────
+    // [1] 구독
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 요청 ID 구독
+     * StatusLogService: subscribeAnswers
+     * - 연결 종료/만료/오류 시 목록에서 자동 제거
+     */
+    public SseEmitter subscribe(Long requestId) {
+        if (subscriberCount.incrementAndGet() > MAX_SUBSCRIBERS) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 연결이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitters.compute(requestId, (id, set) -> {
+            Set<SseEmitter> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(requestId, emitter));
+        emitter.onTimeout(() -> remove(requestId, emitter));
+        emitter.onError(e -> remove(requestId, emitter));
+
+        // 연결 직후 응답 헤더를 바로 내보내도록 초기 이벤트 전송
+        send(requestId, emitter, SseEmitter.event().name("connected").data(requestId));
+        return emitter;
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 전송
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 답변 변경 알림 (DomainEventBus 커밋 이후 이벤트, 다른 서버 발생분 포함)
+     * - 요청에 연결되지 않은 로그이거나 구독자가 없으면 무시
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        String eventName = eventNameOf(event.type());
+        StatusLogDto dto = event.payloadAs(StatusLogDto.class);
+        if (eventName == null || dto == null || dto.getRequestId() == null)
+            return;
+        broadcast(dto.getRequestId(), eventName, dto);
+    }
+
+    /**
+     * [2-2] 연결 유지용 주석 이벤트 (25초마다)
+     * - 프록시/로드밸런서의 유휴 연결 종료 방지 + 끊어진 연결 정리
+     */
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        emitters.forEach((requestId, set) -> set.forEach(
+                emitter -> send(requestId, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    /**
+     * [2-3] 현재 구독 수 (모니터링용)
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    private static String eventNameOf(DomainEvent.Type type) {
+        return switch (type) {
+            case STATUS_CREATED -> ANSWER_CREATED;
+            case STATUS_UPDATED -> ANSWER_UPDATED;
+            case STATUS_SELECTED -> ANSWER_SELECTED;
+            case STATUS_HIDDEN -> ANSWER_HIDDEN;
+            default -> null;
+        };
+    }
+
+    private void broadcast(Long requestId, String eventName, StatusLogDto dto) {
+        Set<SseEmitter> set = emitters.get(requestId);
+        if (set == null)
+            return;
+        set.forEach(emitter -> send(requestId, emitter,
+                SseEmitter.event().name(eventName).id(String.valueOf(dto.getId())).data(dto)));
+    }
+
+    // 전송 실패(클라이언트 연결 끊김) 시 연결 종료 후 목록에서 제거
+    private void send(Long requestId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[AnswerStream] 전송 실패 - 구독 해제 (requestId={})", requestId);
+            remove(requestId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 마지막 구독자가 빠지면 요청 ID 항목도 제거 (구독 추가와 같은 compute로 처리해 경합 방지)
+    private void remove(Long requestId, SseEmitter emitter) {
+        emitters.computeIfPresent(requestId, (id, set) -> {
+            if (set.remove(emitter))
+                subscriberCount.decrementAndGet();
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
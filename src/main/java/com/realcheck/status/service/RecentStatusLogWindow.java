@@ -0,0 +1,424 @@
+package com.realcheck.status.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.request.dto.RequestDto;
+import com.realcheck.status.dto.StatusLogDto;
+import com.realcheck.status.entity.StatusLog;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.util.GeoUtil;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RecentStatusLogWindow
+ * - 최근 3시간 이내 상태 로그(StatusLogDto)를 메모리에 보관하는 시간 버킷 링 버퍼
+ * - 5분 단위 버킷으로 나누고, 기준 시간(3시간)이 지난 버킷은 통째로 제거
+ * - 좌표는 위도/경도 격자(grid)로 색인하여 반경 조회 시 주변 셀만 확인
+ * - 등록/수정/삭제/숨김 처리 시 커밋 이후 즉시 반영 → 근처 조회 API는 DB를 조회하지 않음
+ * - 보관 중인 DTO는 변경하지 않고(변경 시 새 객체로 교체), 조회 결과는 복사본으로 반환
+ *   → 호출 측이 결과를 수정해도 버퍼에 영향이 없고, 조회 도중 마감 반영 등으로 값이 바뀌지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentStatusLogWindow {
+
+    // 보관 기간 (근처 조회 API 기준 시간과 동일)
+    public static final Duration WINDOW = Duration.ofHours(3);
+    // 버킷 크기
+    static final Duration BUCKET = Duration.ofMinutes(5);
+    // 링 버퍼 크기 (보관 기간 + 현재 진행 중인 버킷 1개)
+    static final int BUCKET_COUNT = (int) (WINDOW.toMinutes() / BUCKET.toMinutes()) + 1;
+    // 격자 셀 크기 (0.01도 ≈ 1.1km)
+    static final double CELL_DEGREES = 0.01;
+
+    private final StatusLogRepository statusLogRepository;
+    private final EntityManager entityManager;
+
+    // 시간 버킷 링 버퍼
+    private final Bucket[] ring = new Bucket[BUCKET_COUNT];
+    // 로그 ID → DTO
+    private final Map<Long, StatusLogDto> byId = new ConcurrentHashMap<>();
+    // 격자 셀 키 → 로그 ID 목록
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    // 장소 ID → 로그 ID 목록
+    private final Map<Long, Set<Long>> byPlace = new ConcurrentHashMap<>();
+
+    // 시작 시 적재가 끝나기 전에는 DB 조회로 대체
+    private volatile boolean ready = false;
+    // 시작 시 적재한 기준 시각 (이 시각 이전 로그는 버퍼에 없음)
+    private volatile LocalDateTime loadedFrom;
+
+    // ─────────────────────────────────────────────
+    // [1] 적재 및 만료 처리
+    // ─────────────────────────────────────────────
+
+    /**
+     * [1-1] 애플리케이션 시작 시 최근 3시간 로그 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(WINDOW);
+        List<StatusLog> logs = statusLogRepository.findRecentWithAssociations(cutoff);
+        synchronized (this) {
+            logs.forEach(log -> put(StatusLogDto.fromEntity(log)));
+        }
+        loadedFrom = cutoff;
+        ready = true;
+        log.info("[RecentStatusLogWindow] 최근 로그 적재 완료: {}건", byId.size());
+    }
+
+    /**
+     * [1-2] 만료된 버킷 제거 (1분마다 실행)
+     * - 기준 시간보다 오래된 버킷은 통째로 제거
+     */
+    @Scheduled(fixedRate = 60000)
+    public synchronized void evictExpired() {
+        long cutoffSlot = slotOf(LocalDateTime.now().minus(WINDOW));
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            Bucket bucket = ring[i];
+            if (bucket != null && bucket.slot < cutoffSlot) {
+                evictBucket(bucket);
+                ring[i] = null;
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // [2] 쓰기 (커밋 이후 반영)
+    // ─────────────────────────────────────────────
+
+    /**
+     * [2-1] 로그 등록/수정/숨김 변경 반영
+     * StatusLogService: registerInternal, updateStatusLog, selectAnswer, viewFreeShare
+     * ReportService: report, cancelReport
+     * ReportAdminService: deleteReport
+     * StatusLogAdminService: blockLog, unblockLog
+     * - 커밋 직전에 flush 후 DTO 변환 (version/updatedAt 반영), 커밋 이후 버퍼에 반영
+     */
+    public void upsertAfterCommit(StatusLog log) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                put(StatusLogDto.fromEntity(log));
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private StatusLogDto snapshot;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                entityManager.flush();
+                snapshot = StatusLogDto.fromEntity(log);
+            }
+
+            @Override
+            public void afterCommit() {
+                synchronized (RecentStatusLogWindow.this) {
+                    put(snapshot);
+                }
+            }
+        });
+    }
+
+    /**
+     * [2-2] 로그 삭제 반영
+     * StatusLogService: deleteStatusLog
+     */
+    public void removeAfterCommit(Long logId) {
+        runAfterCommit(() -> remove(logId));
+    }
+
+    /**
+     * [2-3] 요청 마감 반영 (해당 요청에 연결된 답변들의 isRequestClosed 갱신)
+     * StatusLogService: selectAnswer
+     * RequestService: closeRequest
+     * AutoCloseRequestService: autoCloseExpiredRequests
+     */
+    public void markRequestClosedAfterCommit(Long requestId) {
+        runAfterCommit(() -> markRequestClosed(requestId));
+    }
+
+    /**
+     * [2-4] 사용자 삭제 반영 (작성한 로그 전체 제거)
+     * UserService: deleteUserAndRelatedData
+     */
+    public void removeByReporterAfterCommit(Long userId) {
+        runAfterCommit(() -> byId.values().stream()
+                .filter(dto -> userId.equals(dto.getUserId()))
+                .map(StatusLogDto::getId)
+                .toList()
+                .forEach(this::remove));
+    }
+
+    /**
+     * [2-5] 다른 서버에서 발생한 변경 반영 (Redis로 중계된 DomainEvent)
+     * - 같은 서버의 변경은 [2-1]~[2-4]로 이미 반영되므로 remote 이벤트만 처리
+     */
+    @EventListener
+    public void onRemoteEvent(DomainEvent event) {
+        if (!event.remote() || event.payload() == null)
+            return;
+        synchronized (this) {
+            switch (event.type()) {
+                case STATUS_CREATED, STATUS_UPDATED, STATUS_SELECTED, STATUS_HIDDEN ->
+                    put(event.payloadAs(StatusLogDto.class));
+                case STATUS_DELETED -> remove(event.payloadAs(StatusLogDto.class).getId());
+                case REQUEST_CLOSED -> markRequestClosed(event.payloadAs(RequestDto.class).getId());
+                case STATUS_PURGED_BY_USER -> {
+                    Long userId = event.payloadAs(Long.class);
+                    byId.values().stream()
+                            .filter(dto -> userId.equals(dto.getUserId()))
+                            .map(StatusLogDto::getId)
+                            .toList()
+                            .forEach(this::remove);
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────
+    // [3] 조회
+    // ─────────────────────────────────────────────
+
+    /**
+     * [3-1] 주어진 기준 시간(cutoff)을 버퍼가 모두 포함하는지 여부
+     * - 버퍼가 빠짐없이 담고 있는 구간: 시작 시 적재 기준 시각 이후 + 보관 중인 가장 오래된 버킷 시작 이후
+     * - 가장 오래된 버킷은 (현재 - 보관 기간)이 속한 버킷이므로, 호출 측이 직전에 계산한 (현재 - 3시간)은
+     *   버킷 경계를 넘는 순간이 아니면 항상 포함됨
+     * - false면 호출 측에서 DB 조회로 대체
+     */
+    public boolean covers(LocalDateTime cutoff) {
+        LocalDateTime from = loadedFrom;
+        if (!ready || from == null || cutoff.isBefore(from))
+            return false;
+        return !cutoff.isBefore(slotStart(slotOf(LocalDateTime.now().minus(WINDOW))));
+    }
+
+    /**
+     * [3-2] 반경 내 로그 조회 (최신순)
+     * StatusLogService: findNearbyGroupedPlaceLogs, findNearbyUserLocationLogs, findNearbyFreeShareLogs
+     */
+    public List<StatusLogDto> findNearby(double lat, double lng, double radiusMeters, LocalDateTime cutoff,
+            Predicate<StatusLogDto> filter) {
+        double[] box = GeoUtil.boundingBox(lat, lng, radiusMeters);
+        return scan(box[0], box[1], box[2], box[3], cutoff,
+                dto -> GeoUtil.distanceMeters(lat, lng, dto.getLat(), dto.getLng()) <= radiusMeters
+                        && filter.test(dto));
+    }
+
+    /**
+     * [3-3] 장소별 로그 조회 (최신순, 숨김 포함)
+     * StatusLogService: getLogsByPlace
+     */
+    public List<StatusLogDto> findByPlace(Long placeId, LocalDateTime cutoff) {
+        Set<Long> ids = byPlace.get(placeId);
+        if (ids == null)
+            return List.of();
+        return ids.stream()
+                .map(byId::get)
+                .filter(dto -> dto != null && !dto.getCreatedAt().isBefore(cutoff))
+                .sorted(Comparator.comparing(StatusLogDto::getCreatedAt).reversed())
+                .map(RecentStatusLogWindow::copyOf)
+                .toList();
+    }
+
+    /**
+     * [3-4] 지도 화면 사각 범위 내 로그 조회 (최신순)
+     * StatusLogService: findGroupedPlaceLogsInBox, findFreeShareLogsInBox
+     */
+    public List<StatusLogDto> findInBox(BoundingBox box, LocalDateTime cutoff, Predicate<StatusLogDto> filter) {
+        return scan(box.getMinLat(), box.getMinLng(), box.getMaxLat(), box.getMaxLng(), cutoff,
+                dto -> box.contains(dto.getLat(), dto.getLng()) && filter.test(dto));
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    /**
+     * 사각 범위에 걸친 셀만 순회하여 기준 시각 이후 + 조건을 만족하는 로그 수집 (최신순)
+     */
+    private List<StatusLogDto> scan(double minLatDeg, double minLngDeg, double maxLatDeg, double maxLngDeg,
+            LocalDateTime cutoff, Predicate<StatusLogDto> filter) {
+        int minLat = GeoUtil.cellLat(minLatDeg, CELL_DEGREES);
+        int minLng = GeoUtil.cellLng(minLngDeg, CELL_DEGREES);
+        int maxLat = GeoUtil.cellLat(maxLatDeg, CELL_DEGREES);
+        int maxLng = GeoUtil.cellLng(maxLngDeg, CELL_DEGREES);
+
+        List<StatusLogDto> result = new ArrayList<>();
+        for (int y = minLat; y <= maxLat; y++) {
+            for (int x = minLng; x <= maxLng; x++) {
+                Set<Long> ids = cells.get(GeoUtil.cellKey(y, x));
+                if (ids == null)
+                    continue;
+                for (Long id : ids) {
+                    StatusLogDto dto = byId.get(id);
+                    if (dto != null && !dto.getCreatedAt().isBefore(cutoff) && filter.test(dto)) {
+                        result.add(copyOf(dto));
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparing(StatusLogDto::getCreatedAt).reversed());
+        return result;
+    }
+
+    /**
+     * 시간 버킷 (slot: 기준 시각을 버킷 크기로 나눈 값)
+     */
+    private static final class Bucket {
+        private final long slot;
+        private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+
+    private synchronized void put(StatusLogDto dto) {
+        if (dto == null || dto.getId() == null || dto.getCreatedAt() == null)
+            return;
+
+        long slot = slotOf(dto.getCreatedAt());
+        if (slot < slotOf(LocalDateTime.now().minus(WINDOW))) {
+            remove(dto.getId()); // 보관 기간이 지난 로그
+            return;
+        }
+
+        StatusLogDto previous = byId.get(dto.getId());
+        if (previous != null) {
+            unindex(previous);
+        }
+
+        int idx = (int) Math.floorMod(slot, (long) BUCKET_COUNT);
+        Bucket bucket = ring[idx];
+        if (bucket == null || bucket.slot < slot) {
+            if (bucket != null) {
+                evictBucket(bucket); // 한 바퀴 돈 오래된 버킷 제거
+            }
+            bucket = new Bucket(slot);
+            ring[idx] = bucket;
+        } else if (bucket.slot > slot) {
+            return; // 이미 더 최신 버킷이 차지한 위치 (보관 기간 밖)
+        }
+
+        bucket.ids.add(dto.getId());
+        byId.put(dto.getId(), copyOf(dto)); // 호출 측(이벤트 payload 등)과 객체를 공유하지 않음
+        if (dto.getLat() != null && dto.getLng() != null) {
+            cells.computeIfAbsent(cellKeyOf(dto), k -> ConcurrentHashMap.newKeySet()).add(dto.getId());
+        }
+        if (dto.getPlaceId() != null) {
+            byPlace.computeIfAbsent(dto.getPlaceId(), k -> ConcurrentHashMap.newKeySet()).add(dto.getId());
+        }
+    }
+
+    // 요청에 연결된 답변을 마감 상태로 바꾼 새 DTO로 교체 (좌표/장소/시각은 같으므로 색인은 그대로)
+    private synchronized void markRequestClosed(Long requestId) {
+        byId.replaceAll((id, dto) -> requestId.equals(dto.getRequestId()) && !dto.isRequestClosed()
+                ? dto.toBuilder().isRequestClosed(true).build()
+                : dto);
+    }
+
+    private synchronized void remove(Long logId) {
+        StatusLogDto previous = byId.get(logId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void evictBucket(Bucket bucket) {
+        for (Long id : bucket.ids) {
+            StatusLogDto dto = byId.get(id);
+            if (dto != null) {
+                unindex(dto);
+            }
+        }
+    }
+
+    private void unindex(StatusLogDto dto) {
+        byId.remove(dto.getId());
+        Bucket bucket = ring[(int) Math.floorMod(slotOf(dto.getCreatedAt()), (long) BUCKET_COUNT)];
+        if (bucket != null) {
+            bucket.ids.remove(dto.getId());
+        }
+        if (dto.getLat() != null && dto.getLng() != null) {
+            removeFrom(cells, cellKeyOf(dto), dto.getId());
+        }
+        if (dto.getPlaceId() != null) {
+            removeFrom(byPlace, dto.getPlaceId(), dto.getId());
+        }
+    }
+
+    private static void removeFrom(Map<Long, Set<Long>> index, Long key, Long id) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // 보관/반환용 복사본 (이미지 URL 목록도 새 목록으로 복사)
+    private static StatusLogDto copyOf(StatusLogDto dto) {
+        return dto.toBuilder()
+                .imageUrls(dto.getImageUrls() != null ? new ArrayList<>(dto.getImageUrls()) : null)
+                .build();
+    }
+
+    private static long cellKeyOf(StatusLogDto dto) {
+        return GeoUtil.cellKey(
+                GeoUtil.cellLat(dto.getLat(), CELL_DEGREES),
+                GeoUtil.cellLng(dto.getLng(), CELL_DEGREES));
+    }
+
+    private static long slotOf(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond() / BUCKET.toSeconds();
+    }
+
+    private static LocalDateTime slotStart(long slot) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(slot * BUCKET.toSeconds()), ZoneId.systemDefault());
+    }
+
+    private void runAfterCommit(Runnable action) {
+        Runnable locked = () -> {
+            synchronized (this) {
+                action.run();
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            locked.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                locked.run();
+            }
+        });
+    }
+}
@@ -1,39 +1,60 @@
 package com.realcheck.status.service;
 
 import com.realcheck.status.dto.PlaceLogGroupDto;
+import com.realcheck.status.dto.PlaceLogRow;
 import com.realcheck.status.dto.StatusLogDto;
 import com.realcheck.status.entity.StatusLog;
 import com.realcheck.status.entity.StatusType;
 import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.common.dto.MapClusterDto;
 import com.realcheck.common.dto.PageResult;
+import com.realcheck.common.service.TileCache;
 import com.realcheck.common.service.ViewTrackingService;
+import com.realcheck.place.dto.PlaceDto;
 import com.realcheck.place.entity.Place;
 import com.realcheck.place.repository.PlaceRepository;
+import com.realcheck.place.service.PlaceGeoIndex;
+import com.realcheck.point.dto.PointPosting;
 import com.realcheck.point.entity.PointType;
 import com.realcheck.point.service.PointService;
 import com.realcheck.request.entity.Request;
 import com.realcheck.request.entity.RequestCategory;
 import com.realcheck.request.repository.RequestRepository;
+import com.realcheck.scheduler.AutoCloseRequestService;
+import com.realcheck.scheduler.RequestExpiryWheel;
 import com.realcheck.user.entity.User;
 import com.realcheck.user.repository.UserRepository;
+import com.realcheck.util.GeoUtil;
+import com.realcheck.util.MapClusterer;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +71,27 @@ public class StatusLogService {
     private final PointService pointService;
     private final RequestRepository requestRepository;
     private final ViewTrackingService viewTrackingService;
+    private final RecentStatusLogWindow recentStatusLogWindow;
+    private final PlaceGeoIndex placeGeoIndex;
+    private final RequestExpiryWheel requestExpiryWheel;
+    private final ViewCountBuffer viewCountBuffer;
+    private final TileCache tileCache;
+    private final AnswerStreamService answerStreamService;
+    private final DomainEventBus domainEventBus;
+
+    // 이미지 URL 일괄 조회 시 IN 절 최대 개수
+    private static final int IN_QUERY_CHUNK = 1000;
+    // 자발적 공유 조회수 보상 기준
+    private static final int REWARD_VIEW_COUNT = 10;
+    // 목록 화면 일괄 조회수 반영 1회당 최대 로그 수
+    private static final int MAX_BATCH_VIEWS = 50;
+    // 자발적 공유 타일 캐시가 담는 최대 기간 (이보다 긴 기간 조회는 DB 직접 조회)
+    private static final int FREE_SHARE_CACHE_DAYS = 7;
+    // 타일 캐시 대상보다 넓은 범위(저배율 클러스터)를 직접 조회할 때의 최대 행 수 (최신순)
+    private static final int MAX_UNCACHED_ROWS = 5_000;
+    // 타일 캐시 역직렬화 타입
+    private static final TypeReference<List<StatusLogDto>> LOG_LIST = new TypeReference<>() {
+    };
 
     // ─────────────────────────────────────────────
     // [1] 상태 로그 등록 (내부 로직) - CREATE
@@ -87,6 +129,18 @@ public class StatusLogService {
         log.setStatusType(type);
         log.setRequest(request);
         statusLogRepository.save(log);
+
+        // 요청에 연결된 답변이면 요청의 공개 답변 수 증가 + 자동 마감 시각 등록 (첫 답변 기준)
+        if (request != null) {
+            requestRepository.addVisibleAnswerCount(request.getId(), 1);
+            requestExpiryWheel.scheduleAfterCommit(request.getId(),
+                    log.getCreatedAt().plus(AutoCloseRequestService.CLOSE_DELAY));
+        }
+
+        // (7) 커밋 이후 최근 로그 버퍼에 반영 + 해당 위치의 지도 타일 캐시 무효화 + 변경 이벤트 발행
+        recentStatusLogWindow.upsertAfterCommit(log);
+        tileCache.invalidateStatusLogAfterCommit(log);
+        domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_CREATED, log);
     }
 
     // ─────────────────────────────────────────────
@@ -223,12 +277,14 @@ public class StatusLogService {
      * StatusLogController: viewFreeShare
      *
      * - 자발적 정보 공유 상태 로그의 상세 조회 시 호출됨
-     * - Redis 연결이 필수이며, Redis 장애 발생 시 조회 자체를 차단 (예외 발생)
      * - Redis를 통해 중복 조회 여부를 확인하며, 제한 시간 내 중복 조회는 무시
+     * - Redis 장애 시에도 조회를 차단하지 않고 로컬 중복 필터 + DB 직접 증가로 근사 집계 (degraded mode)
      * - 중복이 아닐 경우에만 조회수 1 증가 및 포인트 지급 조건 확인
-     * - 조회수 10 이상이고 보상이 아직 지급되지 않은 경우 포인트 10 지급
-     * - 어뷰징 방지를 위해 조회 제한 로직은 반드시 Redis 기반으로 적용되어야 함
+     * - 조회수는 Redis(ViewCountBuffer)에서 증가시키고 DB에는 주기적으로 일괄 반영
+     * - 누적 조회수가 정확히 10이 되는 순간 보상 지급 (Redis 장애 시 같은 값을 여러 요청이 받을 수 있으므로
+     *   rewarded 조건부 갱신에 성공한 한 요청만 포인트 10 지급)
      */
+    @Transactional
     public StatusLogDto viewFreeShare(Long logId, Long userId) {
         // [1] 상태 로그 조회
         StatusLog log = statusLogRepository.findById(logId)
@@ -239,35 +295,79 @@ public class StatusLogService {
             throw new RuntimeException("자발적 공유가 아닙니다.");
         }
 
-        // [3] Redis 조회 제한 체크 (필수: 실패 시 조회수 증가 불가)
-        boolean allowIncrease;
+        // [3] 조회 제한 체크 (Redis 장애 시 ViewTrackingService가 로컬 필터로 대체)
+        boolean allowIncrease = viewTrackingService.canIncreaseView(userId, logId);
+        System.out.println(String.format(
+                "[PROD_LOG] 조회 제한 여부: %s (userId=%d, logId=%d, degraded=%s)",
+                allowIncrease, userId, logId, viewTrackingService.isDegraded()));
 
-        try {
-            allowIncrease = viewTrackingService.canIncreaseView(userId, logId);
+        // [4] 조회수 증가 및 포인트 처리
+        long viewCount = log.getViewCount();
+        if (allowIncrease) {
+            viewCount = increaseFreeShareView(log);
+        } else {
             System.out.println(String.format(
-                    "[PROD_LOG] Redis 조회 제한 여부: %s (userId=%d, logId=%d)",
-                    allowIncrease, userId, logId));
-        } catch (RedisConnectionFailureException e) {
-            // Redis 필수 → 실패 시 조회 차단
-            throw new IllegalStateException("Redis 서버 연결 실패: 조회수 증가 불가능", e);
+                    "[PROD_LOG] 중복 조회로 조회수 증가 차단됨 (userId=%d, logId=%d)", userId, logId));
         }
 
-        // [4] 조회수 증가 및 포인트 처리
-        if (allowIncrease) {
-            log.setViewCount(log.getViewCount() + 1);
+        StatusLogDto dto = StatusLogDto.fromEntity(log);
+        dto.setViewCount((int) viewCount);
+        return dto;
+    }
 
-            if (log.getViewCount() >= 10 && !log.isRewarded()) {
-                giveUserPoint(log.getReporter(), 10, "자발적 정보 조회수 보상");
-                log.setRewarded(true);
-            }
+    /**
+     * [2-5] 자발적 공유(FREE_SHARE): 목록 화면 일괄 조회수 증가
+     * StatusLogController: viewFreeShares
+     *
+     * - 목록 화면에서 여러 로그 내용을 한 번에 보여줄 때 호출됨 (같은 위치 공유 모두 보기)
+     * - 중복 조회 확인은 ViewTrackingService.canIncreaseViews로 Redis 파이프라인 왕복 1회에 처리
+     * - 중복이 아닌 로그만 조회수 1 증가 및 포인트 지급 조건 확인 (상세 조회와 동일 규칙)
+     * - FREE_SHARE가 아니거나 존재하지 않는 로그는 건너뜀
+     *
+     * @return 로그 ID → 반영 후 조회수 (요청 순서 유지)
+     */
+    @Transactional
+    public Map<Long, Integer> viewFreeShares(List<Long> logIds, Long userId) {
+        if (logIds.size() > MAX_BATCH_VIEWS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_VIEWS + "개까지 조회할 수 있습니다.");
+        }
 
-            statusLogRepository.save(log);
-        } else {
-            System.out.println(String.format(
-                    "[PROD_LOG] Redis에 의해 조회수 증가 차단됨 (userId=%d, logId=%d)", userId, logId));
+        // [1] 로그 일괄 조회 후 요청 순서대로 FREE_SHARE만 추림
+        Map<Long, StatusLog> byId = statusLogRepository.findAllById(logIds).stream()
+                .collect(Collectors.toMap(StatusLog::getId, Function.identity()));
+        List<StatusLog> logs = logIds.stream()
+                .distinct()
+                .map(byId::get)
+                .filter(log -> log != null && log.getStatusType() == StatusType.FREE_SHARE)
+                .toList();
+
+        // [2] 조회 제한 일괄 체크 (파이프라인 1회, 결과는 입력 순서)
+        List<Boolean> allowed = viewTrackingService.canIncreaseViews(logs.stream()
+                .map(log -> new ViewTrackingService.ViewKey(userId, log.getId()))
+                .toList());
+
+        // [3] 허용된 로그만 조회수 증가 및 포인트 처리
+        Map<Long, Integer> viewCounts = new LinkedHashMap<>();
+        for (int i = 0; i < logs.size(); i++) {
+            StatusLog log = logs.get(i);
+            long viewCount = allowed.get(i) ? increaseFreeShareView(log) : log.getViewCount();
+            viewCounts.put(log.getId(), (int) viewCount);
         }
+        return viewCounts;
+    }
 
-        return StatusLogDto.fromEntity(log);
+    // 조회수 1 증가 후 누적 조회수가 보상 기준에 도달하면 포인트 지급
+    // - rewarded = false → true 갱신에 성공한 요청만 지급 (동시 요청 중복 지급 방지)
+    private long increaseFreeShareView(StatusLog log) {
+        long viewCount = viewCountBuffer.increment(log.getId(), log.getViewCount());
+        if (viewCount == REWARD_VIEW_COUNT && !log.isRewarded()
+                && statusLogRepository.markRewarded(log.getId()) == 1) {
+            giveUserPoint(log, 10, "자발적 정보 조회수 보상");
+            log.setRewarded(true);
+            statusLogRepository.save(log);
+            recentStatusLogWindow.upsertAfterCommit(log);
+        }
+        return viewCount;
     }
 
     // ─────────────────────────────────────────────
@@ -280,67 +380,134 @@ public class StatusLogService {
      * - 사용자 위치(lat, lng)와 반경(radiusMeters)을 기준으로 3시간 이내 등록된 상태 로그 중
      * - 공식 장소(Place가 있는 경우)에 한하여 REGISTER + ANSWER 로그를 그룹핑하여 반환
      * - 장소(placeId) 기준으로 REGISTER는 가장 최신 1개만 포함, ANSWER는 전부 포함
+     * - 최근 로그 버퍼(RecentStatusLogWindow)가 준비된 경우 DB 조회 없이 메모리에서 처리
      */
     @Transactional(readOnly = true)
     public List<PlaceLogGroupDto> findNearbyGroupedPlaceLogs(double lat, double lng, double radiusMeters) {
         // 현재 시각 기준 3시간 이내 로그만 조회
         LocalDateTime cutoff = LocalDateTime.now().minusHours(3);
 
-        // 1. 3시간 이내, 반경 내 REGISTER + ANSWER 로그 전부 가져오기
-        List<StatusLog> allLogs = statusLogRepository.findNearbyAnswerAndRegisterLogs(lat, lng, radiusMeters, cutoff);
+        // 0. 메모리 버퍼에서 조회 (공식 장소의 REGISTER + ANSWER, 숨김 제외)
+        if (recentStatusLogWindow.covers(cutoff)) {
+            List<StatusLogDto> recentLogs = recentStatusLogWindow.findNearby(lat, lng, radiusMeters, cutoff,
+                    dto -> !dto.isHidden()
+                            && dto.getPlaceId() != null
+                            && (dto.getType() == StatusType.ANSWER || dto.getType() == StatusType.REGISTER));
+            return groupByPlace(recentLogs, placeId -> {
+                PlaceDto place = placeGeoIndex.find(placeId);
+                return place != null ? place.getAddress() : null;
+            });
+        }
 
-        // 2. Place가 존재하는 로그만 필터링 → 공식 장소에 등록된 로그만 대상
-        Map<Long, List<StatusLog>> grouped = allLogs.stream()
-                .filter(log -> log.getPlace() != null)
-                .collect(Collectors.groupingBy(log -> log.getPlace().getId())); // placeId 기준 그룹핑
+        // 1. 3시간 이내, 반경 내 공식 장소의 REGISTER + ANSWER 로그를 평면 프로젝션으로 한 번에 조회
+        List<PlaceLogRow> rows = statusLogRepository.findNearbyPlaceLogRows(
+                GeoUtil.envelope(lat, lng, radiusMeters), lat, lng, radiusMeters, cutoff);
 
-        // 3. 그룹핑된 로그들에서 PlaceLogGroupDto로 변환 (REGISTER 1개 + ANSWER n개)
-        return grouped.entrySet().stream()
-                .map(entry -> {
-                    List<StatusLog> logs = entry.getValue();
+        // 2. 이미지 URL은 IN 쿼리로 일괄 조회 (로그별 지연 로딩 방지)
+        Map<Long, List<String>> imageUrls = findImageUrls(rows.stream().map(PlaceLogRow::getId).toList());
 
-                    // 등록된 로그가 없는 경우는 skip
-                    if (logs.isEmpty())
-                        return null;
+        // 3. 프로젝션 → DTO 변환 후 장소별 그룹핑 (REGISTER 1개 + ANSWER n개)
+        Map<Long, String> addresses = new HashMap<>();
+        List<StatusLogDto> logs = rows.stream()
+                .map(row -> {
+                    addresses.putIfAbsent(row.getPlaceId(), row.getPlaceAddress());
+                    return row.toDto(imageUrls.getOrDefault(row.getId(), new ArrayList<>()));
+                })
+                .toList();
 
-                    // 최신 REGISTER 로그 1개 추출
-                    StatusLog latestRegister = logs.stream()
-                            .filter(l -> l.getStatusType() == StatusType.REGISTER)
-                            .max(Comparator.comparing(StatusLog::getCreatedAt))
-                            .orElse(null);
+        return groupByPlace(logs, addresses::get);
+    }
 
-                    // ANSWER 로그 전체 추출
-                    List<StatusLog> answers = logs.stream()
-                            .filter(l -> l.getStatusType() == StatusType.ANSWER)
-                            .toList();
+    /**
+     * [3-1-A] 지도 화면 사각 범위 기반 grouped 상태 로그 조회
+     * StatusLogController: getGroupedLogsInBox
+     * - [3-1]과 같은 그룹핑이며, 반경 대신 지도에 보이는 사각 범위(공간 인덱스 범위 조건)로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PlaceLogGroupDto> findGroupedPlaceLogsInBox(BoundingBox box) {
+        box.validate();
+        return groupedPlaceLogsInBox(box);
+    }
 
-                    // Place 정보는 latestRegister가 null이면 다른 로그에서 가져옴
-                    Place place = (latestRegister != null) ? latestRegister.getPlace() : logs.get(0).getPlace();
+    /**
+     * 사각 범위 grouped 상태 로그 조회 (범위 검사는 호출하는 쪽에서 수행)
+     * - [3-1-A]는 validate(1도 이하), [3-1-B]는 validateForClusters(zoom에 따라 확대) 후 호출
+     */
+    private List<PlaceLogGroupDto> groupedPlaceLogsInBox(BoundingBox box) {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(3);
 
-                    // DTO로 변환 후 반환
-                    return PlaceLogGroupDto.builder()
-                            .placeId(place.getId())
-                            .placeName(place.getName())
-                            .address(place.getAddress())
-                            .latestRegister(latestRegister != null ? StatusLogDto.fromEntity(latestRegister) : null)
-                            .answerLogs(answers.stream()
-                                    .map(StatusLogDto::fromEntity)
-                                    .toList())
-                            .build();
-                })
-                .filter(Objects::nonNull) // null 제거 (logs.isEmpty() 방어용)
+        if (recentStatusLogWindow.covers(cutoff)) {
+            List<StatusLogDto> recentLogs = recentStatusLogWindow.findInBox(box, cutoff,
+                    dto -> !dto.isHidden()
+                            && dto.getPlaceId() != null
+                            && (dto.getType() == StatusType.ANSWER || dto.getType() == StatusType.REGISTER));
+            return groupByPlace(recentLogs, placeId -> {
+                PlaceDto place = placeGeoIndex.find(placeId);
+                return place != null ? place.getAddress() : null;
+            });
+        }
+
+        // 타일 캐시(L1 → Redis → DB) 조회 후 화면 범위 + 기준 시각으로 필터링
+        // (캐시 대상보다 넓은 범위 = 저배율 클러스터 조회는 최신 MAX_UNCACHED_ROWS개만 직접 조회)
+        List<StatusLogDto> source = tileCache.isCacheable(TileCache.Kind.GROUPED, box)
+                ? tileCache.get(TileCache.Kind.GROUPED, box, LOG_LIST,
+                        StatusLogDto::getLat, StatusLogDto::getLng, this::loadPlaceLogsInBox)
+                : loadPlaceLogsInBox(box, MAX_UNCACHED_ROWS);
+        List<StatusLogDto> logs = source.stream()
+                .filter(dto -> !dto.getCreatedAt().isBefore(cutoff) && box.contains(dto.getLat(), dto.getLng()))
+                .sorted(Comparator.comparing(StatusLogDto::getCreatedAt).reversed())
                 .toList();
+
+        return groupByPlace(logs, placeId -> {
+            PlaceDto place = placeGeoIndex.find(placeId);
+            return place != null ? place.getAddress() : null;
+        });
+    }
+
+    /**
+     * [3-1-B] 지도 화면 사각 범위 기반 grouped 상태 로그 클러스터 조회
+     * StatusLogController: getGroupedLogClustersInBox
+     * - [3-1-A] 결과(장소별 그룹)를 장소 좌표 기준으로 확대 수준(zoom)에 맞춰 묶음
+     * - 저배율에서는 중심 좌표 + 장소 수만, 고배율에서는 장소별 그룹 그대로 반환
+     * - 범위 검사는 validateForClusters (zoom에 맞춰 넓은 화면 허용)
+     */
+    @Transactional(readOnly = true)
+    public List<MapClusterDto<PlaceLogGroupDto>> findGroupedPlaceLogClustersInBox(BoundingBox box) {
+        box.validateForClusters();
+        int zoom = box.requireZoom();
+        List<PlaceLogGroupDto> groups = groupedPlaceLogsInBox(box);
+        Map<Long, double[]> coordinates = new HashMap<>();
+        for (PlaceLogGroupDto group : groups) {
+            coordinates.put(group.getPlaceId(), coordinatesOf(group));
+        }
+        return MapClusterer.cluster(groups,
+                group -> coordinates.get(group.getPlaceId())[0],
+                group -> coordinates.get(group.getPlaceId())[1],
+                zoom);
     }
 
     /**
      * [3-2] 일반 장소 요청 응답 로그 조회
      * StatusLogController: getNearbyUserLocationLogs
      * - 공식 장소(Place)와 연결되지 않은 ANSWER 로그만 필터링
+     * - 최근 로그 버퍼가 준비된 경우 메모리에서 조회 (최신순 정렬)
      */
     @Transactional(readOnly = true)
-    public Page<StatusLog> findNearbyUserLocationLogs(double lat, double lng, double radiusMeters, Pageable pageable) {
+    public Page<StatusLogDto> findNearbyUserLocationLogs(double lat, double lng, double radiusMeters,
+            Pageable pageable) {
         LocalDateTime cutoff = LocalDateTime.now().minusHours(3);
-        return statusLogRepository.findNearbyUserAnswerLogs(lat, lng, radiusMeters, cutoff, pageable);
+
+        if (recentStatusLogWindow.covers(cutoff)) {
+            List<StatusLogDto> recentLogs = recentStatusLogWindow.findNearby(lat, lng, radiusMeters, cutoff,
+                    dto -> !dto.isHidden()
+                            && dto.getPlaceId() == null
+                            && dto.getType() == StatusType.ANSWER);
+            return toPage(recentLogs, pageable);
+        }
+
+        return statusLogRepository.findNearbyUserAnswerLogs(
+                GeoUtil.envelope(lat, lng, radiusMeters), lat, lng, radiusMeters, cutoff, pageable)
+                .map(StatusLogDto::fromEntity);
     }
 
     /**
@@ -354,6 +521,19 @@ public class StatusLogService {
                 .toList();
     }
 
+    /**
+     * [3-3-A] 특정 요청의 답변 변경 실시간 구독 (Server-Sent Events)
+     * StatusLogController: streamAnswersByRequest
+     * - 최초 목록은 [3-3]으로 조회하고, 이후 등록/수정/채택/자동 숨김 이벤트만 전달받음
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeAnswers(Long requestId) {
+        if (!requestRepository.existsById(requestId)) {
+            throw new IllegalArgumentException("요청을 찾을 수 없습니다.");
+        }
+        return answerStreamService.subscribe(requestId);
+    }
+
     /**
      * [3-4] 사용자별 전체 상태 로그 목록 조회 (마이페이지용)
      * StatusLogController: getMyStatusLogs
@@ -418,6 +598,9 @@ public class StatusLogService {
      */
     public List<StatusLogDto> getLogsByPlace(Long placeId) {
         LocalDateTime cutoff = LocalDateTime.now().minusHours(3);
+        if (recentStatusLogWindow.covers(cutoff)) {
+            return recentStatusLogWindow.findByPlace(placeId, cutoff);
+        }
         return statusLogRepository.findRecentByPlaceId(placeId, cutoff)
                 .stream()
                 .map(StatusLogDto::fromEntity)
@@ -457,6 +640,7 @@ public class StatusLogService {
      * StatusLogController: getNearbyFreeShareLogs
      * - 현재 위치를 기준으로 반경 내 자발적 공유 상태 로그 조회
      * - 위도(lat), 경도(lng), 반경(radiusMeters) 파라미터 사용
+     * - 조회 기간(cutoff)이 최근 로그 버퍼 보관 기간(3시간) 이내인 경우에만 메모리에서 조회
      */
     public PageResult<StatusLogDto> findNearbyFreeShareLogs(
             double lat,
@@ -466,7 +650,57 @@ public class StatusLogService {
             int page,
             int size) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<StatusLog> logs = statusLogRepository.findNearbyFreeShareLogs(lat, lng, radiusMeters, cutoff, pageable);
+
+        if (recentStatusLogWindow.covers(cutoff)) {
+            List<StatusLogDto> recentLogs = recentStatusLogWindow.findNearby(lat, lng, radiusMeters, cutoff,
+                    dto -> !dto.isHidden() && dto.getType() == StatusType.FREE_SHARE);
+            Page<StatusLogDto> paged = toPage(recentLogs, pageable);
+            return new PageResult<>(paged.getContent(), paged.getTotalPages(), page);
+        }
+
+        double[] range = GeoUtil.boundingBox(lat, lng, radiusMeters);
+        BoundingBox rangeBox = new BoundingBox(range[0], range[1], range[2], range[3], null);
+        if (isFreeShareCacheable(cutoff) && tileCache.isCacheable(TileCache.Kind.FREE_SHARE, rangeBox)) {
+            List<StatusLogDto> cached = cachedFreeShareLogs(rangeBox, cutoff,
+                    dto -> GeoUtil.distanceMeters(lat, lng, dto.getLat(), dto.getLng()) <= radiusMeters);
+            Page<StatusLogDto> paged = toPage(cached, pageable);
+            return new PageResult<>(paged.getContent(), paged.getTotalPages(), page);
+        }
+
+        Page<StatusLog> logs = statusLogRepository.findNearbyFreeShareLogs(
+                GeoUtil.envelope(lat, lng, radiusMeters), lat, lng, radiusMeters, cutoff, pageable);
+
+        List<StatusLogDto> dtos = logs.getContent().stream()
+                .map(StatusLogDto::fromEntity)
+                .toList();
+
+        return new PageResult<>(dtos, logs.getTotalPages(), page);
+    }
+
+    /**
+     * [3-8-A] 지도 화면 사각 범위 내 자발적 공유(FREE_SHARE) 로그 조회
+     * StatusLogController: getFreeShareLogsInBox
+     * - [3-8]과 같은 조건이며, 반경 대신 지도에 보이는 사각 범위로 조회
+     */
+    public PageResult<StatusLogDto> findFreeShareLogsInBox(BoundingBox box, LocalDateTime cutoff, int page,
+            int size) {
+        box.validate();
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        if (recentStatusLogWindow.covers(cutoff)) {
+            List<StatusLogDto> recentLogs = recentStatusLogWindow.findInBox(box, cutoff,
+                    dto -> !dto.isHidden() && dto.getType() == StatusType.FREE_SHARE);
+            Page<StatusLogDto> paged = toPage(recentLogs, pageable);
+            return new PageResult<>(paged.getContent(), paged.getTotalPages(), page);
+        }
+
+        if (isFreeShareCacheable(cutoff) && tileCache.isCacheable(TileCache.Kind.FREE_SHARE, box)) {
+            Page<StatusLogDto> paged = toPage(cachedFreeShareLogs(box, cutoff,
+                    dto -> box.contains(dto.getLat(), dto.getLng())), pageable);
+            return new PageResult<>(paged.getContent(), paged.getTotalPages(), page);
+        }
+
+        Page<StatusLog> logs = statusLogRepository.findFreeShareLogsInBox(box.toEnvelope(), cutoff, pageable);
 
         List<StatusLogDto> dtos = logs.getContent().stream()
                 .map(StatusLogDto::fromEntity)
@@ -475,6 +709,65 @@ public class StatusLogService {
         return new PageResult<>(dtos, logs.getTotalPages(), page);
     }
 
+    /**
+     * 자발적 공유 로그 타일 캐시 조회 (최신순)
+     * - 타일 값은 최근 FREE_SHARE_CACHE_DAYS일 로그(타일당 최신 TileCache.MAX_ITEMS_PER_TILE개)이므로 기준 시각과 범위(filter)로 다시 거름
+     * - 호출 전에 TileCache.isCacheable 확인 (넓은 범위는 페이징 쿼리로 직접 조회)
+     */
+    private List<StatusLogDto> cachedFreeShareLogs(BoundingBox range, LocalDateTime cutoff,
+            Predicate<StatusLogDto> filter) {
+        return tileCache.get(TileCache.Kind.FREE_SHARE, range, LOG_LIST,
+                StatusLogDto::getLat, StatusLogDto::getLng, this::loadFreeShareLogsInBox).stream()
+                .filter(dto -> !dto.getCreatedAt().isBefore(cutoff) && filter.test(dto))
+                .sorted(Comparator.comparing(StatusLogDto::getCreatedAt).reversed())
+                .toList();
+    }
+
+    // 조회 기간이 타일 캐시 보관 기간 이내인지 여부
+    private boolean isFreeShareCacheable(LocalDateTime cutoff) {
+        return !cutoff.isBefore(LocalDateTime.now().minusDays(FREE_SHARE_CACHE_DAYS));
+    }
+
+    /**
+     * 타일 캐시 미스 시 로딩: 사각 범위 내 3시간 이내 공식 장소 로그 (REGISTER + ANSWER, 최신순 최대 limit개)
+     */
+    private List<StatusLogDto> loadPlaceLogsInBox(BoundingBox range, int limit) {
+        return toDtos(statusLogRepository.findPlaceLogRowsInBox(
+                range.toEnvelope(), LocalDateTime.now().minusHours(3), PageRequest.of(0, limit)));
+    }
+
+    /**
+     * 타일 캐시 미스 시 로딩: 사각 범위 내 최근 FREE_SHARE_CACHE_DAYS일 자발적 공유 로그 (최신순 최대 limit개)
+     */
+    private List<StatusLogDto> loadFreeShareLogsInBox(BoundingBox range, int limit) {
+        return toDtos(statusLogRepository.findFreeShareLogRowsInBox(range.toEnvelope(),
+                LocalDateTime.now().minusDays(FREE_SHARE_CACHE_DAYS), PageRequest.of(0, limit)));
+    }
+
+    /**
+     * 평면 프로젝션 → DTO 변환 (이미지 URL은 IN 쿼리 한 번으로 합침)
+     */
+    private List<StatusLogDto> toDtos(List<PlaceLogRow> rows) {
+        Map<Long, List<String>> imageUrls = findImageUrls(rows.stream().map(PlaceLogRow::getId).toList());
+        return rows.stream()
+                .map(row -> row.toDto(imageUrls.getOrDefault(row.getId(), new ArrayList<>())))
+                .toList();
+    }
+
+    /**
+     * 그룹의 장소 좌표 {lat, lng} (장소 인덱스 우선, 없으면 그룹에 포함된 로그 좌표)
+     */
+    private double[] coordinatesOf(PlaceLogGroupDto group) {
+        PlaceDto place = placeGeoIndex.find(group.getPlaceId());
+        if (place != null)
+            return new double[] { place.getLat(), place.getLng() };
+
+        StatusLogDto log = group.getLatestRegister() != null
+                ? group.getLatestRegister()
+                : group.getAnswerLogs().get(0);
+        return new double[] { log.getLat(), log.getLng() };
+    }
+
     // ─────────────────────────────────────────────
     // [4] 사용자 기능 (상태 로그 수정) UPDATE
     // ─────────────────────────────────────────────
@@ -531,6 +824,9 @@ public class StatusLogService {
         log.setImageUrls(dto.getImageUrls());
 
         statusLogRepository.save(log);
+        recentStatusLogWindow.upsertAfterCommit(log);
+        tileCache.invalidateStatusLogAfterCommit(log);
+        domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_UPDATED, log);
     }
 
     /**
@@ -593,17 +889,23 @@ public class StatusLogService {
             // [5] 자동으로 연결된 요청 마감 처리
             request.setClosed(true);
             requestRepository.save(request);
+            recentStatusLogWindow.upsertAfterCommit(log);
+            recentStatusLogWindow.markRequestClosedAfterCommit(request.getId());
+            tileCache.invalidateStatusLogAfterCommit(log);
+            domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_SELECTED, log);
+            domainEventBus.publishAfterCommit(DomainEvent.Type.REQUEST_CLOSED, request);
 
             // [6] 포인트 지급/차감 처리 (트랜잭션)
             User answerer = log.getReporter(); // 답변 작성자
             User requester = request.getUser(); // 요청 작성자
             int points = request.getPoint();
 
-            // [7] 요청자 포인트 차감 (요청 생성 시 지급한 포인트)
-            pointService.givePoint(requester, -points, "답변 채택으로 포인트 차감", PointType.DEDUCT);
-
-            // [8] 답변자 포인트 지급 (답변 채택 보상)
-            pointService.givePoint(answerer, points, "답변 채택 보상", PointType.EARN);
+            // [7] 요청자 포인트 차감 (요청 생성 시 지급한 포인트) + [8] 답변자 포인트 지급 (답변 채택 보상)
+            pointService.postBatch(List.of(
+                    new PointPosting(requester, -points, "답변 채택으로 포인트 차감", PointType.DEDUCT,
+                            PointPosting.requestKey(request.getId(), PointType.DEDUCT, requester.getId())),
+                    new PointPosting(answerer, points, "답변 채택 보상", PointType.EARN,
+                            PointPosting.answerKey(request.getId(), PointType.EARN, log.getId()))));
 
         } catch (ObjectOptimisticLockingFailureException e) {
             throw new RuntimeException("다른 사용자에 의해 요청 정보가 변경되었습니다. 다시 시도해주세요.");
@@ -638,7 +940,15 @@ public class StatusLogService {
             }
         }
 
+        // 공개 답변이 삭제되면 요청의 공개 답변 수 감소
+        if (log.getRequest() != null && !log.isHidden()) {
+            requestRepository.addVisibleAnswerCount(log.getRequest().getId(), -1);
+        }
+
         statusLogRepository.delete(log);
+        recentStatusLogWindow.removeAfterCommit(logId);
+        tileCache.invalidateStatusLogAfterCommit(log);
+        domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_DELETED, log);
     }
 
     // ────────────────────────────────────────
@@ -757,9 +1067,80 @@ public class StatusLogService {
      * StatusLogService: viewFreeShare
      * - 자발적 정보 공유 상태 로그 조회 시 포인트 지급
      * - 조회수 10 이상이 되면 최초 1회 포인트 지급
+     * - 로그 단위 중복 방지 키(statuslog:{id}:REWARD)로 지급하므로 재시도/재실행에도 한 번만 반영
+     *   (관리자 숨김 해제 시 재지급은 PointService.reissueRewardIfEligible에서 별도로 처리)
+     */
+    private void giveUserPoint(StatusLog log, int points, String reason) {
+        pointService.givePoint(log.getReporter(), points, reason, PointType.REWARD,
+                PointPosting.statusLogKey(log.getId(), PointType.REWARD));
+    }
+
+    /**
+     * [9] 로그(DTO) → 장소별 그룹 변환
+     * StatusLogService: findNearbyGroupedPlaceLogs
+     * - REGISTER는 장소당 최신 1개, ANSWER는 전부 포함
+     * - 장소 주소는 호출 측에서 전달한 조회 함수(addressOf)로 채움
      */
-    private void giveUserPoint(User user, int points, String reason) {
-        pointService.givePoint(user, points, reason, PointType.REWARD);
+    private List<PlaceLogGroupDto> groupByPlace(List<StatusLogDto> logs, Function<Long, String> addressOf) {
+        Map<Long, List<StatusLogDto>> grouped = logs.stream()
+                .collect(Collectors.groupingBy(StatusLogDto::getPlaceId, LinkedHashMap::new, Collectors.toList()));
+
+        return grouped.entrySet().stream()
+                .map(entry -> {
+                    List<StatusLogDto> placeLogs = entry.getValue();
+
+                    StatusLogDto latestRegister = placeLogs.stream()
+                            .filter(l -> l.getType() == StatusType.REGISTER)
+                            .max(Comparator.comparing(StatusLogDto::getCreatedAt))
+                            .orElse(null);
+
+                    List<StatusLogDto> answers = placeLogs.stream()
+                            .filter(l -> l.getType() == StatusType.ANSWER)
+                            .toList();
+
+                    return PlaceLogGroupDto.builder()
+                            .placeId(entry.getKey())
+                            .placeName(placeLogs.get(0).getPlaceName())
+                            .address(addressOf.apply(entry.getKey()))
+                            .latestRegister(latestRegister)
+                            .answerLogs(answers)
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * [10] 로그 ID 목록 → (로그 ID → 이미지 URL 목록) 일괄 조회
+     * StatusLogService: findNearbyGroupedPlaceLogs
+     * - IN 절 길이 제한을 고려해 IN_QUERY_CHUNK 단위로 나눠 조회
+     */
+    private Map<Long, List<String>> findImageUrls(List<Long> logIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        for (int from = 0; from < logIds.size(); from += IN_QUERY_CHUNK) {
+            List<Long> chunk = logIds.subList(from, Math.min(from + IN_QUERY_CHUNK, logIds.size()));
+            for (Object[] row : statusLogRepository.findImageUrlsByStatusLogIds(chunk)) {
+                result.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * [11] 최신순 정렬된 목록 → Page 변환
+     * StatusLogService: findNearbyUserLocationLogs, findNearbyFreeShareLogs
+     * - createdAt 오름차순 정렬 요청 시 순서 반전
+     */
+    private Page<StatusLogDto> toPage(List<StatusLogDto> newestFirst, Pageable pageable) {
+        List<StatusLogDto> ordered = newestFirst;
+        Sort.Order order = pageable.getSort().getOrderFor("createdAt");
+        if (order != null && order.isAscending()) {
+            ordered = new ArrayList<>(newestFirst);
+            Collections.reverse(ordered);
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(ordered.subList(from, to), pageable, ordered.size());
     }
 
 }
\ No newline at end of file
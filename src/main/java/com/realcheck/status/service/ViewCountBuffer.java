@@ -0,0 +1,183 @@
+package com.realcheck.status.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.status.repository.StatusLogRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ViewCountBuffer
+ * - 자발적 공유(FREE_SHARE) 로그 조회수를 Redis에서 먼저 집계하고 주기적으로 DB에 일괄 반영 (write-behind)
+ * - 조회 1건마다 엔티티를 저장(버전 증가)하지 않으므로 인기 로그에서도 낙관적 락 충돌이 발생하지 않음
+ * - DB 쓰기 횟수는 조회 수가 아니라 반영 주기 × 변경된 로그 수에 비례
+ * - Redis 장애 시에는 DB에 바로 1씩 더하는 방식으로 대체하고, 장애 중 증가분은 복구 후 Redis 누적값에 더함
+ * - 누적값은 보상 지급 시점 판단용이며, 실제 지급 여부는 DB 조건부 갱신(markRewarded)으로 한 번만 확정
+ *
+ * Redis 키 구성
+ * - view:total:{logId}   현재 누적 조회수 (최초 증가 시 DB 값으로 초기화, 1일 TTL)
+ * - view:pending:{logId} 아직 DB에 반영되지 않은 증가분
+ * - view:dirty           반영 대기 중인 로그 ID 집합
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String TOTAL_KEY = "view:total:";
+    private static final String PENDING_KEY = "view:pending:";
+    private static final String DIRTY_KEY = "view:dirty";
+    // 누적 조회수 키 보관 시간 (초) - 만료 후에는 DB 값으로 다시 초기화
+    private static final long TOTAL_TTL_SECONDS = 24 * 60 * 60;
+
+    // 누적 조회수 초기화(NX) + 증가 + 증가분 기록 + 반영 대상 등록을 한 번에 처리
+    // - 이미 누적값이 있으면 Redis 장애 중 DB에 바로 더한 증가분(ARGV[4])도 함께 더함 (새로 초기화하면 DB 값에 이미 포함)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[1], ARGV[1], 'NX') then
+                redis.call('INCRBY', KEYS[1], ARGV[4])
+            end
+            local total = redis.call('INCR', KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('INCR', KEYS[2])
+            redis.call('SADD', KEYS[3], ARGV[3])
+            return total
+            """, Long.class);
+
+    // 반영 대상에서 제거 + 증가분 꺼내기 (꺼낸 이후의 증가분은 다음 주기에 반영)
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SREM', KEYS[2], ARGV[1])
+            local pending = redis.call('GET', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return tonumber(pending) or 0
+            """, Long.class);
+
+    // Redis 장애 중 증가분을 누적값에 더함 (누적값이 없으면 다음 조회 때 DB 값으로 초기화되므로 생략)
+    private static final RedisScript<Long> SYNC_TOTAL_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCRBY', KEYS[1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StatusLogRepository statusLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Redis 장애 중 DB에 바로 더한 증가분 (logId → 증가분, 복구 후 view:total에 반영)
+    private final Map<Long, Long> fallbackTotals = new ConcurrentHashMap<>();
+    // Redis에서 꺼냈지만 DB 반영도, Redis 복원도 하지 못한 증가분 (다음 주기에 함께 반영)
+    private final Map<Long, Long> undelivered = new ConcurrentHashMap<>();
+
+    /**
+     * [1] 조회수 1 증가
+     * StatusLogService: viewFreeShare
+     *
+     * @param logId       상태 로그 ID
+     * @param dbViewCount DB에 저장된 조회수 (Redis에 누적값이 없을 때 초기값으로 사용)
+     * @return 증가 후 누적 조회수
+     *         Redis 장애 시에는 DB 값 + 1 (호출하는 쪽 트랜잭션에서 DB에 바로 반영, 동시 조회끼리 같은 값을 받을 수 있음)
+     */
+    public long increment(Long logId, int dbViewCount) {
+        Long unsynced = fallbackTotals.remove(logId);
+        try {
+            Long total = redisTemplate.execute(INCREMENT_SCRIPT,
+                    List.of(TOTAL_KEY + logId, PENDING_KEY + logId, DIRTY_KEY),
+                    String.valueOf(dbViewCount), String.valueOf(TOTAL_TTL_SECONDS), String.valueOf(logId),
+                    String.valueOf(unsynced != null ? unsynced : 0L));
+            return total != null ? total : dbViewCount + 1L;
+        } catch (RedisConnectionFailureException e) {
+            statusLogRepository.addViewCount(logId, 1);
+            fallbackTotals.merge(logId, (unsynced != null ? unsynced : 0L) + 1L, Long::sum);
+            return dbViewCount + 1L;
+        }
+    }
+
+    /**
+     * [2] 누적 증가분 DB 반영 (10초마다 실행)
+     * - 반영 대기 로그별 증가분을 꺼내 하나의 트랜잭션에서 view_count += delta 로 갱신
+     * - 꺼내는 도중 Redis 오류가 나면 중단하고 이미 꺼낸 증가분만 반영
+     * - DB 반영 실패 시 꺼낸 증가분을 Redis에 되돌리고, 되돌리지 못한 증가분은 메모리에 보관해 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelay = 10000)
+    public void flush() {
+        syncFallbackTotals();
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : List.copyOf(undelivered.keySet())) {
+            Long delta = undelivered.remove(id);
+            if (delta != null)
+                deltas.merge(id, delta, Long::sum);
+        }
+
+        Set<String> dirty = Set.of();
+        try {
+            dirty = redisTemplate.opsForSet().members(DIRTY_KEY);
+        } catch (DataAccessException e) {
+            log.warn("[ViewCountBuffer] Redis 연결 실패 - 반영 대기 목록 조회 생략");
+        }
+        if (dirty != null) {
+            for (String id : dirty) {
+                try {
+                    Long delta = redisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY + id, DIRTY_KEY), id);
+                    if (delta != null && delta > 0) {
+                        deltas.merge(Long.valueOf(id), delta, Long::sum);
+                    }
+                } catch (DataAccessException e) {
+                    log.warn("[ViewCountBuffer] 증가분 꺼내기 중단 (logId={}) - 꺼낸 {}건만 반영: {}",
+                            id, deltas.size(), e.getMessage());
+                    break;
+                }
+            }
+        }
+        if (deltas.isEmpty())
+            return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas
+                    .forEach((id, delta) -> statusLogRepository.addViewCount(id, delta.intValue())));
+            log.debug("[ViewCountBuffer] 조회수 반영 완료: 로그 {}건", deltas.size());
+        } catch (RuntimeException e) {
+            log.error("[ViewCountBuffer] 조회수 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            deltas.forEach(this::restore);
+        }
+    }
+
+    // DB에 반영하지 못한 증가분을 Redis에 되돌림 (Redis도 실패하면 메모리에 보관)
+    private void restore(Long id, Long delta) {
+        try {
+            redisTemplate.opsForValue().increment(PENDING_KEY + id, delta);
+            redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(id));
+        } catch (DataAccessException e) {
+            undelivered.merge(id, delta, Long::sum);
+        }
+    }
+
+    // Redis 장애 중 DB에 바로 더한 증가분을 누적값에 반영 (실패하면 다음 주기에 다시 시도)
+    private void syncFallbackTotals() {
+        for (Long id : List.copyOf(fallbackTotals.keySet())) {
+            Long delta = fallbackTotals.remove(id);
+            if (delta == null)
+                continue;
+            try {
+                redisTemplate.execute(SYNC_TOTAL_SCRIPT, List.of(TOTAL_KEY + id), String.valueOf(delta));
+            } catch (DataAccessException e) {
+                fallbackTotals.merge(id, delta, Long::sum);
+                return;
+            }
+        }
+    }
+}
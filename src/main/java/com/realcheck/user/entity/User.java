@@ -22,7 +22,11 @@ import lombok.*;
  * - 일반 사용자, 제휴 업체, 관리자 역할을 포함
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at", columnList = "created_at"), // 일자별 통계 재계산 범위 조회
+        @Index(name = "idx_users_report_count", columnList = "report_count, id"), // 신고 사용자 신고순 목록 (커서 페이지)
+        @Index(name = "idx_users_reported_created_at", columnList = "reported, created_at, id") // 신고 사용자 최신순 목록 (커서 페이지)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,12 +69,23 @@ public class User {
     private UserRole role;
 
     // 포인트 - 기본값 0으로 시작, 정보 제공 등으로 증가 가능
+    // 가입 시에만 저장하고, 이후 변경은 포인트 내역(Point) 저장과 함께 UserRepository.addPoints의 원자적 UPDATE로만 반영
+    // (엔티티 저장 시 오래된 잔액으로 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false)
     private int points = 0;
 
     // 신고 횟수
     @Column(nullable = false)
     private int reportCount = 0;
 
+    // 신고 받은 적이 있는지 여부 (report_count로 DB가 계산하는 읽기 전용 생성 컬럼, 신고 사용자 최신순 목록의 인덱스 선두 컬럼)
+    // - 엔티티 값은 저장 시점에 갱신되지 않으므로 쿼리 조건으로만 사용
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "reported", insertable = false, updatable = false,
+            columnDefinition = "BOOLEAN AS (report_count > 0) STORED NOT NULL")
+    private boolean reported;
+
     // 신고 횟수 증가
     public void incrementReportCount() {
         this.reportCount++;
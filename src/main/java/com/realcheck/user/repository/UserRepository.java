@@ -1,16 +1,26 @@
 package com.realcheck.user.repository;
 
 import com.realcheck.admin.dto.MonthlyUserStatDto;
+import com.realcheck.admin.dto.ReportedUserDto;
+import com.realcheck.admin.dto.ReportedUserExportRow;
 import com.realcheck.user.entity.User;
 import com.realcheck.user.entity.UserRole;
+import com.realcheck.util.ExportWriter;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * UserRepository 인터페이스 (ALL DONE)
@@ -84,7 +94,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   /**
    * [3-4] 월별 가입 통계 조회
-   * AdminStatsService: getMonthlyUserSignUpStats
+   * 원본 전체 집계 (대시보드는 StatsRollupService 롤업 조회로 대체, 롤업 값 대조용으로 유지)
    * - 사용자 가입 시점(createdAt)을 기준으로 연/월별 가입 수를 집계
    * - 프론트 대시보드에서 사용자 성장 추세를 파악하는 데 사용
    * - 결과는 연도와 월별로 그룹화되어 반환
@@ -145,4 +155,114 @@ public interface UserRepository extends JpaRepository<User, Long> {
    * - 반환 타입: double (0.0 ~ 1.0 사이의 값)
    */
   long countByPoints(int points);
+
+  /**
+   * [3-9] 일자별 가입 수 (기간 지정)
+   * StatsRollupService: recompute
+   * - 결과: [일자(DATE), 건수]
+   * - 통계 롤업(stats_rollup) 재계산용, created_at 인덱스 범위 조회
+   */
+  @Query("""
+          SELECT FUNCTION('DATE', u.createdAt), COUNT(u)
+          FROM User u
+          WHERE u.createdAt >= :from AND u.createdAt < :to
+          GROUP BY FUNCTION('DATE', u.createdAt)
+      """)
+  List<Object[]> countDailySignUps(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  /**
+   * [3-10] 가장 이른 가입 시각
+   * StatsRollupBackfillScheduler: rebuild
+   * - 통계 롤업 재계산 시작일 기준 (서비스 데이터는 첫 가입 이후에만 존재)
+   */
+  @Query("SELECT MIN(u.createdAt) FROM User u")
+  LocalDateTime findEarliestCreatedAt();
+
+  /**
+   * [3-11] 전체 사용자 포인트 잔액
+   * LeaderboardRebuildScheduler: rebuild
+   * - 결과: [사용자 ID, 잔액]
+   * - 잔액 순위표(leaderboard:points) 재구성용
+   */
+  @Query("SELECT u.id, u.points FROM User u")
+  List<Object[]> findAllPoints();
+
+  /**
+   * [3-12] 신고 받은 사용자 스트리밍 조회 (내보내기용)
+   * AdminExportService: export
+   * - 평면 프로젝션 + 한 행씩 받아오므로 건수와 관계없이 메모리 사용량 일정
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.STREAM_FETCH_SIZE))
+  @Query("""
+          SELECT new com.realcheck.admin.dto.ReportedUserExportRow(
+                   u.id, u.email, u.nickname, u.role, u.reportCount, u.points, u.isActive, u.createdAt)
+          FROM User u
+          WHERE u.reportCount > 0
+          ORDER BY u.id
+      """)
+  Stream<ReportedUserExportRow> streamReportedForExport();
+
+  /**
+   * [3-13] 신고 받은 사용자 목록 - 신고 횟수순 (커서 페이지)
+   * UserAdminService: getReportedUsers
+   * - (report_count, id) 인덱스를 역순으로 읽으며 커서 다음 행부터 Pageable 크기만큼만 조회 (OFFSET / COUNT 없음)
+   * - 첫 페이지는 커서에 최댓값을 넣어 호출
+   */
+  @Query("""
+          SELECT new com.realcheck.admin.dto.ReportedUserDto(
+                   u.id, u.email, u.nickname, u.role, u.reportCount, u.isActive, u.createdAt)
+          FROM User u
+          WHERE u.reportCount > 0
+            AND (u.reportCount < :reportCount OR (u.reportCount = :reportCount AND u.id < :id))
+          ORDER BY u.reportCount DESC, u.id DESC
+      """)
+  List<ReportedUserDto> findReportedByCountAfter(@Param("reportCount") int reportCount, @Param("id") Long id,
+      Pageable pageable);
+
+  /**
+   * [3-14] 신고 받은 사용자 목록 - 가입 최신순 (커서 페이지)
+   * UserAdminService: getReportedUsers
+   * - (reported, created_at, id) 인덱스에서 reported = true 구간만 역순으로 읽으며 커서 다음 행부터 조회
+   *   (신고 받지 않은 사용자 행은 읽지 않으므로 신고 사용자가 적어도 페이지당 읽는 행 수는 Pageable 크기)
+   * - 첫 페이지는 커서에 최댓값을 넣어 호출
+   */
+  @Query("""
+          SELECT new com.realcheck.admin.dto.ReportedUserDto(
+                   u.id, u.email, u.nickname, u.role, u.reportCount, u.isActive, u.createdAt)
+          FROM User u
+          WHERE u.reported = true
+            AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id))
+          ORDER BY u.createdAt DESC, u.id DESC
+      """)
+  List<ReportedUserDto> findReportedByRecencyAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+      Pageable pageable);
+
+  // ────────────────────────────────────────
+  // [4] 포인트 잔액 갱신
+  // ────────────────────────────────────────
+
+  /**
+   * [4-1] 포인트 잔액 원자적 증감 (잔액 부족 시 갱신하지 않음)
+   * PointService: givePoint
+   * - 읽고-수정-저장 대신 UPDATE 한 번으로 처리하므로 @Version 충돌/재시도 없음
+   * - 잔액이 음수가 되는 차감은 조건에 걸려 0건 갱신
+   *
+   * @return 갱신 시 1, 잔액 부족(또는 사용자 없음) 시 0
+   */
+  @Modifying
+  @Query("""
+          UPDATE User u
+          SET u.points = u.points + :amount
+          WHERE u.id = :userId
+          AND u.points + :amount >= 0
+      """)
+  int addPoints(@Param("userId") Long userId, @Param("amount") int amount);
+
+  /**
+   * [4-2] 현재 포인트 잔액 조회
+   * PointService: givePoint
+   * - 원자적 증감 직후 같은 트랜잭션에서 갱신된 잔액 확인용
+   */
+  @Query("SELECT u.points FROM User u WHERE u.id = :userId")
+  int findPointsById(@Param("userId") Long userId);
 }
@@ -1,10 +1,13 @@
 package com.realcheck.user.service;
 
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.event.DomainEventBus;
 import com.realcheck.deletionlog.entity.DeletedUserLog;
 import com.realcheck.deletionlog.repository.DeletedUserLogRepository;
 import com.realcheck.place.service.PlaceService;
 import com.realcheck.request.repository.RequestRepository;
 import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.status.service.RecentStatusLogWindow;
 import com.realcheck.user.dto.PasswordUpdateRequestDto;
 import com.realcheck.user.dto.UserDto;
 import com.realcheck.user.entity.User;
@@ -42,6 +45,8 @@ public class UserService {
     private final StatusLogRepository statusLogRepository;
     private final PlaceService placeService;
     private final DeletedUserLogRepository deletedUserLogRepository;
+    private final RecentStatusLogWindow recentStatusLogWindow;
+    private final DomainEventBus domainEventBus;
 
     // ─────────────────────────────────────────────
     // [1] 사용자 생성 및 인증 관련 기능
@@ -334,6 +339,8 @@ public class UserService {
         } catch (ObjectOptimisticLockingFailureException e) {
             throw new RuntimeException("사용자 정보가 동시에 변경되었습니다. 다시 시도해주세요.");
         }
+        recentStatusLogWindow.removeByReporterAfterCommit(userId);
+        domainEventBus.publishAfterCommit(DomainEvent.Type.STATUS_PURGED_BY_USER, null, null, () -> userId);
     }
 
     // ─────────────────────────────────────────────
@@ -0,0 +1,147 @@
+package com.realcheck.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ExportWriter
+ * - 관리자 내보내기(CSV / NDJSON) 공통 출력 기능 제공
+ * - 행(record)을 하나씩 읽어 바로 출력하므로 전체 목록을 메모리에 모으지 않음
+ * - CSV 열 이름/순서는 record 필드 선언 순서를 그대로 사용
+ */
+public class ExportWriter {
+
+    /**
+     * 스트리밍 조회용 JDBC fetch size (@QueryHints 값)
+     * - MySQL Connector/J는 Integer.MIN_VALUE일 때 결과를 한 행씩 받아옴 (전체 결과 버퍼링 없음)
+     * - 스트림을 닫기 전까지 같은 커넥션으로 다른 쿼리를 실행할 수 없음
+     */
+    public static final String STREAM_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    // 이 행 수마다 응답으로 내보냄 (청크 단위 전송)
+    static final int FLUSH_EVERY = 1_000;
+
+    // Excel에서 UTF-8(한글) CSV를 올바르게 열기 위한 BOM
+    private static final String UTF8_BOM = "\uFEFF";
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * 요청 파라미터(csv / ndjson, 대소문자 무시) → 형식
+         */
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value))
+                    return format;
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 행 스트림을 지정 형식으로 출력
+     * AdminExportService: export
+     * - CSV: BOM + 헤더 1줄 + 행마다 1줄 (RFC 4180 따옴표 처리, null은 빈 칸)
+     * - NDJSON: 행마다 JSON 객체 1줄
+     * - FLUSH_EVERY행마다 flush, 출력 스트림은 닫지 않음 (호출한 쪽 소유)
+     *
+     * @return 출력한 행 수
+     */
+    public static <T extends Record> long write(Stream<T> rows, Class<T> type, Format format,
+            OutputStream out, ObjectMapper objectMapper) throws IOException {
+        RecordComponent[] components = type.getRecordComponents();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == Format.CSV) {
+            writer.write(UTF8_BOM);
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0)
+                    writer.write(',');
+                writer.write(components[i].getName());
+            }
+            writer.write("\r\n");
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == Format.CSV)
+                writeCsvRow(writer, row, components);
+            else
+                writer.write(objectMapper.writeValueAsString(row));
+            writer.write(format == Format.CSV ? "\r\n" : "\n");
+
+            if (++count % FLUSH_EVERY == 0)
+                writer.flush();
+        }
+        writer.flush();
+        return count;
+    }
+
+    // ────────────────────────────────────────
+    // [*] 내부 공통 메서드
+    // ────────────────────────────────────────
+
+    private static void writeCsvRow(Writer writer, Record row, RecordComponent[] components) throws IOException {
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0)
+                writer.write(',');
+            Object value;
+            try {
+                value = components[i].getAccessor().invoke(row);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("내보내기 행 필드를 읽을 수 없습니다: " + components[i].getName(), e);
+            }
+            if (value != null)
+                writer.write(escapeCsv(value instanceof String text ? neutralizeFormula(text) : String.valueOf(value)));
+        }
+    }
+
+    /**
+     * CSV 칸 값 처리 (RFC 4180)
+     * - 쉼표/따옴표/줄바꿈이 있으면 전체를 따옴표로 감싸고 내부 따옴표는 두 번 씀
+     */
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // 사용자 입력 문자열이 =, +, -, @로 시작하면 스프레드시트가 수식으로 실행하지 않도록 앞에 ' 추가
+    private static String neutralizeFormula(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0)
+            return "'" + value;
+        return value;
+    }
+}
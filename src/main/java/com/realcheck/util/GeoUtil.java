@@ -0,0 +1,98 @@
+package com.realcheck.util;
+
+import java.util.Locale;
+
+/**
+ * GeoUtil
+ * - 위치(위도/경도) 관련 공통 계산 기능 제공
+ * - 거리 계산, 반경 → 사각 범위(bounding box) 변환, 격자(grid) 셀 계산 담당
+ * - DB 공간 인덱스(geo_point 컬럼) 정의 및 MBRContains용 사각 범위(WKT) 생성
+ */
+public class GeoUtil {
+
+    // MySQL ST_Distance_Sphere 기본 지구 반지름 (미터) - DB 결과와 동일하게 맞추기 위해 사용
+    public static final double EARTH_RADIUS_METERS = 6370986.0;
+
+    /**
+     * 공간 인덱스용 좌표 컬럼 정의 (places, status_logs, request 공통)
+     * - lat/lng로 DB가 직접 계산하는 STORED 생성 컬럼이므로 저장/수정 시 별도 처리 없이 항상 최신 값 유지
+     * - X = 경도, Y = 위도 (SRID 0 평면 좌표: 사각 범위 비교만 담당하고 실제 거리는 ST_Distance_Sphere로 확인)
+     * - SPATIAL INDEX는 NOT NULL 컬럼에만 만들 수 있어 좌표가 없는 행은 (0, 0)으로 저장
+     * - MySQL 문법상 SRID는 컬럼 속성이므로 생성 컬럼에서는 STORED / NOT NULL 뒤에 위치해야 함
+     * - 인덱스 생성: SpatialIndexInitializer
+     */
+    public static final String GEO_POINT_COLUMN_DEFINITION = "POINT AS (POINT(IFNULL(lng, 0), IFNULL(lat, 0))) STORED NOT NULL SRID 0";
+
+    /**
+     * 두 좌표 사이의 구면 거리 계산 (Haversine)
+     * - MySQL ST_Distance_Sphere와 같은 반지름을 사용하므로 DB 반경 필터와 결과가 일치함
+     *
+     * @return 거리 (미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 중심 좌표 + 반경(m) → 반경을 모두 포함하는 사각 범위 계산
+     * - 인덱스/범위 조건으로 1차 후보를 줄이고, 실제 거리 비교는 distanceMeters로 수행
+     *
+     * @return {minLat, minLng, maxLat, maxLng}
+     */
+    public static double[] boundingBox(double lat, double lng, double radiusMeters) {
+        double dLat = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        // 극지방에서 cos 값이 0에 가까워지는 것을 방지
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double dLng = Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * cosLat));
+
+        return new double[] {
+                Math.max(-90.0, lat - dLat),
+                Math.max(-180.0, lng - dLng),
+                Math.min(90.0, lat + dLat),
+                Math.min(180.0, lng + dLng) };
+    }
+
+    /**
+     * 중심 좌표 + 반경(m) → MBRContains 비교용 사각형 WKT (경도 위도 순서)
+     * - 쿼리에서 mbr_contains(:envelope, x.geoPoint)로 SRID 0 도형으로 변환하여 geo_point 공간 인덱스 범위 검색에 사용
+     *   (함수 등록: SpatialFunctionContributor)
+     */
+    public static String envelope(double lat, double lng, double radiusMeters) {
+        double[] box = boundingBox(lat, lng, radiusMeters);
+        return envelope(box[0], box[1], box[2], box[3]);
+    }
+
+    /**
+     * 사각 범위(최소/최대 위도·경도) → MBRContains 비교용 사각형 WKT (경도 위도 순서)
+     */
+    public static String envelope(double minLat, double minLng, double maxLat, double maxLng) {
+        return String.format(Locale.ROOT, "POLYGON((%.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f))",
+                minLng, minLat, maxLng, minLat, maxLng, maxLat, minLng, maxLat, minLng, minLat);
+    }
+
+    /**
+     * 격자 셀 인덱스 계산 (위도 방향)
+     */
+    public static int cellLat(double lat, double cellDegrees) {
+        return (int) Math.floor((lat + 90.0) / cellDegrees);
+    }
+
+    /**
+     * 격자 셀 인덱스 계산 (경도 방향)
+     */
+    public static int cellLng(double lng, double cellDegrees) {
+        return (int) Math.floor((lng + 180.0) / cellDegrees);
+    }
+
+    /**
+     * 격자 셀 (위도 인덱스, 경도 인덱스) → 단일 long 키
+     */
+    public static long cellKey(int cellLat, int cellLng) {
+        return ((long) cellLat << 32) | (cellLng & 0xffffffffL);
+    }
+}
@@ -0,0 +1,83 @@
+package com.realcheck.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import com.realcheck.common.dto.MapClusterDto;
+
+/**
+ * MapClusterer
+ * - 지도 확대 수준(zoom)에 맞춘 격자(grid) 기반 마커 클러스터링
+ * - 셀 크기는 256px 타일을 4x4로 나눈 크기(약 64px)이므로, 화면에 보이는 셀 수 = 응답 항목 수의 상한
+ *   → 지역 밀집도와 관계없이 응답 크기와 클라이언트 마커 수가 거의 일정
+ * - EXPAND_ZOOM 이상에서는 묶지 않고 개별 마커로 반환
+ */
+public class MapClusterer {
+
+    // 이 확대 수준 이상에서는 클러스터링하지 않음
+    public static final int EXPAND_ZOOM = 17;
+    // 타일 한 변을 나누는 셀 수
+    private static final int CELLS_PER_TILE = 4;
+
+    /**
+     * 좌표 목록 → 클러스터 목록
+     *
+     * @param items 클러스터링 대상
+     * @param latOf 위도 추출 함수
+     * @param lngOf 경도 추출 함수
+     * @param zoom  지도 확대 수준 (0~21)
+     * @return 셀별 클러스터 (항목이 1개인 셀은 개별 마커)
+     */
+    public static <T> List<MapClusterDto<T>> cluster(List<T> items, ToDoubleFunction<T> latOf,
+            ToDoubleFunction<T> lngOf, int zoom) {
+        if (zoom >= EXPAND_ZOOM) {
+            return items.stream()
+                    .map(item -> new MapClusterDto<>(latOf.applyAsDouble(item), lngOf.applyAsDouble(item), 1, item))
+                    .toList();
+        }
+
+        double cellDegrees = cellDegrees(zoom);
+        Map<Long, Cell<T>> cells = new LinkedHashMap<>();
+        for (T item : items) {
+            double lat = latOf.applyAsDouble(item);
+            double lng = lngOf.applyAsDouble(item);
+            long key = GeoUtil.cellKey(GeoUtil.cellLat(lat, cellDegrees), GeoUtil.cellLng(lng, cellDegrees));
+            cells.computeIfAbsent(key, k -> new Cell<>(item)).add(lat, lng);
+        }
+
+        List<MapClusterDto<T>> result = new ArrayList<>(cells.size());
+        for (Cell<T> cell : cells.values()) {
+            result.add(new MapClusterDto<>(cell.sumLat / cell.count, cell.sumLng / cell.count, cell.count,
+                    cell.count == 1 ? cell.first : null));
+        }
+        return result;
+    }
+
+    /**
+     * 확대 수준별 셀 크기 (도 단위): 타일 폭(360 / 2^zoom) / CELLS_PER_TILE
+     */
+    static double cellDegrees(int zoom) {
+        return 360.0 / (1L << zoom) / CELLS_PER_TILE;
+    }
+
+    // 셀별 누적값 (중심 좌표 계산용)
+    private static final class Cell<T> {
+        private final T first;
+        private double sumLat;
+        private double sumLng;
+        private int count;
+
+        private Cell(T first) {
+            this.first = first;
+        }
+
+        private void add(double lat, double lng) {
+            sumLat += lat;
+            sumLng += lng;
+            count++;
+        }
+    }
+}
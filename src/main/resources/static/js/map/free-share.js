@@ -291,7 +291,7 @@ function renderLogItem(log, groupSize = 1, group = []) {
         </div>
         <p class="card-text text-truncate mt-2">${shortContent}</p>
         <div class="text-muted mt-2">
-          조회수: ${log.viewCount} · ${new Date(log.createdAt).toLocaleString()}
+          조회수: <span class="view-count">${log.viewCount}</span> · ${new Date(log.createdAt).toLocaleString()}
         </div>
       </div>
     </div>
@@ -392,6 +392,24 @@ function showGroupDetailModal(groupLogs) {
   });
 
   new bootstrap.Modal(document.getElementById("groupDetailModal")).show();
+  recordGroupViews(groupLogs);
+}
+
+// 그룹 모달에 표시된 로그들의 조회수를 한 번에 반영 (중복 조회는 서버에서 걸러짐)
+function recordGroupViews(groupLogs) {
+  const ids = groupLogs.map((log) => log.id);
+  if (ids.length === 0) return;
+
+  $.ajax({
+    url: "/api/status/free-share/views",
+    method: "POST",
+    contentType: "application/json",
+    data: JSON.stringify(ids),
+  }).done((viewCounts) => {
+    Object.entries(viewCounts).forEach(([id, viewCount]) => {
+      $(`.free-share-item[data-log-id="${id}"] .view-count`).text(viewCount);
+    });
+  });
 }
 
 // 분리된 렌더 함수
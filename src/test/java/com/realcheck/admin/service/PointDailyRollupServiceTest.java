@@ -0,0 +1,88 @@
+package com.realcheck.admin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.admin.entity.PointDailyRollup;
+import com.realcheck.admin.repository.PointDailyRollupRepository;
+import com.realcheck.point.entity.PointType;
+import com.realcheck.point.repository.PointRepository;
+
+class PointDailyRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 1);
+
+    private PointDailyRollupRepository pointDailyRollupRepository;
+    private PointRepository pointRepository;
+    private PointDailyRollupService pointDailyRollupService;
+
+    @BeforeEach
+    void setUp() {
+        pointDailyRollupRepository = mock(PointDailyRollupRepository.class);
+        pointRepository = mock(PointRepository.class);
+        pointDailyRollupService = new PointDailyRollupService(pointDailyRollupRepository, pointRepository,
+                mock(TransactionTemplate.class));
+    }
+
+    @Test
+    void matchingRollupIsLeftUntouched() {
+        when(pointRepository.sumDailyByType(any(), any())).thenReturn(List.<Object[]>of(
+                new Object[] { Date.valueOf(DAY), PointType.EARN, 300L, 3L }));
+        when(pointDailyRollupRepository.findByStatDateGreaterThanEqualAndStatDateLessThan(DAY, DAY.plusDays(1)))
+                .thenReturn(List.of(new PointDailyRollup(1L, DAY, PointType.EARN, 300, 3)));
+
+        assertThat(pointDailyRollupService.verify(DAY, DAY.plusDays(1))).isZero();
+
+        verify(pointDailyRollupRepository, never()).deleteRange(any(), any());
+        verify(pointDailyRollupRepository, never()).addTotals(any(), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void mismatchedRangeIsRewrittenFromLedger() {
+        when(pointRepository.sumDailyByType(DAY.atStartOfDay(), DAY.plusDays(2).atStartOfDay())).thenReturn(List.<Object[]>of(
+                new Object[] { Date.valueOf(DAY), PointType.EARN, 300L, 3L },
+                new Object[] { Date.valueOf(DAY.plusDays(1)), PointType.CASH, -50L, 1L }));
+        // 둘째 날 CASH 반영 누락 + 없는 내역(REWARD) 존재
+        when(pointDailyRollupRepository.findByStatDateGreaterThanEqualAndStatDateLessThan(DAY, DAY.plusDays(2)))
+                .thenReturn(List.of(
+                        new PointDailyRollup(1L, DAY, PointType.EARN, 300, 3),
+                        new PointDailyRollup(2L, DAY.plusDays(1), PointType.REWARD, 10, 1)));
+
+        assertThat(pointDailyRollupService.verify(DAY, DAY.plusDays(2))).isEqualTo(2);
+
+        verify(pointDailyRollupRepository).deleteRange(DAY, DAY.plusDays(2));
+        verify(pointDailyRollupRepository).addTotals(DAY, "EARN", 300, 3);
+        verify(pointDailyRollupRepository).addTotals(DAY.plusDays(1), "CASH", -50, 1);
+    }
+
+    @Test
+    void netIssuedCombinesPastRollupWithTodayLedger() {
+        LocalDate today = LocalDate.now();
+        when(pointDailyRollupRepository.sumByTypeBefore(today)).thenReturn(List.<Object[]>of(
+                new Object[] { PointType.CHARGE, 1_000L },
+                new Object[] { PointType.REWARD, 200L },
+                new Object[] { PointType.CASH, -300L },
+                new Object[] { PointType.EARN, 5_000L }));
+        LocalDateTime start = today.atStartOfDay();
+        when(pointRepository.sumByType(start, start.plusDays(1))).thenReturn(List.<Object[]>of(
+                new Object[] { PointType.CHARGE, 100L, 1L }));
+
+        // 원장 전체 합산 쿼리(sumNetIssuedPoints)와 같은 공식: CHARGE + REWARD - CASH
+        assertThat(pointDailyRollupService.sumNetIssuedPoints()).isEqualTo(1_000 + 100 + 200 + 300);
+    }
+}
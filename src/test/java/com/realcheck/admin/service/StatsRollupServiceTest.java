@@ -0,0 +1,117 @@
+package com.realcheck.admin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realcheck.admin.entity.StatsMetric;
+import com.realcheck.admin.repository.StatsRollupRepository;
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.place.repository.PlaceRepository;
+import com.realcheck.request.dto.RequestDto;
+import com.realcheck.request.entity.RequestCategory;
+import com.realcheck.request.repository.RequestRepository;
+import com.realcheck.status.dto.StatusLogDto;
+import com.realcheck.status.entity.StatusType;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.user.repository.UserRepository;
+
+class StatsRollupServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    private StatsRollupRepository statsRollupRepository;
+    private StatusLogRepository statusLogRepository;
+    private StatsRollupService statsRollupService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        statsRollupRepository = mock(StatsRollupRepository.class);
+        statusLogRepository = mock(StatusLogRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        statsRollupService = new StatsRollupService(statsRollupRepository, statusLogRepository,
+                mock(RequestRepository.class), mock(PlaceRepository.class), mock(UserRepository.class),
+                transactionTemplate);
+    }
+
+    private static DomainEvent statusEvent(DomainEvent.Type type, boolean remote) {
+        StatusLogDto dto = StatusLogDto.builder().id(1L).type(StatusType.ANSWER).createdAt(CREATED_AT).build();
+        return new DomainEvent(type, 37.5, 127.0, dto, remote);
+    }
+
+    @Test
+    void localEventsAreMergedIntoOneUpsertPerKey() {
+        statsRollupService.onDomainEvent(statusEvent(DomainEvent.Type.STATUS_CREATED, false));
+        statsRollupService.onDomainEvent(statusEvent(DomainEvent.Type.STATUS_CREATED, false));
+        statsRollupService.onDomainEvent(statusEvent(DomainEvent.Type.STATUS_CREATED, false));
+        statsRollupService.onDomainEvent(statusEvent(DomainEvent.Type.STATUS_DELETED, false));
+        // 다른 서버에서 중계된 이벤트는 그 서버가 이미 반영
+        statsRollupService.onDomainEvent(statusEvent(DomainEvent.Type.STATUS_CREATED, true));
+        RequestDto request = RequestDto.builder().category(RequestCategory.WAITING_STATUS).createdAt(CREATED_AT).build();
+        statsRollupService.onDomainEvent(new DomainEvent(DomainEvent.Type.REQUEST_CREATED, null, null, request, false));
+
+        assertThat(statsRollupService.flush()).isEqualTo(2);
+
+        verify(statsRollupRepository).addTotal("STATUS_LOG", "ANSWER", CREATED_AT.toLocalDate(), 2);
+        verify(statsRollupRepository).addTotal("REQUEST", "WAITING_STATUS", CREATED_AT.toLocalDate(), 1);
+        assertThat(statsRollupService.flush()).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForNextRun() {
+        statsRollupService.onDomainEvent(statusEvent(DomainEvent.Type.STATUS_CREATED, false));
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(statsRollupRepository).addTotal(anyString(), anyString(), any(), anyLong());
+
+        assertThat(statsRollupService.flush()).isZero();
+
+        statsRollupService.onDomainEvent(statusEvent(DomainEvent.Type.STATUS_CREATED, false));
+        doAnswer(inv -> 1).when(statsRollupRepository).addTotal(anyString(), anyString(), any(), anyLong());
+
+        assertThat(statsRollupService.flush()).isEqualTo(1);
+        verify(statsRollupRepository).addTotal("STATUS_LOG", "ANSWER", CREATED_AT.toLocalDate(), 2);
+    }
+
+    @Test
+    void recomputeReplacesRangeWithSourceCounts() {
+        LocalDate from = LocalDate.of(2025, 5, 1);
+        LocalDate to = LocalDate.of(2025, 6, 1);
+        when(statusLogRepository.countDailyByType(from.atStartOfDay(), to.atStartOfDay())).thenReturn(List.of(
+                new Object[] { Date.valueOf(from), StatusType.ANSWER, 7L },
+                new Object[] { Date.valueOf(from.plusDays(3)), StatusType.REGISTER, 2L }));
+
+        assertThat(statsRollupService.recompute(StatsMetric.STATUS_LOG, from, to)).isEqualTo(2);
+
+        verify(statsRollupRepository).deleteRange(StatsMetric.STATUS_LOG, from, to);
+        verify(statsRollupRepository).addTotal("STATUS_LOG", "ANSWER", from, 7);
+        verify(statsRollupRepository).addTotal("STATUS_LOG", "REGISTER", from.plusDays(3), 2);
+        verify(statsRollupRepository, times(2)).addTotal(anyString(), anyString(), any(), anyLong());
+        verify(statsRollupRepository, never()).findByMetricAndDimension(any(), anyString());
+    }
+}
@@ -0,0 +1,83 @@
+package com.realcheck.admin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import com.realcheck.admin.dto.ReportedUserDto;
+import com.realcheck.admin.service.UserAdminService.ReportedUserSort;
+import com.realcheck.common.dto.CursorPage;
+import com.realcheck.report.repository.ReportRepository;
+import com.realcheck.request.repository.RequestRepository;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.user.entity.UserRole;
+import com.realcheck.user.repository.UserRepository;
+
+class UserAdminServiceReportedUsersTest {
+
+    private UserRepository userRepository;
+    private UserAdminService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        service = new UserAdminService(userRepository, mock(StatusLogRepository.class),
+                mock(RequestRepository.class), mock(ReportRepository.class), mock(AdminActionLogService.class));
+    }
+
+    @Test
+    void firstPageFetchesOneExtraRowAndReturnsCursorOfLastRow() {
+        when(userRepository.findReportedByCountAfter(anyInt(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(user(9L, 5), user(7L, 3), user(4L, 3)));
+
+        CursorPage<ReportedUserDto> page = service.getReportedUsers(ReportedUserSort.COUNT, null, 2);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userRepository).findReportedByCountAfter(eq(Integer.MAX_VALUE), eq(Long.MAX_VALUE), pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(ReportedUserDto::getId).containsExactly(9L, 7L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("3_7");
+    }
+
+    @Test
+    void recencyCursorIsParsedAndLastPageHasNoCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_000);
+        when(userRepository.findReportedByRecencyAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(user(3L, 1)));
+
+        CursorPage<ReportedUserDto> page = service.getReportedUsers(ReportedUserSort.RECENT, createdAt + "_12", 20);
+
+        verify(userRepository).findReportedByRecencyAfter(eq(createdAt), eq(12L), any(Pageable.class));
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> service.getReportedUsers(ReportedUserSort.COUNT, "abc", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getReportedUsers(ReportedUserSort.RECENT, "x_1", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ReportedUserDto user(Long id, int reportCount) {
+        return new ReportedUserDto(id, "u" + id + "@test.com", "u" + id, UserRole.USER, reportCount, true,
+                LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(id));
+    }
+}
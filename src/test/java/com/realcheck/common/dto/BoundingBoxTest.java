@@ -0,0 +1,48 @@
+package com.realcheck.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BoundingBoxTest {
+
+    @Test
+    void lowZoomCountryViewportIsAcceptedForClusters() {
+        // zoom 7에서 한반도 전체 화면 (약 6도 x 8도)
+        BoundingBox box = new BoundingBox(33.0, 124.0, 39.0, 132.0, 7);
+
+        assertThatCode(box::validateForClusters).doesNotThrowAnyException();
+    }
+
+    @Test
+    void worldViewportIsAcceptedForClustersAtLowestZooms() {
+        BoundingBox box = new BoundingBox(-90.0, -180.0, 90.0, 180.0, 1);
+
+        assertThatCode(box::validateForClusters).doesNotThrowAnyException();
+    }
+
+    @Test
+    void clusterSpanWiderThanViewportOfZoomIsRejected() {
+        // zoom 15 화면은 1도보다 훨씬 좁으므로 1도 초과 범위는 거부
+        BoundingBox box = new BoundingBox(37.0, 126.0, 39.0, 128.0, 15);
+
+        assertThatThrownBy(box::validateForClusters).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void clusterValidationRequiresZoom() {
+        BoundingBox box = new BoundingBox(37.0, 126.0, 37.5, 126.5, null);
+
+        assertThatThrownBy(box::validateForClusters).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void itemQueriesStayLimitedToOneDegreeRegardlessOfZoom() {
+        assertThatCode(new BoundingBox(37.0, 126.0, 38.0, 127.0, null)::validate).doesNotThrowAnyException();
+        assertThatThrownBy(new BoundingBox(37.0, 126.0, 38.5, 127.0, null)::validate)
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(new BoundingBox(-90.0, -180.0, 90.0, 180.0, 1)::validate)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.realcheck.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realcheck.status.dto.StatusLogDto;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * DomainEventBus 서버 간 중계 테스트 (Redis pub/sub 대역 사용)
+ * - 한 서버에서 발행한 이벤트가 다른 서버에 remote 이벤트로 전달되고, 자기 서버로 돌아온 묶음은 무시
+ * - 묶음 단위 전송 (PUBLISH 1회당 최대 MAX_BATCH_SIZE건), 큰 묶음은 gzip 압축 후 복원
+ */
+class DomainEventBusRelayTest {
+
+    // 채널 구독 서버 목록 (실제 Redis와 같이 보낸 서버 자신도 수신)
+    private final List<DomainEventBus> nodes = new ArrayList<>();
+    private final AtomicInteger publishCount = new AtomicInteger();
+    private ApplicationEventPublisher publisherA;
+    private ApplicationEventPublisher publisherB;
+    private DomainEventBus nodeA;
+    private DomainEventBus nodeB;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.publish(any(byte[].class), any(byte[].class))).thenAnswer(inv -> {
+            publishCount.incrementAndGet();
+            Message message = new DefaultMessage(inv.getArgument(0), inv.getArgument(1));
+            nodes.forEach(node -> node.onMessage(message, null));
+            return (long) nodes.size();
+        });
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(inv -> ((RedisCallback<?>) inv.getArgument(0)).doInRedis(connection));
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        publisherA = mock(ApplicationEventPublisher.class);
+        publisherB = mock(ApplicationEventPublisher.class);
+        nodeA = new DomainEventBus(redisTemplate, publisherA, mock(EntityManager.class), objectMapper);
+        nodeB = new DomainEventBus(redisTemplate, publisherB, mock(EntityManager.class), objectMapper);
+        nodes.add(nodeA);
+        nodes.add(nodeB);
+    }
+
+    @Test
+    void eventReachesOtherNodeAsRemoteAndOwnBatchIsIgnored() {
+        StatusLogDto dto = StatusLogDto.builder()
+                .id(10L).content("줄 10명").lat(37.5).lng(127.0).requestId(3L)
+                .createdAt(LocalDateTime.of(2025, 5, 1, 12, 0))
+                .build();
+
+        // 트랜잭션 밖 발행 → 즉시 로컬 전달 + 대기열 적재
+        nodeA.publishAfterCommit(DomainEvent.Type.STATUS_CREATED, 37.5, 127.0, () -> dto);
+        assertThat(nodeA.flush()).isEqualTo(1);
+
+        ArgumentCaptor<Object> local = ArgumentCaptor.forClass(Object.class);
+        verify(publisherA, times(1)).publishEvent(local.capture());
+        assertThat(((DomainEvent) local.getValue()).remote()).isFalse();
+
+        ArgumentCaptor<Object> relayed = ArgumentCaptor.forClass(Object.class);
+        verify(publisherB, times(1)).publishEvent(relayed.capture());
+        DomainEvent event = (DomainEvent) relayed.getValue();
+        assertThat(event.remote()).isTrue();
+        assertThat(event.type()).isEqualTo(DomainEvent.Type.STATUS_CREATED);
+        assertThat(event.lat()).isEqualTo(37.5);
+        assertThat(event.lng()).isEqualTo(127.0);
+
+        StatusLogDto received = event.payloadAs(StatusLogDto.class);
+        assertThat(received.getId()).isEqualTo(10L);
+        assertThat(received.getContent()).isEqualTo("줄 10명");
+        assertThat(received.getRequestId()).isEqualTo(3L);
+        assertThat(received.getCreatedAt()).isEqualTo(dto.getCreatedAt());
+    }
+
+    @Test
+    void manyEventsAreSplitIntoBatches() {
+        int total = DomainEventBus.MAX_BATCH_SIZE + 44;
+        for (int i = 0; i < total; i++) {
+            int amount = i;
+            nodeA.publishAfterCommit(DomainEvent.Type.POINT_CHANGED, null, null,
+                    () -> new DomainEvent.PointChange(1L, amount, 1000 + amount, "ANSWER_SELECTED"));
+        }
+
+        assertThat(nodeA.flush()).isEqualTo(total);
+        assertThat(publishCount.get()).isEqualTo(2);
+
+        ArgumentCaptor<Object> relayed = ArgumentCaptor.forClass(Object.class);
+        verify(publisherB, times(total)).publishEvent(relayed.capture());
+        List<Object> events = relayed.getAllValues();
+        DomainEvent last = (DomainEvent) events.get(total - 1);
+        assertThat(last.remote()).isTrue();
+        assertThat(last.payloadAs(DomainEvent.PointChange.class))
+                .isEqualTo(new DomainEvent.PointChange(1L, total - 1, 1000 + total - 1, "ANSWER_SELECTED"));
+    }
+
+    @Test
+    void largeBatchIsGzippedAndDecoded() throws Exception {
+        List<DomainEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            events.add(new DomainEvent(DomainEvent.Type.PLACE_DELETED, 37.5, 127.0, id, false));
+        }
+
+        byte[] body = nodeA.encode(events);
+        assertThat(body[0]).isEqualTo((byte) 'Z');
+
+        DomainEventBus.WireBatch batch = nodeB.decode(body);
+        assertThat(batch.e()).hasSize(50);
+        assertThat(batch.e().get(49).t()).isEqualTo("PLACE_DELETED");
+    }
+}
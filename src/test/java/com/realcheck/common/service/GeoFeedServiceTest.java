@@ -0,0 +1,241 @@
+package com.realcheck.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEvent;
+
+/**
+ * GeoFeedService 전송 격리 / 부하 테스트 (가짜 WebSocket 세션 사용)
+ * - 전송이 막힌 세션이 있어도 다른 세션은 모든 변경분을 받음 (막힌 세션의 대기열만 차서 자기 메시지만 버림)
+ * - 전송이 SEND_TIME_LIMIT_MILLIS 이상 막힌 세션은 연결 종료
+ * - 최대 세션 수(10,000)까지 같은 타일을 구독해도 한 번의 변경이 모두에게 전달되고, 초과 세션은 거부
+ */
+class GeoFeedServiceTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+    private static final BoundingBox VIEWPORT = new BoundingBox(LAT - 0.01, LNG - 0.01, LAT + 0.01, LNG + 0.01, 14);
+
+    private GeoFeedService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GeoFeedService(new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void stalledSessionDropsOnlyItsOwnMessages() throws Exception {
+        int healthyCount = 50;
+        int waves = 10;
+        int eventsPerWave = GeoFeedService.MAX_PENDING_MESSAGES / 2;
+        int events = waves * eventsPerWave;
+
+        CountDownLatch release = new CountDownLatch(1);
+        FakeSession stalled = new FakeSession("stalled", release);
+        register(stalled);
+
+        List<FakeSession> healthy = new ArrayList<>();
+        for (int i = 0; i < healthyCount; i++) {
+            FakeSession session = new FakeSession("healthy-" + i, null);
+            healthy.add(session);
+            register(session);
+        }
+
+        try {
+            long stalledAt = 0;
+            // 막힌 세션이 첫 전송에 들어간 뒤 나머지 변경분을 대기열 상한보다 작은 묶음으로 발행
+            // → 정상 세션은 묶음마다 모두 받고, 막힌 세션의 대기열만 계속 쌓여 넘침
+            for (int wave = 0; wave < waves; wave++) {
+                CountDownLatch delivered = new CountDownLatch(healthyCount * eventsPerWave);
+                healthy.forEach(session -> session.delivered = delivered);
+                for (int i = 0; i < eventsPerWave; i++) {
+                    publish(wave * eventsPerWave + i);
+                    if (wave == 0 && i == 0) {
+                        assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+                        stalledAt = System.currentTimeMillis();
+                        Thread.sleep(5);
+                    }
+                }
+                assertThat(delivered.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            healthy.forEach(session -> assertThat(session.received.get()).isEqualTo(events));
+
+            // 막힌 세션은 첫 전송에서 멈춰 있고, 대기열 상한을 넘는 메시지만 버려짐
+            assertThat(stalled.received.get()).isZero();
+            assertThat(service.droppedMessages()).isEqualTo(events - 1 - GeoFeedService.MAX_PENDING_MESSAGES);
+
+            // 막힌 전송 시작 후 제한 시간 경과 → 막힌 세션만 종료 (정상 세션의 전송은 모두 그 이후에 시작)
+            service.closeStalledSessions(stalledAt + GeoFeedService.SEND_TIME_LIMIT_MILLIS);
+            assertThat(stalled.closed.get()).isTrue();
+            assertThat(service.sessionCount()).isEqualTo(healthyCount);
+            healthy.forEach(session -> assertThat(session.closed.get()).isFalse());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void fansOutToMaxSessionsAndRejectsOverflow() throws Exception {
+        CountDownLatch delivered = new CountDownLatch(GeoFeedService.MAX_SESSIONS);
+        for (int i = 0; i < GeoFeedService.MAX_SESSIONS; i++) {
+            FakeSession session = new FakeSession("s-" + i, null);
+            session.delivered = delivered;
+            register(session);
+        }
+        assertThat(service.register(new FakeSession("overflow", null))).isFalse();
+
+        long started = System.nanoTime();
+        publish(1);
+        assertThat(delivered.await(10, TimeUnit.SECONDS)).isTrue();
+        System.out.printf("[GeoFeed] %d sessions, fan-out %.1fms%n",
+                GeoFeedService.MAX_SESSIONS, (System.nanoTime() - started) / 1e6);
+        assertThat(service.droppedMessages()).isZero();
+    }
+
+    private void register(FakeSession session) {
+        assertThat(service.register(session)).isTrue();
+        service.subscribe(session.getId(), VIEWPORT);
+    }
+
+    private void publish(int id) {
+        service.onDomainEvent(new DomainEvent(DomainEvent.Type.STATUS_CREATED, LAT, LNG, Map.of("id", id), false));
+    }
+
+    /**
+     * 가짜 세션 - release가 있으면 첫 전송에서 release될 때까지 막힘 (응답 없는 클라이언트)
+     */
+    private static final class FakeSession implements WebSocketSession {
+        private final String id;
+        private final CountDownLatch release;
+        private final AtomicInteger received = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile CountDownLatch delivered;
+
+        private FakeSession(String id, CountDownLatch release) {
+            this.id = id;
+            this.release = release;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            if (release != null) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            received.incrementAndGet();
+            if (delivered != null)
+                delivered.countDown();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed.get();
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closed.set(true);
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return Map.of();
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+    }
+}
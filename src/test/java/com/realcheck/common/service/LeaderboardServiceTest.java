@@ -0,0 +1,111 @@
+package com.realcheck.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.common.service.LeaderboardService.Board;
+import com.realcheck.common.service.LeaderboardService.Ranked;
+import com.realcheck.user.entity.User;
+import com.realcheck.user.repository.UserRepository;
+
+class LeaderboardServiceTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private UserRepository userRepository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        userRepository = mock(UserRepository.class);
+        leaderboardService = new LeaderboardService(redisTemplate, userRepository);
+    }
+
+    private static User user(long id, String nickname) {
+        User user = new User();
+        user.setId(id);
+        user.setNickname(nickname);
+        return user;
+    }
+
+    @Test
+    void topKeepsRedisOrderAndSkipsDeletedUsers() {
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+        tuples.add(TypedTuple.of("3", 30.0));
+        tuples.add(TypedTuple.of("9", 20.0)); // 이미 삭제된 사용자
+        tuples.add(TypedTuple.of("1", 10.0));
+        when(zSetOperations.reverseRangeWithScores("leaderboard:contributors", 0, 11)).thenReturn(tuples);
+        when(userRepository.findAllById(any())).thenReturn(List.of(user(1L, "one"), user(3L, "three")));
+
+        Optional<List<Ranked>> top = leaderboardService.top(Board.CONTRIBUTORS, 2);
+
+        assertThat(top).isPresent();
+        assertThat(top.get()).extracting(r -> r.user().getNickname()).containsExactly("three", "one");
+        assertThat(top.get()).extracting(Ranked::score).containsExactly(30L, 10L);
+    }
+
+    @Test
+    void missingBoardOrRedisFailureFallsBackToDatabase() {
+        when(zSetOperations.reverseRangeWithScores(eq("leaderboard:points"), anyLong(), anyLong()))
+                .thenReturn(Set.of());
+        assertThat(leaderboardService.top(Board.POINTS, 10)).isEmpty();
+
+        when(zSetOperations.reverseRangeWithScores(eq("leaderboard:reported"), anyLong(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(leaderboardService.top(Board.REPORTED, 10)).isEmpty();
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eventsIncrementOnlyOnOriginatingNode() {
+        leaderboardService.onDomainEvent(new DomainEvent(DomainEvent.Type.POINT_CHANGED, null, null,
+                new DomainEvent.PointChange(5L, 40, 140, "EARN"), false));
+        leaderboardService.onDomainEvent(new DomainEvent(DomainEvent.Type.POINT_CHANGED, null, null,
+                new DomainEvent.PointChange(5L, 40, 180, "EARN"), true));
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("leaderboard:points")), eq("40"), eq("5"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaceWritesChunksToTempKeyThenRenames() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= LeaderboardService.REBUILD_CHUNK_SIZE + 1; id++) {
+            rows.add(new Object[] { id, id * 2 });
+        }
+
+        assertThat(leaderboardService.replace(Board.REQUESTERS, rows)).isEqualTo(rows.size());
+
+        verify(zSetOperations, times(2)).add(eq("leaderboard:requesters:rebuild"), any(Set.class));
+        verify(redisTemplate).rename("leaderboard:requesters:rebuild", "leaderboard:requesters");
+        verify(redisTemplate, never()).delete("leaderboard:requesters");
+    }
+}
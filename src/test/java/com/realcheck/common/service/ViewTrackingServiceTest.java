@@ -0,0 +1,153 @@
+package com.realcheck.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.realcheck.common.service.ViewTrackingService.ViewKey;
+
+/**
+ * ViewTrackingService 부하 테스트 (인메모리 Redis 대역 사용)
+ * - 조회 1건당 Redis 왕복 횟수: 기존 hasKey + set 2회 → SET NX EX 1회
+ * - 동일 (사용자, 로그)에 대한 동시 조회 중 한 건만 통과
+ * - Redis 연결 실패 시 로컬 필터로 전환되어 예외 없이 중복만 걸러냄
+ * - 목록 화면 일괄 확인은 묶음 크기와 무관하게 파이프라인 왕복 1회, 결과는 입력 순서대로
+ */
+class ViewTrackingServiceTest {
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private ValueOperations<String, String> ops;
+    private RedisTemplate<String, String> redisTemplate;
+    private ViewTrackingService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(inv -> {
+            roundTrips.incrementAndGet();
+            return store.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null;
+        });
+        // 파이프라인 대역: 콜백 안의 명령은 응답 없이 쌓이고, 실행 1회 = 왕복 1회로 결과를 명령 순서대로 반환
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(inv -> {
+            roundTrips.incrementAndGet();
+            List<Object> results = new ArrayList<>();
+            RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+            ValueOperations<String, String> pipelineOps = mock(ValueOperations.class);
+            when(pipeline.opsForValue()).thenReturn(pipelineOps);
+            when(pipelineOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(cmd -> {
+                results.add(store.putIfAbsent(cmd.getArgument(0), cmd.getArgument(1)) == null);
+                return null;
+            });
+            SessionCallback<Object> callback = inv.getArgument(0);
+            callback.execute(pipeline);
+            return results;
+        });
+        service = new ViewTrackingService(redisTemplate, new LocalViewDedup());
+    }
+
+    @Test
+    void usesOneRoundTripPerView() {
+        int views = 1000;
+        for (long i = 0; i < views; i++) {
+            service.canIncreaseView(i, 1L);
+        }
+
+        // 기존 구현(hasKey + set)은 조회 1건당 2회
+        assertThat(roundTrips.get()).isEqualTo(views);
+    }
+
+    @Test
+    void onlyOneConcurrentViewPassesForSameUserAndLog() throws Exception {
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger passed = new AtomicInteger();
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (service.canIncreaseView(7L, 42L)) {
+                    passed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(passed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void checksBatchInOneRoundTripPreservingOrder() {
+        // 이미 본 로그(2, 4)를 사이사이에 두어 결과가 입력 순서와 맞는지 확인
+        service.canIncreaseView(7L, 2L);
+        service.canIncreaseView(7L, 4L);
+        roundTrips.set(0);
+
+        List<Boolean> results = service.canIncreaseViews(List.of(
+                new ViewKey(7L, 1L), new ViewKey(7L, 2L), new ViewKey(7L, 3L),
+                new ViewKey(7L, 4L), new ViewKey(7L, 5L), new ViewKey(7L, 1L)));
+
+        assertThat(results).containsExactly(true, false, true, false, true, false);
+        assertThat(roundTrips.get()).isEqualTo(1);
+
+        // 묶음 크기가 커져도 왕복 1회
+        List<ViewKey> page = new ArrayList<>();
+        for (long logId = 100; logId < 150; logId++) {
+            page.add(new ViewKey(8L, logId));
+        }
+        assertThat(service.canIncreaseViews(page)).hasSize(50).containsOnly(true);
+        assertThat(roundTrips.get()).isEqualTo(2);
+    }
+
+    @Test
+    void batchFallsBackToLocalDedupInInputOrder() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(service.canIncreaseViews(List.of(new ViewKey(7L, 1L), new ViewKey(7L, 2L))))
+                .containsExactly(true, true);
+        assertThat(service.canIncreaseViews(List.of(new ViewKey(7L, 3L), new ViewKey(7L, 2L), new ViewKey(7L, 1L))))
+                .containsExactly(true, false, false);
+        assertThat(service.isDegraded()).isTrue();
+    }
+
+    @Test
+    void fallsBackToLocalDedupWhenRedisIsDown() {
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .when(ops).setIfAbsent(anyString(), anyString(), any(Duration.class));
+
+        assertThat(service.canIncreaseView(7L, 42L)).isTrue();
+        assertThat(service.canIncreaseView(7L, 42L)).isFalse();
+        assertThat(service.canIncreaseView(8L, 42L)).isTrue();
+        assertThat(service.isDegraded()).isTrue();
+    }
+}
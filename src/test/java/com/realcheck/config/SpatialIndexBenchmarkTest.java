@@ -0,0 +1,157 @@
+package com.realcheck.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import com.realcheck.util.GeoUtil;
+
+/**
+ * geo_point 공간 인덱스 벤치마크 (MySQL 8 필요, 기본 빌드에서는 건너뜀)
+ *
+ * 실행: GEO_BENCH_JDBC_URL=jdbc:mysql://localhost:3306/bench GEO_BENCH_USER=... GEO_BENCH_PASSWORD=...
+ *       mvn test -Dtest=SpatialIndexBenchmarkTest
+ * - 임시 테이블(geo_bench)에 실제 컬럼 정의(GeoUtil.GEO_POINT_COLUMN_DEFINITION)로 100만 행 적재 (DDL 검증 포함)
+ * - 반경 쿼리의 EXPLAIN이 공간 인덱스 range 스캔인지 확인
+ * - 인덱스 사용(MBRContains + 거리) / 미사용(거리만, 전체 스캔) 소요 시간 비교 후 테이블 삭제
+ */
+@EnabledIfEnvironmentVariable(named = "GEO_BENCH_JDBC_URL", matches = "jdbc:mysql:.+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SpatialIndexBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int BATCH = 10_000;
+    private static final int RUNS = 20;
+    // 서울 시청 기준 반경 1km, 데이터는 한반도 전역(위도 33~39, 경도 124~132)에 분포
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+    private static final double RADIUS = 1_000;
+
+    private static final String INDEXED = """
+            SELECT COUNT(*) FROM geo_bench
+            WHERE MBRContains(ST_GeomFromText(?, 0), geo_point)
+              AND ST_Distance_Sphere(POINT(lng, lat), POINT(?, ?)) <= ?
+            """;
+    private static final String FULL_SCAN = """
+            SELECT COUNT(*) FROM geo_bench
+            WHERE ST_Distance_Sphere(POINT(lng, lat), POINT(?, ?)) <= ?
+            """;
+
+    private Connection connection;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        String url = System.getenv("GEO_BENCH_JDBC_URL");
+        String separator = url.contains("?") ? "&" : "?";
+        connection = DriverManager.getConnection(url + separator + "rewriteBatchedStatements=true",
+                System.getenv("GEO_BENCH_USER"), System.getenv("GEO_BENCH_PASSWORD"));
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS geo_bench");
+            st.execute("CREATE TABLE geo_bench (id BIGINT AUTO_INCREMENT PRIMARY KEY, lat DOUBLE, lng DOUBLE, "
+                    + "geo_point " + GeoUtil.GEO_POINT_COLUMN_DEFINITION + ")");
+        }
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO geo_bench (lat, lng) VALUES (?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setDouble(1, 33.0 + random.nextDouble() * 6.0);
+                insert.setDouble(2, 124.0 + random.nextDouble() * 8.0);
+                insert.addBatch();
+                if (i % BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("ALTER TABLE geo_bench ADD SPATIAL INDEX idx_geo_bench_geo_point (geo_point)");
+            st.execute("ANALYZE TABLE geo_bench");
+        }
+    }
+
+    @AfterAll
+    void drop() throws SQLException {
+        if (connection == null)
+            return;
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS geo_bench");
+        }
+        connection.close();
+    }
+
+    @Test
+    void radiusQueryUsesSpatialIndexAndBeatsFullScan() throws SQLException {
+        String envelope = GeoUtil.envelope(LAT, LNG, RADIUS);
+
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + INDEXED)) {
+            bindIndexed(explain, envelope);
+            try (ResultSet rs = explain.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                System.out.println("[GeoBench] EXPLAIN type=" + rs.getString("type") + ", key=" + rs.getString("key")
+                        + ", rows=" + rs.getLong("rows"));
+                assertThat(rs.getString("type")).isEqualTo("range");
+                assertThat(rs.getString("key")).isEqualTo("idx_geo_bench_geo_point");
+            }
+        }
+
+        long indexedCount;
+        long fullScanCount;
+        long indexedNanos = 0;
+        long fullScanNanos = 0;
+        try (PreparedStatement indexed = connection.prepareStatement(INDEXED);
+                PreparedStatement fullScan = connection.prepareStatement(FULL_SCAN)) {
+            bindIndexed(indexed, envelope);
+            fullScan.setDouble(1, LNG);
+            fullScan.setDouble(2, LAT);
+            fullScan.setDouble(3, RADIUS);
+
+            // 워밍업 + 결과 일치 확인
+            indexedCount = count(indexed);
+            fullScanCount = count(fullScan);
+            for (int i = 0; i < RUNS; i++) {
+                long started = System.nanoTime();
+                count(indexed);
+                indexedNanos += System.nanoTime() - started;
+
+                started = System.nanoTime();
+                count(fullScan);
+                fullScanNanos += System.nanoTime() - started;
+            }
+        }
+
+        System.out.printf("[GeoBench] rows=%d, matched=%d, indexed=%.2fms, fullScan=%.2fms (평균 %d회)%n",
+                ROWS, indexedCount, indexedNanos / 1e6 / RUNS, fullScanNanos / 1e6 / RUNS, RUNS);
+        assertThat(indexedCount).isEqualTo(fullScanCount);
+        assertThat(indexedNanos).isLessThan(fullScanNanos);
+    }
+
+    private static void bindIndexed(PreparedStatement ps, String envelope) throws SQLException {
+        ps.setString(1, envelope);
+        ps.setDouble(2, LNG);
+        ps.setDouble(3, LAT);
+        ps.setDouble(4, RADIUS);
+    }
+
+    private static long count(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
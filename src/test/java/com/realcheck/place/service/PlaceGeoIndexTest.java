@@ -0,0 +1,179 @@
+package com.realcheck.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realcheck.common.dto.BoundingBox;
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.place.dto.PlaceDto;
+import com.realcheck.place.repository.PlaceRepository;
+import com.realcheck.util.GeoUtil;
+
+class PlaceGeoIndexTest {
+
+    private PlaceGeoIndex index;
+    private List<PlaceDto> places;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceGeoIndex(mock(PlaceRepository.class), mock(DomainEventBus.class));
+        places = new ArrayList<>();
+
+        // 서울 시내 반경에 무작위 장소 2,000개 배치
+        Random random = new Random(42);
+        for (long id = 1; id <= 2000; id++) {
+            PlaceDto place = PlaceDto.builder()
+                    .id(id)
+                    .name("place-" + id)
+                    .lat(37.45 + random.nextDouble() * 0.2)
+                    .lng(126.85 + random.nextDouble() * 0.3)
+                    .build();
+            places.add(place);
+            index.put(place);
+        }
+    }
+
+    @Test
+    void findWithinMatchesFullScanDistanceFilter() {
+        Random random = new Random(7);
+        double[] radii = { 50, 500, 1500, 3000, PlaceGeoIndex.MAX_RADIUS_METERS };
+
+        for (int i = 0; i < 200; i++) {
+            double lat = 37.45 + random.nextDouble() * 0.2;
+            double lng = 126.85 + random.nextDouble() * 0.3;
+            double radius = radii[i % radii.length];
+
+            assertThat(ids(index.findWithin(lat, lng, radius)))
+                    .isEqualTo(ids(fullScan(lat, lng, radius)));
+        }
+    }
+
+    @Test
+    void findInBoxMatchesFullScanRangeFilter() {
+        Random random = new Random(11);
+
+        for (int i = 0; i < 200; i++) {
+            double minLat = 37.45 + random.nextDouble() * 0.15;
+            double minLng = 126.85 + random.nextDouble() * 0.25;
+            BoundingBox box = new BoundingBox(minLat, minLng,
+                    minLat + random.nextDouble() * 0.05, minLng + random.nextDouble() * 0.05, 15);
+
+            assertThat(ids(index.findInBox(box)))
+                    .isEqualTo(ids(places.stream().filter(p -> box.contains(p.getLat(), p.getLng())).toList()));
+        }
+    }
+
+    @Test
+    void movedPlaceIsFoundOnlyAtNewLocation() {
+        PlaceDto moved = PlaceDto.builder().id(1L).name("moved").lat(35.1796).lng(129.0756).build();
+        index.put(moved);
+
+        assertThat(ids(index.findWithin(35.1796, 129.0756, 10))).containsExactly(1L);
+        assertThat(ids(index.findWithin(places.get(0).getLat(), places.get(0).getLng(), 1)))
+                .doesNotContain(1L);
+        assertThat(index.size()).isEqualTo(2000);
+    }
+
+    @Test
+    void removedPlaceIsNotReturned() {
+        PlaceDto target = places.get(10);
+        index.remove(target.getId());
+
+        assertThat(ids(index.findWithin(target.getLat(), target.getLng(), 1)))
+                .doesNotContain(target.getId());
+        assertThat(index.size()).isEqualTo(1999);
+    }
+
+    @Test
+    void outOfRangeRadiusIsRejected() {
+        for (double radius : new double[] { 0, -1, PlaceGeoIndex.MAX_RADIUS_METERS + 1, 2e7, Double.NaN }) {
+            assertThatThrownBy(() -> index.findWithin(37.5, 127.0, radius))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void wideBoxScansOnlyOccupiedCells() {
+        BoundingBox world = new BoundingBox(-90.0, -180.0, 90.0, 180.0, 0);
+
+        assertThat(ids(index.findInBox(world))).hasSize(2000);
+    }
+
+    @Test
+    void returnedPlacesAreCopies() {
+        PlaceDto target = places.get(20);
+        PlaceDto found = index.find(target.getId());
+        found.setLat(0);
+        index.findWithin(target.getLat(), target.getLng(), 1).forEach(p -> p.setName("changed"));
+
+        assertThat(index.find(target.getId()).getLat()).isEqualTo(target.getLat());
+        assertThat(index.find(target.getId()).getName()).isEqualTo(target.getName());
+    }
+
+    @Test
+    void concurrentMovesLeavePlaceInExactlyOneCell() throws Exception {
+        int threads = 8;
+        int movesPerThread = 5_000;
+        long placeId = 1L;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            executor.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < movesPerThread; i++) {
+                    index.put(PlaceDto.builder()
+                            .id(placeId)
+                            .name("moving")
+                            .lat(37.45 + random.nextDouble() * 0.2)
+                            .lng(126.85 + random.nextDouble() * 0.3)
+                            .build());
+                    if (i % 100 == 0)
+                        index.remove(placeId);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // 마지막 상태(byId)와 셀 목록이 일치: 장소는 한 셀에만, 그 좌표로만 조회됨
+        BoundingBox world = new BoundingBox(-90.0, -180.0, 90.0, 180.0, 0);
+        List<PlaceDto> found = index.findInBox(world).stream().filter(p -> p.getId() == placeId).toList();
+        PlaceDto current = index.find(placeId);
+        if (current == null) {
+            assertThat(found).isEmpty();
+        } else {
+            assertThat(found).hasSize(1);
+            assertThat(found.get(0).getLat()).isEqualTo(current.getLat());
+            assertThat(found.get(0).getLng()).isEqualTo(current.getLng());
+        }
+    }
+
+    // DB 반경 조건(ST_Distance_Sphere)과 동일한 기준
+    private List<PlaceDto> fullScan(double lat, double lng, double radius) {
+        return places.stream()
+                .filter(p -> GeoUtil.distanceMeters(lat, lng, p.getLat(), p.getLng()) <= radius)
+                .toList();
+    }
+
+    private Set<Long> ids(List<PlaceDto> list) {
+        return list.stream().map(PlaceDto::getId).collect(Collectors.toSet());
+    }
+}
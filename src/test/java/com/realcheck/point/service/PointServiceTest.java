@@ -0,0 +1,175 @@
+package com.realcheck.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.point.dto.PointPosting;
+import com.realcheck.point.entity.Point;
+import com.realcheck.point.entity.PointType;
+import com.realcheck.point.repository.PointBatchRepository;
+import com.realcheck.point.repository.PointRepository;
+import com.realcheck.user.entity.User;
+import com.realcheck.user.repository.UserRepository;
+
+class PointServiceTest {
+
+    private PointRepository pointRepository;
+    private UserRepository userRepository;
+    private PointBatchRepository pointBatchRepository;
+    private PointService pointService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        pointRepository = mock(PointRepository.class);
+        userRepository = mock(UserRepository.class);
+        pointBatchRepository = mock(PointBatchRepository.class);
+        pointService = new PointService(pointRepository, userRepository, pointBatchRepository,
+                new RecentPointKeys(), mock(DomainEventBus.class));
+
+        user = new User();
+        user.setId(1L);
+        user.setPoints(100);
+    }
+
+    private static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    @Test
+    void balanceIsUpdatedAtomicallyWithoutSavingUser() {
+        when(userRepository.addPoints(1L, 30)).thenReturn(1);
+        when(userRepository.findPointsById(1L)).thenReturn(150); // 다른 트랜잭션의 적립 20 포함
+
+        pointService.givePoint(user, 30, "답변 채택", PointType.EARN);
+
+        assertThat(user.getPoints()).isEqualTo(150);
+        verify(pointRepository).save(any(Point.class));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void overdraftIsRejectedByConditionalUpdate() {
+        // 메모리 잔액(100)은 충분해 보여도 DB 잔액이 먼저 차감된 경우
+        when(userRepository.addPoints(1L, -80)).thenReturn(0);
+
+        assertThatThrownBy(() -> pointService.givePoint(user, -80, "포인트 환전 신청", PointType.CASH))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("포인트가 부족합니다.");
+        verify(pointRepository, never()).save(any(Point.class));
+    }
+
+    @Test
+    void batchIsRejectedAsAWholeWhenAnyUserWouldOverdraw() {
+        // 요청자 1명 차감 + 답변자 2명 지급 중 요청자 잔액 부족 → 갱신 2건
+        when(pointBatchRepository.addPoints(anyMap())).thenReturn(2);
+        List<PointPosting> postings = List.of(
+                new PointPosting(user, -100, "자동 마감으로 포인트 차감", PointType.DEDUCT),
+                new PointPosting(user(2L), 50, "자동 마감 포인트 분배", PointType.EARN),
+                new PointPosting(user(3L), 50, "자동 마감 포인트 분배", PointType.EARN));
+
+        assertThatThrownBy(() -> pointService.postBatch(postings))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("포인트가 부족합니다.");
+        verify(pointBatchRepository, never()).insertAll(any(), any());
+    }
+
+    /**
+     * 답변자 3명 x 요청 1만 건 자동 마감 (청크 100건 단위)의 DB 왕복 횟수 비교
+     * - 건별 givePoint: 포인트 건당 3회 (잔액 UPDATE, 잔액 SELECT, 내역 INSERT) → 12만 회
+     * - postBatch: 청크당 3회 → 300회
+     */
+    @Test
+    void batchPostingUsesFixedStatementsPerChunk() {
+        AtomicInteger statements = new AtomicInteger();
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(any(String.class), any(Object[].class))).thenAnswer(inv -> {
+            statements.incrementAndGet();
+            String sql = inv.getArgument(0);
+            // 잔액 UPDATE는 사용자 수만큼 갱신된 것으로 응답
+            return sql.startsWith("UPDATE") ? (inv.getArguments().length - 1) / 2 : 0;
+        });
+        doAnswer(inv -> {
+            statements.incrementAndGet();
+            return null;
+        }).when(jdbcTemplate).query(any(String.class), any(RowCallbackHandler.class), any(Object[].class));
+
+        PointService batchService = new PointService(pointRepository, userRepository,
+                new PointBatchRepository(jdbcTemplate), new RecentPointKeys(), mock(DomainEventBus.class));
+
+        int requests = 10_000;
+        int chunkSize = 100;
+        long userId = 1;
+        for (int chunk = 0; chunk < requests / chunkSize; chunk++) {
+            List<PointPosting> postings = new ArrayList<>();
+            for (int i = 0; i < chunkSize; i++) {
+                postings.add(new PointPosting(user(userId++), -30, "자동 마감으로 포인트 차감", PointType.DEDUCT));
+                for (int answerer = 0; answerer < 3; answerer++) {
+                    postings.add(new PointPosting(user(userId++), 10, "자동 마감 포인트 분배", PointType.EARN));
+                }
+            }
+            batchService.postBatch(postings);
+        }
+
+        int perCallStatements = requests * 4 * 3;
+        assertThat(statements.get()).isEqualTo(requests / chunkSize * 3);
+        assertThat(statements.get()).isLessThan(perCallStatements / 100);
+    }
+
+    @Test
+    void repeatedKeyIsSkippedFromMemoryWithoutDbLookup() {
+        when(userRepository.addPoints(1L, -10)).thenReturn(1);
+        String key = PointPosting.requestKey(7L, PointType.REFUND, 1L);
+
+        assertThat(pointService.givePoint(user, -10, "답변 없음 - 포인트 환불", PointType.REFUND, key)).isTrue();
+        // 재시도/재실행: 트랜잭션 밖 호출이라 즉시 최근 키로 등록됨
+        assertThat(pointService.givePoint(user, -10, "답변 없음 - 포인트 환불", PointType.REFUND, key)).isFalse();
+
+        verify(userRepository, times(1)).addPoints(anyLong(), anyInt());
+        verify(pointRepository, times(1)).existsByIdempotencyKey(key);
+        verify(pointRepository, times(1)).save(any(Point.class));
+    }
+
+    @Test
+    void batchSkipsPostingsWhoseKeysAreAlreadyStored() {
+        User answerer = user(2L);
+        String deductKey = PointPosting.requestKey(7L, PointType.DEDUCT, 1L);
+        String earnKey = PointPosting.answerKey(7L, PointType.EARN, 30L);
+        // 다른 서버가 차감만 먼저 반영한 상태
+        when(pointBatchRepository.findExistingKeys(any())).thenReturn(Set.of(deductKey));
+        when(pointBatchRepository.addPoints(anyMap())).thenReturn(1);
+
+        pointService.postBatch(List.of(
+                new PointPosting(user, -50, "자동 마감으로 포인트 차감", PointType.DEDUCT, deductKey),
+                new PointPosting(answerer, 50, "자동 마감 포인트 분배", PointType.EARN, earnKey)));
+
+        verify(pointBatchRepository).addPoints(Map.of(2L, 50));
+        verify(pointBatchRepository).insertAll(argThat(
+                postings -> postings.size() == 1 && postings.get(0).idempotencyKey().equals(earnKey)), any());
+    }
+}
@@ -0,0 +1,67 @@
+package com.realcheck.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realcheck.request.repository.RequestRepository;
+
+class RequestExpiryWheelTest {
+
+    private AutoCloseRequestService autoCloseRequestService;
+    private RequestExpiryWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        autoCloseRequestService = mock(AutoCloseRequestService.class);
+        when(autoCloseRequestService.closeIfExpired(anyLong()))
+                .thenReturn(Optional.empty());
+        wheel = new RequestExpiryWheel(autoCloseRequestService, mock(RequestRepository.class));
+    }
+
+    @Test
+    void firesOnlyDeadlinesThatHavePassed() {
+        wheel.schedule(1L, LocalDateTime.now().minusSeconds(1));
+        wheel.schedule(2L, LocalDateTime.now().plusHours(3));
+
+        wheel.tick();
+
+        verify(autoCloseRequestService, times(1)).closeIfExpired(1L);
+        verify(autoCloseRequestService, never()).closeIfExpired(2L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void earlierDeadlineWinsAndFiresOnce() {
+        wheel.schedule(1L, LocalDateTime.now().plusHours(1));
+        wheel.schedule(1L, LocalDateTime.now().minusSeconds(5));
+        wheel.schedule(1L, LocalDateTime.now().plusHours(2)); // 더 늦은 시각은 무시
+
+        wheel.tick();
+        wheel.tick();
+
+        verify(autoCloseRequestService, times(1)).closeIfExpired(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void reschedulesWhenDeadlineMovedLater() {
+        LocalDateTime next = LocalDateTime.now().plusMinutes(30);
+        when(autoCloseRequestService.closeIfExpired(1L)).thenReturn(Optional.of(next));
+        wheel.schedule(1L, LocalDateTime.now().minusSeconds(1));
+
+        wheel.tick();
+
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.realcheck.status.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realcheck.common.event.DomainEvent;
+import com.realcheck.status.dto.StatusLogDto;
+import com.realcheck.status.repository.StatusLogRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * RecentStatusLogWindow 실제 버퍼 테스트 (조회 API 호출 방식 그대로 cutoff 계산)
+ */
+class RecentStatusLogWindowTest {
+
+    private StatusLogRepository statusLogRepository;
+    private RecentStatusLogWindow window;
+
+    @BeforeEach
+    void setUp() {
+        statusLogRepository = mock(StatusLogRepository.class);
+        when(statusLogRepository.findRecentWithAssociations(any(LocalDateTime.class))).thenReturn(List.of());
+        window = new RecentStatusLogWindow(statusLogRepository, mock(EntityManager.class));
+    }
+
+    @Test
+    void notCoveredBeforeLoad() {
+        assertThat(window.covers(LocalDateTime.now().minusHours(3))).isFalse();
+    }
+
+    @Test
+    void callerCutoffIsCoveredAfterLoad() {
+        window.load();
+
+        int covered = 0;
+        int attempts = 10_000;
+        for (int i = 0; i < attempts; i++) {
+            // StatusLogService와 동일: 호출 직전에 cutoff 계산
+            LocalDateTime cutoff = LocalDateTime.now().minusHours(3);
+            if (window.covers(cutoff))
+                covered++;
+        }
+        // 5분 버킷 경계를 넘는 순간에만 한 번 DB로 대체될 수 있음
+        assertThat(covered).isGreaterThanOrEqualTo(attempts - 1);
+    }
+
+    @Test
+    void cutoffOlderThanLoadIsNotCovered() {
+        window.load();
+
+        assertThat(window.covers(LocalDateTime.now().minusHours(3).minusMinutes(1))).isFalse();
+        assertThat(window.covers(LocalDateTime.now().minusHours(4))).isFalse();
+    }
+
+    @Test
+    void coveredQueryReturnsLogsFromBuffer() {
+        window.load();
+        StatusLogDto recent = StatusLogDto.builder()
+                .id(1L).content("줄 5명").lat(37.5).lng(127.0).placeId(10L)
+                .createdAt(LocalDateTime.now().minusMinutes(30))
+                .build();
+        window.onRemoteEvent(new DomainEvent(DomainEvent.Type.STATUS_CREATED, 37.5, 127.0, recent, true));
+
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(3);
+        assertThat(window.findNearby(37.5, 127.0, 100, cutoff, dto -> true))
+                .extracting(StatusLogDto::getId).containsExactly(1L);
+        assertThat(window.findByPlace(10L, cutoff)).extracting(StatusLogDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    void readsReturnCopiesAndRequestCloseSwapsEntries() {
+        window.load();
+        StatusLogDto answer = StatusLogDto.builder()
+                .id(2L).content("자리 있음").lat(37.5).lng(127.0).placeId(10L).requestId(7L)
+                .imageUrls(new ArrayList<>(List.of("a.jpg")))
+                .createdAt(LocalDateTime.now().minusMinutes(10))
+                .build();
+        window.onRemoteEvent(new DomainEvent(DomainEvent.Type.STATUS_CREATED, 37.5, 127.0, answer, true));
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(3);
+
+        // 호출 측이 결과/원본을 수정해도 버퍼에는 영향 없음
+        StatusLogDto read = window.findByPlace(10L, cutoff).get(0);
+        read.setContent("변경됨");
+        read.getImageUrls().add("b.jpg");
+        answer.setContent("원본 변경");
+        StatusLogDto reread = window.findByPlace(10L, cutoff).get(0);
+        assertThat(reread.getContent()).isEqualTo("자리 있음");
+        assertThat(reread.getImageUrls()).containsExactly("a.jpg");
+
+        // 마감 반영은 이미 반환된 객체를 바꾸지 않고 새 DTO로 교체
+        window.markRequestClosedAfterCommit(7L);
+        assertThat(reread.isRequestClosed()).isFalse();
+        assertThat(window.findNearby(37.5, 127.0, 100, cutoff, dto -> true))
+                .extracting(StatusLogDto::isRequestClosed).containsExactly(true);
+    }
+}
@@ -0,0 +1,127 @@
+package com.realcheck.status.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.realcheck.common.event.DomainEventBus;
+import com.realcheck.common.service.TileCache;
+import com.realcheck.common.service.ViewTrackingService;
+import com.realcheck.place.repository.PlaceRepository;
+import com.realcheck.place.service.PlaceGeoIndex;
+import com.realcheck.point.service.PointService;
+import com.realcheck.request.repository.RequestRepository;
+import com.realcheck.scheduler.RequestExpiryWheel;
+import com.realcheck.status.dto.PlaceLogGroupDto;
+import com.realcheck.status.dto.PlaceLogRow;
+import com.realcheck.status.dto.StatusLogDto;
+import com.realcheck.status.entity.StatusType;
+import com.realcheck.status.repository.StatusLogRepository;
+import com.realcheck.user.repository.UserRepository;
+
+/**
+ * StatusLogService.findNearbyGroupedPlaceLogs DB 경로 테스트 (최근 로그 버퍼 미준비 상태)
+ * - 평면 프로젝션(PlaceLogRow) 1회 + 이미지 URL IN 쿼리 1회로 장소별 그룹 구성
+ * - 장소별 REGISTER는 최신 1개, ANSWER는 전부, 이미지 URL은 해당 로그에만 연결
+ * - 로그 수(1건, 500건)와 무관하게 저장소 호출은 2회
+ */
+class StatusLogServiceGroupingTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private StatusLogRepository statusLogRepository;
+    private StatusLogService service;
+
+    @BeforeEach
+    void setUp() {
+        statusLogRepository = mock(StatusLogRepository.class);
+        service = new StatusLogService(statusLogRepository, mock(UserRepository.class), mock(PlaceRepository.class),
+                mock(PointService.class), mock(RequestRepository.class), mock(ViewTrackingService.class),
+                mock(RecentStatusLogWindow.class), mock(PlaceGeoIndex.class), mock(RequestExpiryWheel.class),
+                mock(ViewCountBuffer.class), mock(TileCache.class), mock(AnswerStreamService.class),
+                mock(DomainEventBus.class));
+    }
+
+    @Test
+    void groupsLatestRegisterAndAllAnswersWithTheirImages() {
+        when(statusLogRepository.findNearbyPlaceLogRows(anyString(), anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(
+                        row(1L, StatusType.REGISTER, 10L, NOW.minusMinutes(60)),
+                        row(2L, StatusType.REGISTER, 10L, NOW.minusMinutes(10)),
+                        row(3L, StatusType.ANSWER, 10L, NOW.minusMinutes(30)),
+                        row(4L, StatusType.ANSWER, 10L, NOW.minusMinutes(20)),
+                        row(5L, StatusType.ANSWER, 20L, NOW.minusMinutes(5))));
+        when(statusLogRepository.findImageUrlsByStatusLogIds(anyList())).thenReturn(List.of(
+                new Object[] { 2L, "register.jpg" },
+                new Object[] { 3L, "answer-1.jpg" },
+                new Object[] { 3L, "answer-2.jpg" }));
+
+        List<PlaceLogGroupDto> groups = service.findNearbyGroupedPlaceLogs(LAT, LNG, 1_000);
+
+        assertThat(groups).extracting(PlaceLogGroupDto::getPlaceId).containsExactly(10L, 20L);
+
+        PlaceLogGroupDto first = groups.get(0);
+        assertThat(first.getAddress()).isEqualTo("주소 10");
+        assertThat(first.getLatestRegister().getId()).isEqualTo(2L);
+        assertThat(first.getLatestRegister().getImageUrls()).containsExactly("register.jpg");
+        assertThat(first.getAnswerLogs()).extracting(StatusLogDto::getId).containsExactly(3L, 4L);
+        assertThat(first.getAnswerLogs().get(0).getImageUrls()).containsExactly("answer-1.jpg", "answer-2.jpg");
+        assertThat(first.getAnswerLogs().get(1).getImageUrls()).isEmpty();
+
+        PlaceLogGroupDto second = groups.get(1);
+        assertThat(second.getLatestRegister()).isNull();
+        assertThat(second.getAnswerLogs()).extracting(StatusLogDto::getId).containsExactly(5L);
+        assertThat(second.getAnswerLogs().get(0).getImageUrls()).isEmpty();
+
+        verify(statusLogRepository).findImageUrlsByStatusLogIds(List.of(1L, 2L, 3L, 4L, 5L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 500 })
+    void usesTwoRepositoryCallsRegardlessOfLogCount(int logCount) {
+        List<PlaceLogRow> rows = new ArrayList<>();
+        List<Object[]> images = new ArrayList<>();
+        for (long id = 1; id <= logCount; id++) {
+            rows.add(row(id, id % 10 == 0 ? StatusType.REGISTER : StatusType.ANSWER, id % 50, NOW.minusSeconds(id)));
+            images.add(new Object[] { id, "image-" + id + ".jpg" });
+        }
+        when(statusLogRepository.findNearbyPlaceLogRows(anyString(), anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(rows);
+        when(statusLogRepository.findImageUrlsByStatusLogIds(anyList())).thenReturn(images);
+
+        List<PlaceLogGroupDto> groups = service.findNearbyGroupedPlaceLogs(LAT, LNG, 1_000);
+
+        assertThat(groups).hasSize(Math.min(logCount, 50));
+        assertThat(groups).allSatisfy(group -> group.getAnswerLogs()
+                .forEach(log -> assertThat(log.getImageUrls()).containsExactly("image-" + log.getId() + ".jpg")));
+        verify(statusLogRepository, times(1))
+                .findNearbyPlaceLogRows(anyString(), anyDouble(), anyDouble(), anyDouble(), any());
+        verify(statusLogRepository, times(1)).findImageUrlsByStatusLogIds(anyList());
+        verifyNoMoreInteractions(statusLogRepository);
+    }
+
+    private static PlaceLogRow row(Long id, StatusType type, Long placeId, LocalDateTime createdAt) {
+        return new PlaceLogRow(id, 0, "내용 " + id, type, false, false, 0, 0, false, LAT, LNG, createdAt, createdAt,
+                null, 100L + id, "작성자 " + id, placeId, "장소 " + placeId, "주소 " + placeId,
+                null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
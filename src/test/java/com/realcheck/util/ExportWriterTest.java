@@ -0,0 +1,58 @@
+package com.realcheck.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class ExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    record Row(Long id, String reason, LocalDateTime createdAt) {
+    }
+
+    @Test
+    void csvHasHeaderQuotingAndEmptyNulls() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = ExportWriter.write(Stream.of(
+                new Row(1L, "욕설, \"도배\"", LocalDateTime.of(2025, 5, 1, 12, 0)),
+                new Row(2L, null, null),
+                new Row(3L, "=HYPERLINK(\"x\")", null)), Row.class, ExportWriter.Format.CSV, out, objectMapper);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "id,reason,createdAt\r\n"
+                + "1,\"욕설, \"\"도배\"\"\",2025-05-01T12:00\r\n"
+                + "2,,\r\n"
+                + "3,\"'=HYPERLINK(\"\"x\"\")\",\r\n");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = ExportWriter.write(IntStream.rangeClosed(1, ExportWriter.FLUSH_EVERY + 1)
+                .mapToObj(i -> new Row((long) i, "r" + i, null)), Row.class, ExportWriter.Format.NDJSON, out, objectMapper);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(ExportWriter.FLUSH_EVERY + 1);
+        assertThat(lines).hasSize(ExportWriter.FLUSH_EVERY + 1);
+        assertThat(lines[0]).isEqualTo("{\"id\":1,\"reason\":\"r1\",\"createdAt\":null}");
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThat(ExportWriter.Format.from("NDJSON")).isEqualTo(ExportWriter.Format.NDJSON);
+        assertThatThrownBy(() -> ExportWriter.Format.from("xlsx")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
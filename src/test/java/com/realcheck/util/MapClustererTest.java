@@ -0,0 +1,67 @@
+package com.realcheck.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.realcheck.common.dto.MapClusterDto;
+
+class MapClustererTest {
+
+    // 0.1도 x 0.1도 화면
+    private static final double SPAN = 0.1;
+
+    @Test
+    void clusterCountStaysBoundedRegardlessOfDensity() {
+        int zoom = 12;
+        long maxCells = (long) Math.ceil(SPAN / MapClusterer.cellDegrees(zoom) + 1)
+                * (long) Math.ceil(SPAN / MapClusterer.cellDegrees(zoom) + 1);
+
+        for (int n : new int[] { 1_000, 10_000, 100_000 }) {
+            List<double[]> points = randomPoints(n);
+            List<MapClusterDto<double[]>> clusters = MapClusterer.cluster(points, p -> p[0], p -> p[1], zoom);
+
+            assertThat((long) clusters.size()).isLessThanOrEqualTo(maxCells);
+            assertThat(clusters.stream().mapToInt(MapClusterDto::getCount).sum()).isEqualTo(n);
+        }
+    }
+
+    @Test
+    void singleItemCellKeepsItemAndMultiItemCellDropsIt() {
+        double[] lonely = { 37.50, 127.00 };
+        double[] a = { 37.60, 127.10 };
+        double[] b = { 37.6001, 127.1001 };
+
+        List<MapClusterDto<double[]>> clusters = MapClusterer.cluster(List.of(lonely, a, b), p -> p[0], p -> p[1], 12);
+
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters.get(0).getItem()).isSameAs(lonely);
+        assertThat(clusters.get(1).getCount()).isEqualTo(2);
+        assertThat(clusters.get(1).getItem()).isNull();
+        assertThat(clusters.get(1).getLat()).isBetween(37.60, 37.6001);
+    }
+
+    @Test
+    void expandsToIndividualMarkersAtHighZoom() {
+        List<double[]> points = randomPoints(500);
+
+        List<MapClusterDto<double[]>> clusters = MapClusterer.cluster(points, p -> p[0], p -> p[1],
+                MapClusterer.EXPAND_ZOOM);
+
+        assertThat(clusters).hasSize(500);
+        assertThat(clusters).allMatch(c -> c.getCount() == 1 && c.getItem() != null);
+    }
+
+    private List<double[]> randomPoints(int n) {
+        Random random = new Random(n);
+        List<double[]> points = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            points.add(new double[] { 37.5 + random.nextDouble() * SPAN, 127.0 + random.nextDouble() * SPAN });
+        }
+        return points;
+    }
+}